@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The generated model shared by the benchmarks, along with its serialized form.
+ *
+ * @author Obeo
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractModelBenchmark {
+
+    /**
+     * The metamodel of the nodes.
+     */
+    public static final String NODES = "nodes"; //$NON-NLS-1$
+
+    /**
+     * The metamodel of Ecore.
+     */
+    public static final String ECORE = "ecore"; //$NON-NLS-1$
+
+    /**
+     * The metamodel of the generated model.
+     */
+    @Param({ NODES, ECORE })
+    public String metamodel;
+
+    /**
+     * The number of objects of the generated model.
+     */
+    @Param({ "1000", "10000" })
+    public int size;
+
+    /**
+     * The maximum number of levels of the containment tree of the generated model.
+     */
+    @Param({ "5" })
+    public int depth;
+
+    /**
+     * The ratio of the objects holding attributes.
+     */
+    @Param({ "0.5" })
+    public double attributeRatio;
+
+    /**
+     * The number of cross-references held by the objects holding references.
+     */
+    @Param({ "3" })
+    public int referenceDensity;
+
+    /**
+     * The package of the nodes or <code>null</code> for the Ecore models.
+     */
+    protected EPackage nodesPackage;
+
+    /**
+     * The resource containing the generated model.
+     */
+    protected JsonResourceImpl resource;
+
+    /**
+     * The serialized model.
+     */
+    protected byte[] bytes;
+
+    /**
+     * Generates the model and serializes it.
+     *
+     * @throws IOException
+     *             if the model cannot be serialized
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ModelGenerator generator = new ModelGenerator(this.size, this.depth, this.attributeRatio, this.referenceDensity);
+        EObject root = null;
+        if (NODES.equals(this.metamodel)) {
+            this.nodesPackage = ModelGenerator.loadNodesPackage();
+            root = generator.createNodes(this.nodesPackage);
+        } else {
+            root = generator.createEcore();
+        }
+
+        this.resource = this.createResource();
+        this.resource.getContents().add(root);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.resource.save(outputStream, new HashMap<>());
+        this.bytes = outputStream.toByteArray();
+    }
+
+    /**
+     * Creates an empty resource in a new resource set knowing the metamodel of the generated model.
+     *
+     * @return The resource
+     */
+    protected JsonResourceImpl createResource() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        if (this.nodesPackage != null) {
+            resourceSet.getPackageRegistry().put(this.nodesPackage.getNsURI(), this.nodesPackage);
+        }
+        JsonResourceImpl jsonResource = new JsonResourceImpl(URI.createURI("model.json"), new HashMap<>()); //$NON-NLS-1$
+        resourceSet.getResources().add(jsonResource);
+        return jsonResource;
+    }
+
+    /**
+     * Loads the serialized model in a new resource.
+     *
+     * @param options
+     *            the load options
+     * @return The loaded resource
+     * @throws IOException
+     *             if the model cannot be loaded
+     */
+    protected JsonResourceImpl load(Map<?, ?> options) throws IOException {
+        JsonResourceImpl loadedResource = this.createResource();
+        loadedResource.load(new ByteArrayInputStream(this.bytes), options);
+        return loadedResource;
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the allocation profiler and writes the results in a Json file, so that the results of two
+ * commits can be compared. The arguments are the ones of the JMH command line, which can be used for example to select
+ * the benchmarks or to override their parameters.
+ *
+ * @author Obeo
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The default file in which the results are written.
+     */
+    private static final String RESULT_FILE = "jmh-result.json"; //$NON-NLS-1$
+
+    /**
+     * The constructor.
+     */
+    private BenchmarkRunner() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args
+     *            the JMH command line arguments
+     * @throws CommandLineOptionException
+     *             if the arguments are invalid
+     * @throws RunnerException
+     *             if the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.result(RESULT_FILE);
+        }
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(BenchmarkRunner.class.getPackageName() + ".*"); //$NON-NLS-1$
+        }
+        new Runner(optionsBuilder.build()).run();
+    }
+}
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the end-to-end save and load of a {@link JsonResourceImpl} in a file, with and without
+ * {@link JsonResource#OPTION_COMPRESSION}, to compare the time spent compressing the document with the time saved
+ * writing and reading fewer bytes. The bytes of the files are counted by {@link FileCounters} to compare their sizes.
+ *
+ * @author Obeo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark extends AbstractModelBenchmark {
+
+    /**
+     * Indicates if the resource is compressed.
+     */
+    @Param({ "false", "true" })
+    public boolean compression;
+
+    /**
+     * Indicates if the resource is saved in the binary format.
+     */
+    @Param({ "false", "true" })
+    public boolean binary;
+
+    /**
+     * The file loaded by the benchmark.
+     */
+    private Path loadedFile;
+
+    /**
+     * The file saved by the benchmark.
+     */
+    private Path savedFile;
+
+    /**
+     * Saves the generated model in the file loaded by the benchmark.
+     *
+     * @throws IOException
+     *             if the file cannot be saved
+     */
+    @Setup
+    public void setUpFiles() throws IOException {
+        this.loadedFile = Files.createTempFile("emfjson-compression", ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+        this.savedFile = Files.createTempFile("emfjson-compression", ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(this.loadedFile))) {
+            this.resource.save(outputStream, this.getOptions());
+        }
+    }
+
+    /**
+     * Deletes the files used by the benchmark.
+     *
+     * @throws IOException
+     *             if a file cannot be deleted
+     */
+    @TearDown
+    public void tearDownFiles() throws IOException {
+        Files.deleteIfExists(this.loadedFile);
+        Files.deleteIfExists(this.savedFile);
+    }
+
+    /**
+     * Loads the model from the file.
+     *
+     * @param counters
+     *            the counters of the loaded files
+     * @return The loaded resource
+     * @throws IOException
+     *             if the model cannot be loaded
+     */
+    @Benchmark
+    public JsonResourceImpl load(FileCounters counters) throws IOException {
+        JsonResourceImpl loadedResource = this.createResource();
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(this.loadedFile))) {
+            loadedResource.load(inputStream, this.getOptions());
+        }
+        counters.count(this.loadedFile);
+        return loadedResource;
+    }
+
+    /**
+     * Saves the generated model in the file.
+     *
+     * @param counters
+     *            the counters of the saved files
+     * @return The saved resource
+     * @throws IOException
+     *             if the model cannot be saved
+     */
+    @Benchmark
+    public JsonResourceImpl save(FileCounters counters) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(this.savedFile))) {
+            this.resource.save(outputStream, this.getOptions());
+        }
+        counters.count(this.savedFile);
+        return this.resource;
+    }
+
+    /**
+     * Returns the options of the save and of the load.
+     *
+     * @return The options
+     */
+    private Map<Object, Object> getOptions() {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.valueOf(this.compression));
+        options.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.valueOf(this.binary));
+        return options;
+    }
+
+    /**
+     * The files loaded or saved by a thread, reported by JMH next to the time of the operations. Since JMH sums these
+     * counters over the iterations, the size of a file is the number of bytes divided by the number of files.
+     *
+     * @author Obeo
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileCounters {
+
+        /**
+         * The number of files loaded or saved during the iteration.
+         */
+        public long files;
+
+        /**
+         * The number of bytes of the files loaded or saved during the iteration.
+         */
+        public long bytes;
+
+        /**
+         * Resets the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.files = 0;
+            this.bytes = 0;
+        }
+
+        /**
+         * Counts the given file, which has been loaded or saved.
+         *
+         * @param file
+         *            the file
+         * @throws IOException
+         *             if the size of the file cannot be read
+         */
+        void count(Path file) throws IOException {
+            this.files++;
+            this.bytes += Files.size(file);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import com.google.gson.JsonElement;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversions of a resource with {@link JsonResourceImpl#toJson(org.eclipse.sirius.emfjson.resource.JsonResource, java.util.Map)}
+ * and {@link JsonResourceImpl#toJsonTree(org.eclipse.sirius.emfjson.resource.JsonResource, java.util.Map)}.
+ *
+ * @author Obeo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonConversionBenchmark extends AbstractModelBenchmark {
+
+    /**
+     * Converts the generated model into a string.
+     *
+     * @return The Json representation of the model
+     */
+    @Benchmark
+    public String toJson() {
+        return JsonResourceImpl.toJson(this.resource, new HashMap<>());
+    }
+
+    /**
+     * Converts the generated model into a tree of Json elements.
+     *
+     * @return The Json tree representation of the model
+     */
+    @Benchmark
+    public JsonElement toJsonTree() {
+        return JsonResourceImpl.toJsonTree(this.resource, new HashMap<>());
+    }
+}
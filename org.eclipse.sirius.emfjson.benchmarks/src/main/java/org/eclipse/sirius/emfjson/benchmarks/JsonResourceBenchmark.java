@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the load and the save of a {@link JsonResourceImpl}, with the tree and the streaming implementations.
+ *
+ * @author Obeo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonResourceBenchmark extends AbstractModelBenchmark {
+
+    /**
+     * Indicates if the streaming load and save are used.
+     */
+    @Param({ "false", "true" })
+    public boolean streaming;
+
+    /**
+     * Loads the serialized model.
+     *
+     * @return The loaded resource
+     * @throws IOException
+     *             if the model cannot be loaded
+     */
+    @Benchmark
+    public JsonResourceImpl load() throws IOException {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.valueOf(this.streaming));
+        return this.load(options);
+    }
+
+    /**
+     * Saves the generated model.
+     *
+     * @return The serialized model
+     * @throws IOException
+     *             if the model cannot be saved
+     */
+    @Benchmark
+    public byte[] save() throws IOException {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_STREAMING_SAVE, Boolean.valueOf(this.streaming));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(this.bytes.length);
+        this.resource.save(outputStream, options);
+        return outputStream.toByteArray();
+    }
+}
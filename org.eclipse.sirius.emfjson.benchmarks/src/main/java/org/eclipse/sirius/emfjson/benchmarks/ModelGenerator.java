@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+/**
+ * Generates synthetic models of a given size, depth, attribute mix and cross-reference density. The models are
+ * generated with a fixed seed so that the same parameters always produce the same model, which keeps the results of
+ * the benchmarks comparable from one commit to another.
+ *
+ * @author Obeo
+ */
+public final class ModelGenerator {
+
+    /**
+     * The path of the metamodel of the nodes in the classpath.
+     */
+    public static final String NODES_ECORE = "/nodes.ecore"; //$NON-NLS-1$
+
+    /**
+     * The seed of the generation.
+     */
+    private static final long SEED = 20260101L;
+
+    /**
+     * The number of values of the multi-valued attributes.
+     */
+    private static final int MULTI_VALUED_ATTRIBUTE_SIZE = 4;
+
+    /**
+     * The generator of the values.
+     */
+    private final Random random = new Random(SEED);
+
+    /**
+     * The number of objects to generate.
+     */
+    private final int size;
+
+    /**
+     * The maximum number of levels of the containment tree.
+     */
+    private final int depth;
+
+    /**
+     * The ratio, between 0 and 1, of the objects holding attributes.
+     */
+    private final double attributeRatio;
+
+    /**
+     * The number of cross-references held by the objects holding references.
+     */
+    private final int referenceDensity;
+
+    /**
+     * The constructor.
+     *
+     * @param size
+     *            the number of objects to generate
+     * @param depth
+     *            the maximum number of levels of the containment tree, at least 2
+     * @param attributeRatio
+     *            the ratio, between 0 and 1, of the objects holding attributes, the other ones holding cross-references
+     * @param referenceDensity
+     *            the number of cross-references held by the objects holding references
+     */
+    public ModelGenerator(int size, int depth, double attributeRatio, int referenceDensity) {
+        this.size = Math.max(1, size);
+        this.depth = Math.max(2, depth);
+        this.attributeRatio = attributeRatio;
+        this.referenceDensity = referenceDensity;
+    }
+
+    /**
+     * Loads the metamodel of the nodes from the classpath.
+     *
+     * @return The package of the nodes
+     * @throws IOException
+     *             if the metamodel cannot be read
+     */
+    public static EPackage loadNodesPackage() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new XMIResourceFactoryImpl()); //$NON-NLS-1$
+        Resource resource = resourceSet.createResource(URI.createURI(NODES_ECORE));
+        try (InputStream inputStream = ModelGenerator.class.getResourceAsStream(NODES_ECORE)) {
+            resource.load(inputStream, null);
+        }
+        return (EPackage) resource.getContents().get(0);
+    }
+
+    /**
+     * Generates a model conforming to the metamodel of the nodes. The objects holding attributes alternate between
+     * single-valued and multi-valued attributes of various types, the other ones reference random objects of the
+     * model, which may be serialized before or after them.
+     *
+     * @param nodesPackage
+     *            the package of the nodes
+     * @return The root of the model
+     */
+    public EObject createNodes(EPackage nodesPackage) {
+        EClass containerClass = (EClass) nodesPackage.getEClassifier("NodeMultipleContainment"); //$NON-NLS-1$
+        EClass singleAttributeClass = (EClass) nodesPackage.getEClassifier("NodeSingleValueAttribute"); //$NON-NLS-1$
+        EClass multiAttributeClass = (EClass) nodesPackage.getEClassifier("NodeMultiValuedAttribute"); //$NON-NLS-1$
+        EClass referenceClass = (EClass) nodesPackage.getEClassifier("NodeMultiValuedReference"); //$NON-NLS-1$
+        EStructuralFeature nameFeature = containerClass.getEStructuralFeature("name"); //$NON-NLS-1$
+        EStructuralFeature containmentFeature = containerClass.getEStructuralFeature("containmentRef1"); //$NON-NLS-1$
+        EStructuralFeature referenceFeature = referenceClass.getEStructuralFeature("multiValuedReference"); //$NON-NLS-1$
+
+        List<EObject> eObjects = new ArrayList<>(this.size);
+        List<EObject> referencingEObjects = new ArrayList<>();
+        List<EObject> containers = new ArrayList<>();
+        List<Integer> containerDepths = new ArrayList<>();
+
+        EObject root = nodesPackage.getEFactoryInstance().create(containerClass);
+        root.eSet(nameFeature, "node0"); //$NON-NLS-1$
+        eObjects.add(root);
+        containers.add(root);
+        containerDepths.add(0);
+
+        for (int i = 1; i < this.size; i++) {
+            EClass eClass = null;
+            if (this.random.nextDouble() < this.attributeRatio) {
+                if (i % 2 == 0) {
+                    eClass = singleAttributeClass;
+                } else {
+                    eClass = multiAttributeClass;
+                }
+            } else {
+                eClass = referenceClass;
+            }
+            EObject eObject = nodesPackage.getEFactoryInstance().create(eClass);
+            eObject.eSet(nameFeature, "node" + i); //$NON-NLS-1$
+            this.setAttributes(eObject);
+
+            int parentIndex = this.random.nextInt(containers.size());
+            EObject parent = containers.get(parentIndex);
+            this.getList(parent, containmentFeature).add(eObject);
+
+            int eObjectDepth = containerDepths.get(parentIndex) + 1;
+            if (eObjectDepth < this.depth - 1) {
+                containers.add(eObject);
+                containerDepths.add(eObjectDepth);
+            }
+            eObjects.add(eObject);
+            if (eClass == referenceClass) {
+                referencingEObjects.add(eObject);
+            }
+        }
+
+        for (EObject eObject : referencingEObjects) {
+            List<Object> references = this.getList(eObject, referenceFeature);
+            for (int i = 0; i < this.referenceDensity; i++) {
+                references.add(eObjects.get(this.random.nextInt(eObjects.size())));
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Generates an Ecore model whose packages contain classes with attributes, references and super types.
+     *
+     * @return The root package of the model
+     */
+    public EPackage createEcore() {
+        EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+        EcorePackage ecorePackage = EcorePackage.eINSTANCE;
+        EClassifier[] attributeTypes = { ecorePackage.getEString(), ecorePackage.getEInt(), ecorePackage.getEBoolean(), ecorePackage.getEDouble() };
+
+        EPackage root = ecoreFactory.createEPackage();
+        root.setName("generated"); //$NON-NLS-1$
+        root.setNsPrefix("generated"); //$NON-NLS-1$
+        root.setNsURI("http://www.obeo.fr/EMFJson/generated"); //$NON-NLS-1$
+
+        List<EPackage> ePackages = new ArrayList<>();
+        ePackages.add(root);
+        EPackage parent = root;
+        for (int i = 1; i < this.depth; i++) {
+            EPackage ePackage = ecoreFactory.createEPackage();
+            ePackage.setName("package" + i); //$NON-NLS-1$
+            ePackage.setNsPrefix("package" + i); //$NON-NLS-1$
+            ePackage.setNsURI(root.getNsURI() + "/package" + i); //$NON-NLS-1$
+            parent.getESubpackages().add(ePackage);
+            ePackages.add(ePackage);
+            parent = ePackage;
+        }
+
+        int featureCount = 4;
+        List<EClass> eClasses = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            EClass eClass = ecoreFactory.createEClass();
+            eClass.setName("Class" + i); //$NON-NLS-1$
+            ePackages.get(this.random.nextInt(ePackages.size())).getEClassifiers().add(eClass);
+            for (int j = 0; j < featureCount; j++) {
+                if (this.random.nextDouble() < this.attributeRatio) {
+                    EAttribute eAttribute = ecoreFactory.createEAttribute();
+                    eAttribute.setName("attribute" + j); //$NON-NLS-1$
+                    eAttribute.setEType(attributeTypes[this.random.nextInt(attributeTypes.length)]);
+                    eClass.getEStructuralFeatures().add(eAttribute);
+                }
+            }
+            eClasses.add(eClass);
+        }
+
+        for (EClass eClass : eClasses) {
+            for (int i = 0; i < this.referenceDensity; i++) {
+                EReference eReference = ecoreFactory.createEReference();
+                eReference.setName("reference" + i); //$NON-NLS-1$
+                eReference.setEType(eClasses.get(this.random.nextInt(eClasses.size())));
+                eReference.setUpperBound(this.random.nextBoolean() ? 1 : -1);
+                eClass.getEStructuralFeatures().add(eReference);
+            }
+            EClass superType = eClasses.get(this.random.nextInt(eClasses.size()));
+            if (superType != eClass && !superType.isSuperTypeOf(eClass) && !eClass.isSuperTypeOf(superType)) {
+                eClass.getESuperTypes().add(superType);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Sets the values of the attributes of the given object.
+     *
+     * @param eObject
+     *            the object
+     */
+    private void setAttributes(EObject eObject) {
+        EClass eClass = eObject.eClass();
+        if ("NodeSingleValueAttribute".equals(eClass.getName())) { //$NON-NLS-1$
+            eObject.eSet(eClass.getEStructuralFeature("singleStringAttribute"), "value" + this.random.nextInt()); //$NON-NLS-1$ //$NON-NLS-2$
+            eObject.eSet(eClass.getEStructuralFeature("singleIntAttribute"), this.random.nextInt()); //$NON-NLS-1$
+            eObject.eSet(eClass.getEStructuralFeature("singleLongAttribute"), this.random.nextLong()); //$NON-NLS-1$
+            eObject.eSet(eClass.getEStructuralFeature("singleDoubleAttribute"), this.random.nextDouble()); //$NON-NLS-1$
+            eObject.eSet(eClass.getEStructuralFeature("singleBooleanAttribute"), this.random.nextBoolean()); //$NON-NLS-1$
+            eObject.eSet(eClass.getEStructuralFeature("singleDateAttribute"), new Date(this.random.nextInt() & Integer.MAX_VALUE)); //$NON-NLS-1$
+        } else if ("NodeMultiValuedAttribute".equals(eClass.getName())) { //$NON-NLS-1$
+            List<Object> strings = this.getList(eObject, eClass.getEStructuralFeature("multiStringAttribute")); //$NON-NLS-1$
+            List<Object> integers = this.getList(eObject, eClass.getEStructuralFeature("multiIntAttribute")); //$NON-NLS-1$
+            List<Object> doubles = this.getList(eObject, eClass.getEStructuralFeature("multiDoubleAttribute")); //$NON-NLS-1$
+            for (int i = 0; i < MULTI_VALUED_ATTRIBUTE_SIZE; i++) {
+                strings.add("value" + this.random.nextInt()); //$NON-NLS-1$
+                integers.add(this.random.nextInt());
+                doubles.add(this.random.nextDouble());
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the given many-valued feature of the given object.
+     *
+     * @param eObject
+     *            the object
+     * @param eStructuralFeature
+     *            the many-valued feature
+     * @return The values of the feature
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> getList(EObject eObject, EStructuralFeature eStructuralFeature) {
+        return (List<Object>) eObject.eGet(eStructuralFeature);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.emfjson.utils.JsonMetrics;
 
 /**
  * The Json resource.
@@ -104,7 +105,8 @@ public interface JsonResource extends Resource {
         boolean shouldSave(EObject eObject, EStructuralFeature eStructuralFeature);
 
         /**
-         * Determine if the structural feature should be loaded.
+         * Determine if the structural feature should be loaded. The values of the structural features which should not
+         * be loaded, including whole containment trees, are skipped without being deserialized.
          *
          * @param eObject
          *            the EObject
@@ -618,6 +620,165 @@ public interface JsonResource extends Resource {
         }
     }
 
+    /**
+     * An option to load the resource while reading the tokens of the document instead of parsing the whole document in
+     * a tree of {@link JsonElement} first. Its value is a {@link Boolean} and the default value is <code>false</code>.
+     * When an {@link IEObjectHandler} or an {@link IJsonResourceProcessor} is used, the document is still parsed in a
+     * tree since they receive the {@link JsonObject} of the objects. The content is also parsed in a tree when it is
+     * before the namespaces, or before the schema locations while a package of the namespaces is not registered.
+     */
+    String OPTION_STREAMING_LOAD = "OPTION_STREAMING_LOAD"; //$NON-NLS-1$
+
+    /**
+     * An option to save the resource by writing the objects directly in the output instead of building a tree of
+     * {@link JsonElement} for the whole resource first. Its value is a {@link Boolean} and the default value is
+     * <code>false</code>. The output is the same as the one of the regular save. When an {@link IEObjectHandler} is
+     * used, the resource is still serialized in a tree since it receives the {@link JsonElement} of the objects.
+     * Otherwise, the {@link ISerializationListener} receives {@link com.google.gson.JsonNull#INSTANCE} instead of the
+     * serialization of the objects which are not Ecore elements.
+     */
+    String OPTION_STREAMING_SAVE = "OPTION_STREAMING_SAVE"; //$NON-NLS-1$
+
+    /**
+     * An option to provide a {@link Map} in which the serialization plans of the EClasses are kept from one save to
+     * another, for example a {@link java.util.concurrent.ConcurrentHashMap}. A serialization plan contains the
+     * structural features of an EClass in the order in which they are serialized, which depends on the
+     * {@link #OPTION_SAVE_FEATURES_ORDER_COMPARATOR}, {@link #OPTION_SAVE_TRANSIENT_FEATURES},
+     * {@link #OPTION_SAVE_DERIVED_FEATURES}, {@link #OPTION_EXTENDED_META_DATA} and {@link #OPTION_CUSTOM_HELPER}
+     * options, so the plans are kept by
+     * {@link org.eclipse.sirius.emfjson.utils.EClassSerializationPlan.Key}, containing the values of these options,
+     * and the map can be shared by saves using different options. By default, the serialization plans are only kept
+     * during one save.
+     */
+    String OPTION_SERIALIZATION_PLAN_CACHE = "OPTION_SERIALIZATION_PLAN_CACHE"; //$NON-NLS-1$
+
+    /**
+     * An option to provide the {@link Gson} used to serialize and deserialize the values of the {@link EDataType}
+     * matched by {@link #OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE}. It can be built with a
+     * {@link com.google.gson.GsonBuilder} to register the {@link com.google.gson.TypeAdapter} of these data types and,
+     * since a {@link Gson} keeps the adapters of the types it has already handled, it should be shared by the
+     * resources. By default, a {@link Gson} with the default configuration, shared by all the resources, is used.
+     */
+    String OPTION_EDATATYPE_GSON = "OPTION_EDATATYPE_GSON"; //$NON-NLS-1$
+
+    /**
+     * An option to provide a {@link org.eclipse.sirius.emfjson.utils.JsonMetamodelCache} keeping what is computed from
+     * the metamodels during the loads and the saves, such as the structural features matching the keys of the data,
+     * the resolved types and packages or the serialization plans of the EClasses. It can be shared by several
+     * resources, even when they are loaded or saved concurrently, as long as they use the same
+     * {@link #OPTION_EXTENDED_META_DATA}, the same {@link #OPTION_CUSTOM_HELPER} and the same packages. By default,
+     * this information is only kept during one load or one save.
+     */
+    String OPTION_METAMODEL_CACHE = "OPTION_METAMODEL_CACHE"; //$NON-NLS-1$
+
+    /**
+     * An option to provide the object on which the load synchronizes when it reads or modifies the package registry or
+     * the resources of the resource set, so that several resources of the same resource set can be loaded
+     * concurrently, as done by {@link org.eclipse.sirius.emfjson.utils.ParallelResourceLoader}. With this option, the
+     * objects of the resources which are not completely loaded are referenced by proxies. Since whether another
+     * resource is completely loaded depends on the timing, the {@link PackageNotFoundError} of the references to the
+     * other resources of the resource set are only added by {@link org.eclipse.sirius.emfjson.utils.ParallelResourceLoader},
+     * once all the resources are loaded. By default, the load does not synchronize with the other loads.
+     */
+    String OPTION_RESOURCE_SET_LOCK = "OPTION_RESOURCE_SET_LOCK"; //$NON-NLS-1$
+
+    /**
+     * An option to save and load the resource in a compact binary encoding instead of JSON text. Its value is a
+     * {@link Boolean} and the default value is <code>false</code>. The binary document has the same structure as the
+     * JSON one and is written and read by the same serialization and deserialization, with the same handlers and
+     * processors, so a resource can be loaded from one format and saved in the other. The repeated strings, such as
+     * the names of the properties, the qualified names of the EClasses and the ids, are only written once and the
+     * numbers are written in binary, see {@link org.eclipse.sirius.emfjson.utils.BinaryJsonWriter}. The
+     * {@link #OPTION_ENCODING} and {@link #OPTION_PRETTY_PRINTING_INDENT} are ignored.
+     */
+    String OPTION_BINARY_FORMAT = "OPTION_BINARY_FORMAT"; //$NON-NLS-1$
+
+    /**
+     * An option to compress the saved resource in the zlib format, which reduces a lot the size of the documents
+     * repeating the same names on every object at the cost of the time spent compressing them. Its value is a
+     * {@link Boolean} and the default value is <code>false</code>. The load does not need this option, since it detects
+     * the resources compressed in the zlib or the gzip format from their first bytes, see
+     * {@link org.eclipse.sirius.emfjson.utils.CompressionStreams}.
+     */
+    String OPTION_COMPRESSION = "OPTION_COMPRESSION"; //$NON-NLS-1$
+
+    /**
+     * An option to load the resources read from a local file by mapping this file in memory instead of reading it from
+     * its stream. Its value is a {@link Boolean} and the default value is <code>false</code>. The file is mapped when the
+     * stream given to the load, such as the one created by the {@link org.eclipse.emf.ecore.resource.URIConverter} for
+     * a <code>file:</code> URI, is a {@link java.io.FileInputStream}, so the URI handlers and the options of the
+     * converter are used as usual. The characters are then decoded straight from the mapped bytes, which avoids copying
+     * large documents in several buffers. The other streams, and the files larger than 2 GB, are still read as they
+     * are. The mapping is released at the end of the load, see
+     * {@link org.eclipse.sirius.emfjson.utils.ByteBufferInputStream#map(java.nio.channels.FileChannel)}.
+     */
+    String OPTION_MEMORY_MAPPED_LOAD = "OPTION_MEMORY_MAPPED_LOAD"; //$NON-NLS-1$
+
+    /**
+     * An option to serialize the root objects of the saved resource concurrently. Its value is the
+     * {@link java.util.concurrent.ForkJoinPool} running the serialization, or {@link Boolean#TRUE} to use the common
+     * pool, and the default value is <code>null</code>. The roots are split in parts serialized with their own
+     * {@link org.eclipse.sirius.emfjson.utils.JsonHelper}, which are merged in order so that the document is the same
+     * as the one of the sequential serialization. The resources with a single root, and the saves with a custom
+     * helper, an URI handler, a resource entity handler, an {@link IDManager}, an {@link IEObjectHandler} or the
+     * extended meta data, are serialized sequentially. Since resolving a proxy may load a resource in the resource set,
+     * the resources containing or referencing proxies are serialized sequentially too, so the proxies should be
+     * resolved before the save, for example with
+     * {@link org.eclipse.emf.ecore.util.EcoreUtil#resolveAll(org.eclipse.emf.ecore.resource.Resource)}, to benefit
+     * from this option.
+     */
+    String OPTION_PARALLEL_SERIALIZATION = "OPTION_PARALLEL_SERIALIZATION"; //$NON-NLS-1$
+
+    /**
+     * An option to deserialize the top-level objects of the content of the loaded resource concurrently. Its value is
+     * the {@link java.util.concurrent.ForkJoinPool} running the deserialization, or {@link Boolean#TRUE} to use the
+     * common pool, and the default value is <code>null</code>. The document is read in memory and scanned to find the
+     * range of each top-level object, see {@link org.eclipse.sirius.emfjson.utils.JsonStructureScanner}. With
+     * {@link #OPTION_MEMORY_MAPPED_LOAD}, the bytes of a document encoded in UTF-8 are scanned in the mapped file
+     * instead. The ranges are split in parts deserialized into objects detached from the resource, which are then
+     * attached in the order of the document before the references between them are resolved. The documents with a
+     * single top-level object, in the binary format or with a syntax which cannot be scanned, and the loads with a
+     * custom helper, an URI handler, a resource entity handler, an {@link EStructuralFeaturesFilter}, which does not
+     * have to be thread safe, an {@link IEObjectHandler}, an {@link IJsonResourceProcessor} or the extended meta data,
+     * are deserialized sequentially like with {@link #OPTION_STREAMING_LOAD}.
+     */
+    String OPTION_PARALLEL_DESERIALIZATION = "OPTION_PARALLEL_DESERIALIZATION"; //$NON-NLS-1$
+
+    /**
+     * An option to provide an {@link IMetricsListener} receiving the time spent in each phase of the loads and saves of
+     * the resource and the number of objects, references, proxies and bytes processed. The metrics are only computed
+     * when this option is set.
+     */
+    String OPTION_METRICS_LISTENER = "OPTION_METRICS_LISTENER"; //$NON-NLS-1$
+
+    /**
+     * Receives the metrics of the loads and saves of a resource, see {@link #OPTION_METRICS_LISTENER}.
+     *
+     * @author Obeo
+     */
+    interface IMetricsListener {
+
+        /**
+         * Called when the resource has been loaded.
+         *
+         * @param resource
+         *            The resource loaded
+         * @param metrics
+         *            The metrics of the load
+         */
+        void onLoaded(JsonResource resource, JsonMetrics metrics);
+
+        /**
+         * Called when the resource has been saved.
+         *
+         * @param resource
+         *            The resource saved
+         * @param metrics
+         *            The metrics of the save
+         */
+        void onSaved(JsonResource resource, JsonMetrics metrics);
+    }
+
     /**
      * Associate an ID to the {@link EObject}.
      *
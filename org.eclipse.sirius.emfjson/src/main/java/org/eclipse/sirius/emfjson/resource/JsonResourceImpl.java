@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,25 +21,39 @@ import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.sirius.emfjson.utils.BinaryJsonReader;
+import org.eclipse.sirius.emfjson.utils.BinaryJsonWriter;
+import org.eclipse.sirius.emfjson.utils.ByteBufferInputStream;
+import org.eclipse.sirius.emfjson.utils.CompressionStreams;
 import org.eclipse.sirius.emfjson.utils.GsonEObjectDeserializer;
 import org.eclipse.sirius.emfjson.utils.GsonEObjectSerializer;
+import org.eclipse.sirius.emfjson.utils.JsonMetrics;
+import org.eclipse.sirius.emfjson.utils.JsonResourceEvents;
+import org.eclipse.sirius.emfjson.utils.RootObjectIndex;
+import org.eclipse.sirius.emfjson.utils.StringBuilderWriter;
+import org.eclipse.sirius.emfjson.utils.Utf8Writer;
 
 /**
  * An implementation of {@link org.eclipse.emf.ecore.resource.Resource} that reads and writes a json.
@@ -66,6 +80,11 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
 
     private boolean useIDAsURIFragment;
 
+    /**
+     * The index of the root objects in the contents.
+     */
+    private final RootObjectIndex rootObjectIndex = new RootObjectIndex();
+
     /**
      * The constructor. <br/>
      * If an instance of {@link IDManager} is found in the resourceOptions, the usage of Id is possible. The ID is
@@ -130,45 +149,17 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
             // do nothing
         };
 
-        String json = ""; //$NON-NLS-1$
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        OutputStreamWriter outputStreamWriter = null;
-        JsonWriter jsonWriter = null;
-        try {
-            outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream, JsonResource.ENCODING_UTF_8);
-
-            jsonWriter = new JsonWriter(outputStreamWriter);
-            jsonWriter.setIndent(JsonResource.INDENT_2_SPACES);
+        StringBuilder json = new StringBuilder();
+        JsonWriter jsonWriter = new JsonWriter(new StringBuilderWriter(json));
+        jsonWriter.setIndent(JsonResource.INDENT_2_SPACES);
 
-            GsonEObjectSerializer serializer = new GsonEObjectSerializer(resource, loadOptions);
-            GsonBuilder builder = new GsonBuilder();
-            Gson gson = builder.registerTypeAdapter(typeToken.getType(), serializer).disableHtmlEscaping().create();
-
-            gson.toJson(resource.getContents(), typeToken.getType(), jsonWriter);
-
-            try {
-                outputStreamWriter.flush();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-            json = new String(byteArrayOutputStream.toByteArray(), JsonResource.ENCODING_UTF_8);
+        GsonEObjectSerializer serializer = new GsonEObjectSerializer(resource, loadOptions);
+        GsonBuilder builder = new GsonBuilder();
+        Gson gson = builder.registerTypeAdapter(typeToken.getType(), serializer).disableHtmlEscaping().create();
 
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-        } finally {
-            if (jsonWriter != null) {
-                try {
-                    jsonWriter.close();
-                    if (outputStreamWriter != null) {
-                        outputStreamWriter.close();
-                    }
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+        gson.toJson(resource.getContents(), typeToken.getType(), jsonWriter);
 
-        return json;
+        return json.toString();
     }
 
     @Override
@@ -186,6 +177,21 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.eclipse.emf.ecore.resource.impl.ResourceImpl#getURIFragmentRootSegment(org.eclipse.emf.ecore.EObject)
+     */
+    @Override
+    protected String getURIFragmentRootSegment(EObject eObject) {
+        List<EObject> contents = this.getContents();
+        String segment = ""; //$NON-NLS-1$
+        if (contents.size() > 1) {
+            segment = Integer.toString(this.rootObjectIndex.indexOf(contents, eObject));
+        }
+        return segment;
+    }
+
     /**
      * Serializes a collection of EObject into its json representation.
      *
@@ -208,45 +214,17 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
             // do nothing
         };
 
-        String json = ""; //$NON-NLS-1$
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        OutputStreamWriter outputStreamWriter = null;
-        JsonWriter jsonWriter = null;
-        try {
-            outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream, JsonResource.ENCODING_UTF_8);
-
-            jsonWriter = new JsonWriter(outputStreamWriter);
-            jsonWriter.setIndent(JsonResource.INDENT_2_SPACES);
+        StringBuilder json = new StringBuilder();
+        JsonWriter jsonWriter = new JsonWriter(new StringBuilderWriter(json));
+        jsonWriter.setIndent(JsonResource.INDENT_2_SPACES);
 
-            GsonEObjectSerializer serializer = new GsonEObjectSerializer(null, loadOptions);
-            GsonBuilder builder = new GsonBuilder();
-            Gson gson = builder.registerTypeAdapter(typeToken.getType(), serializer).disableHtmlEscaping().create();
-
-            gson.toJson(eObjects, typeToken.getType(), jsonWriter);
-
-            try {
-                outputStreamWriter.flush();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-            json = new String(byteArrayOutputStream.toByteArray(), JsonResource.ENCODING_UTF_8);
+        GsonEObjectSerializer serializer = new GsonEObjectSerializer(null, loadOptions);
+        GsonBuilder builder = new GsonBuilder();
+        Gson gson = builder.registerTypeAdapter(typeToken.getType(), serializer).disableHtmlEscaping().create();
 
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-        } finally {
-            if (jsonWriter != null) {
-                try {
-                    jsonWriter.close();
-                    if (outputStreamWriter != null) {
-                        outputStreamWriter.close();
-                    }
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+        gson.toJson(eObjects, typeToken.getType(), jsonWriter);
 
-        return json;
+        return json.toString();
     }
 
     /**
@@ -281,12 +259,21 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * With {@link JsonResource#OPTION_MEMORY_MAPPED_LOAD}, a stream reading a local file is replaced by this file mapped
+     * in memory, whose mapping is released at the end of the load.
+     * </p>
      *
      * @see org.eclipse.emf.ecore.resource.impl.ResourceImpl#doLoad(java.io.InputStream, java.util.Map)
      */
     @Override
     protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
         // super.doLoad(inputStream, options);
+        JsonResourceEvents.LoadEvent loadEvent = null;
+        if (JsonResourceEvents.isAvailable()) {
+            loadEvent = new JsonResourceEvents.LoadEvent();
+            loadEvent.begin();
+        }
         Map<Object, Object> loadOptions = new HashMap<>();
         loadOptions.putAll(this.resourceOptions);
         if (options != null) {
@@ -308,26 +295,87 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
             // nothing
         };
 
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(this, loadOptions);
         GsonBuilder gsonBuilder = new GsonBuilder();
-        gsonBuilder.registerTypeAdapter(List.class, new GsonEObjectDeserializer(this, loadOptions));
+        gsonBuilder.registerTypeAdapter(List.class, deserializer);
         Gson gson = gsonBuilder.disableHtmlEscaping().create();
 
         // Check if reader care of indent.
         JsonReader reader = null;
+        ByteBufferInputStream mappedInputStream = null;
+        InputStream decompressedInputStream = null;
+        JsonMetrics metrics = deserializer.getMetrics();
 
         try {
-            reader = new JsonReader(new InputStreamReader(inputStream, encoding.toString()));
+            InputStream sourceInputStream = inputStream;
+            if (Boolean.TRUE.equals(loadOptions.get(JsonResource.OPTION_MEMORY_MAPPED_LOAD)) && inputStream instanceof FileInputStream fileInputStream) {
+                mappedInputStream = ByteBufferInputStream.map(fileInputStream.getChannel());
+                if (mappedInputStream != null) {
+                    sourceInputStream = mappedInputStream;
+                }
+            }
+            decompressedInputStream = CompressionStreams.decompress(metrics.count(sourceInputStream));
+            Reader characterReader = null;
+            if (Boolean.TRUE.equals(loadOptions.get(JsonResource.OPTION_BINARY_FORMAT))) {
+                reader = new BinaryJsonReader(decompressedInputStream);
+            } else {
+                if (decompressedInputStream instanceof ByteBufferInputStream byteBufferInputStream) {
+                    characterReader = byteBufferInputStream.createReader(Charset.forName(encoding.toString()));
+                } else {
+                    characterReader = new InputStreamReader(decompressedInputStream, encoding.toString());
+                }
+                reader = new JsonReader(characterReader);
+            }
 
-            gson.fromJson(reader, typeToken.getType());
+            JsonResourceEvents.ParseEvent parseEvent = null;
+            if (JsonResourceEvents.isAvailable()) {
+                parseEvent = new JsonResourceEvents.ParseEvent();
+                parseEvent.begin();
+            }
+            metrics.start(JsonMetrics.Phase.PARSING);
+            try {
+                Object parallelDeserialization = loadOptions.get(JsonResource.OPTION_PARALLEL_DESERIALIZATION);
+                boolean isParallel = characterReader != null && (parallelDeserialization instanceof ForkJoinPool || Boolean.TRUE.equals(parallelDeserialization));
+                if (isParallel && decompressedInputStream instanceof ByteBufferInputStream byteBufferInputStream
+                        && StandardCharsets.UTF_8.equals(Charset.forName(encoding.toString()))) {
+                    // The bytes, for example of a mapped file, are scanned without being copied in a buffer first
+                    deserializer.deserializeConcurrently(byteBufferInputStream.getRemainingBytes());
+                } else if (isParallel) {
+                    deserializer.deserializeConcurrently(characterReader, decompressedInputStream.available());
+                } else if (Boolean.TRUE.equals(loadOptions.get(JsonResource.OPTION_STREAMING_LOAD))) {
+                    deserializer.deserialize(reader);
+                } else {
+                    gson.fromJson(reader, typeToken.getType());
+                }
+            } finally {
+                metrics.stop(JsonMetrics.Phase.PARSING);
+            }
+            if (parseEvent != null) {
+                parseEvent.commit(this, metrics);
+            }
 
             if (handler != null) {
                 handler.postLoad(this, inputStream, loadOptions);
             }
+            if (loadOptions.get(JsonResource.OPTION_METRICS_LISTENER) instanceof JsonResource.IMetricsListener listener) {
+                listener.onLoaded(this, metrics);
+            }
+            if (loadEvent != null) {
+                loadEvent.commit(this, metrics);
+            }
         } catch (JsonIOException | JsonSyntaxException e) {
             e.printStackTrace();
         }  finally {
             if (reader != null) {
                 reader.close();
+            } else if (decompressedInputStream != null) {
+                // The reader has not been created, closing the stream gives back its inflater to the pool
+                decompressedInputStream.close();
+            }
+            if (mappedInputStream != null) {
+                // Closing the stream again does nothing, unless the reader has not been created, in which case it
+                // releases the mapping of the file
+                mappedInputStream.close();
             }
         }
 
@@ -340,6 +388,12 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
      */
     @Override
     protected void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
+        JsonResourceEvents.SaveEvent saveEvent = null;
+        if (JsonResourceEvents.isAvailable()) {
+            saveEvent = new JsonResourceEvents.SaveEvent();
+            saveEvent.begin();
+        }
+
         Map<Object, Object> saveOptions = new HashMap<>();
         saveOptions.putAll(this.resourceOptions);
         if (options != null) {
@@ -372,21 +426,62 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
         gsonBuilder.registerTypeAdapter(typeToken.getType(), objectSerializer);
         Gson gson = gsonBuilder.disableHtmlEscaping().create();
 
-        OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, encoding.toString());
-        JsonWriter writer = new JsonWriter(outputStreamWriter);
-        if (prettyPrintingIndent instanceof String) {
-            writer.setIndent((String) prettyPrintingIndent);
+        JsonMetrics metrics = objectSerializer.getMetrics();
+        OutputStream compressedOutputStream = metrics.count(outputStream);
+        if (Boolean.TRUE.equals(saveOptions.get(JsonResource.OPTION_COMPRESSION))) {
+            compressedOutputStream = CompressionStreams.compress(compressedOutputStream);
         }
-        EList<EObject> resourceContents = this.getContents();
+        JsonWriter writer = null;
+        metrics.start(JsonMetrics.Phase.WRITING);
+        try {
+            if (Boolean.TRUE.equals(saveOptions.get(JsonResource.OPTION_BINARY_FORMAT))) {
+                writer = new BinaryJsonWriter(compressedOutputStream);
+            } else {
+                Writer textWriter = null;
+                if (StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding.toString()) || "UTF8".equalsIgnoreCase(encoding.toString())) { //$NON-NLS-1$
+                    textWriter = new Utf8Writer(compressedOutputStream);
+                } else {
+                    textWriter = new BufferedWriter(new OutputStreamWriter(compressedOutputStream, encoding.toString()));
+                }
+                writer = new JsonWriter(textWriter);
+                if (prettyPrintingIndent instanceof String) {
+                    writer.setIndent((String) prettyPrintingIndent);
+                }
+            }
+            EList<EObject> resourceContents = this.getContents();
+
+            JsonResourceEvents.SerializationEvent serializationEvent = null;
+            if (JsonResourceEvents.isAvailable()) {
+                serializationEvent = new JsonResourceEvents.SerializationEvent();
+                serializationEvent.begin();
+            }
+            if (Boolean.TRUE.equals(saveOptions.get(JsonResource.OPTION_STREAMING_SAVE))) {
+                objectSerializer.serialize(resourceContents, writer);
+            } else {
+                gson.toJson(resourceContents, typeToken.getType(), writer);
+            }
+            if (serializationEvent != null) {
+                serializationEvent.commit(this, metrics);
+            }
 
-        gson.toJson(resourceContents, typeToken.getType(), writer);
+            if (handler != null) {
+                handler.postSave(this, outputStream, saveOptions);
+            }
 
-        if (handler != null) {
-            handler.postSave(this, outputStream, saveOptions);
+            writer.close();
+        } finally {
+            metrics.stop(JsonMetrics.Phase.WRITING);
+            // Closing the stream again does nothing, unless the save has failed before, in which case it gives back
+            // the deflater of the compression to the pool
+            compressedOutputStream.close();
         }
 
-        writer.close();
-        outputStreamWriter.close();
+        if (saveOptions.get(JsonResource.OPTION_METRICS_LISTENER) instanceof JsonResource.IMetricsListener listener) {
+            listener.onSaved(this, metrics);
+        }
+        if (saveEvent != null) {
+            saveEvent.commit(this, metrics);
+        }
 
         if (objectSerializer.getDanglingHREFException() != null) {
             throw new IOWrappedException(objectSerializer.getDanglingHREFException());
@@ -503,5 +598,6 @@ public class JsonResourceImpl extends ResourceImpl implements JsonResource {
             }
             this.idToEObjectMap.clear();
         }
+        this.rootObjectIndex.clear();
     }
 }
@@ -0,0 +1,424 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the tokens of a JSON document written in the compact binary encoding of {@link BinaryJsonWriter}, see
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_BINARY_FORMAT}.
+ * <p>
+ * The numbers are read back as {@link JsonToken#NUMBER} tokens with the same text as in the JSON document, and the
+ * strings already read are taken from the string table instead of being decoded again.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class BinaryJsonReader extends JsonReader {
+
+    /**
+     * The value of {@link #peekedTag} when the next tag has not been read yet.
+     */
+    private static final int NO_TAG = -1;
+
+    /**
+     * The value of {@link #peekedTag} at the end of the document.
+     */
+    private static final int END_OF_DOCUMENT = -2;
+
+    /**
+     * The maximum length of a string, which is the maximum size of an array.
+     */
+    private static final long MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * The input.
+     */
+    private final DataInputStream input;
+
+    /**
+     * The strings of the string table, by index.
+     */
+    private final List<String> stringTable = new ArrayList<>();
+
+    /**
+     * The tag of the next token, read by {@link #peek()} and not consumed yet.
+     */
+    private int peekedTag = NO_TAG;
+
+    /**
+     * The constructor.
+     *
+     * @param inputStream
+     *            the input stream
+     * @throws IOException
+     *             if the input is not a binary document
+     */
+    public BinaryJsonReader(InputStream inputStream) throws IOException {
+        super(Reader.nullReader());
+        this.input = new DataInputStream(new BufferedInputStream(inputStream));
+        byte[] magic = new byte[BinaryJsonWriter.MAGIC.length];
+        try {
+            this.input.readFully(magic);
+        } catch (EOFException exception) {
+            throw new MalformedJsonException("The input is not a binary JSON document", exception); //$NON-NLS-1$
+        }
+        if (!Arrays.equals(magic, BinaryJsonWriter.MAGIC)) {
+            throw new MalformedJsonException("The input is not a binary JSON document"); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        this.consume(BinaryJsonWriter.BEGIN_ARRAY, JsonToken.BEGIN_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        this.consume(BinaryJsonWriter.END_ARRAY, JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        this.consume(BinaryJsonWriter.BEGIN_OBJECT, JsonToken.BEGIN_OBJECT);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        this.consume(BinaryJsonWriter.END_OBJECT, JsonToken.END_OBJECT);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        int tag = this.peekTag();
+        return tag != BinaryJsonWriter.END_OBJECT && tag != BinaryJsonWriter.END_ARRAY && tag != END_OF_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        JsonToken token = null;
+        switch (this.peekTag()) {
+        case BinaryJsonWriter.BEGIN_OBJECT:
+            token = JsonToken.BEGIN_OBJECT;
+            break;
+        case BinaryJsonWriter.END_OBJECT:
+            token = JsonToken.END_OBJECT;
+            break;
+        case BinaryJsonWriter.BEGIN_ARRAY:
+            token = JsonToken.BEGIN_ARRAY;
+            break;
+        case BinaryJsonWriter.END_ARRAY:
+            token = JsonToken.END_ARRAY;
+            break;
+        case BinaryJsonWriter.NAME:
+            token = JsonToken.NAME;
+            break;
+        case BinaryJsonWriter.STRING:
+            token = JsonToken.STRING;
+            break;
+        case BinaryJsonWriter.LONG:
+        case BinaryJsonWriter.DOUBLE:
+        case BinaryJsonWriter.NUMBER:
+            token = JsonToken.NUMBER;
+            break;
+        case BinaryJsonWriter.TRUE:
+        case BinaryJsonWriter.FALSE:
+            token = JsonToken.BOOLEAN;
+            break;
+        case BinaryJsonWriter.NULL:
+            token = JsonToken.NULL;
+            break;
+        case END_OF_DOCUMENT:
+            token = JsonToken.END_DOCUMENT;
+            break;
+        default:
+            throw new MalformedJsonException("Unknown tag " + this.peekedTag); //$NON-NLS-1$
+        }
+        return token;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        this.consume(BinaryJsonWriter.NAME, JsonToken.NAME);
+        return this.readString();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        String value = null;
+        int tag = this.peekTag();
+        if (tag == BinaryJsonWriter.STRING || tag == BinaryJsonWriter.NUMBER) {
+            this.peekedTag = NO_TAG;
+            value = this.readString();
+        } else if (tag == BinaryJsonWriter.LONG) {
+            this.peekedTag = NO_TAG;
+            value = Long.toString(this.readLong());
+        } else if (tag == BinaryJsonWriter.DOUBLE) {
+            this.peekedTag = NO_TAG;
+            value = Double.toString(this.input.readDouble());
+        } else {
+            throw this.unexpectedToken(JsonToken.STRING);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        int tag = this.peekTag();
+        if (tag != BinaryJsonWriter.TRUE && tag != BinaryJsonWriter.FALSE) {
+            throw this.unexpectedToken(JsonToken.BOOLEAN);
+        }
+        this.peekedTag = NO_TAG;
+        return tag == BinaryJsonWriter.TRUE;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        this.consume(BinaryJsonWriter.NULL, JsonToken.NULL);
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        double value = 0;
+        int tag = this.peekTag();
+        if (tag == BinaryJsonWriter.DOUBLE) {
+            this.peekedTag = NO_TAG;
+            value = this.input.readDouble();
+        } else if (tag == BinaryJsonWriter.LONG) {
+            this.peekedTag = NO_TAG;
+            value = this.readLong();
+        } else if (tag == BinaryJsonWriter.NUMBER || tag == BinaryJsonWriter.STRING) {
+            value = Double.parseDouble(this.nextString());
+        } else {
+            throw this.unexpectedToken(JsonToken.NUMBER);
+        }
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        long value = 0;
+        int tag = this.peekTag();
+        if (tag == BinaryJsonWriter.LONG) {
+            this.peekedTag = NO_TAG;
+            value = this.readLong();
+        } else if (tag == BinaryJsonWriter.DOUBLE || tag == BinaryJsonWriter.NUMBER || tag == BinaryJsonWriter.STRING) {
+            String text = this.nextString();
+            double doubleValue = Double.parseDouble(text);
+            value = (long) doubleValue;
+            if (value != doubleValue) {
+                throw new NumberFormatException("Expected a long but was " + text); //$NON-NLS-1$
+            }
+        } else {
+            throw this.unexpectedToken(JsonToken.NUMBER);
+        }
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        long value = this.nextLong();
+        if (value != (int) value) {
+            throw new NumberFormatException("Expected an int but was " + value); //$NON-NLS-1$
+        }
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        boolean isSkipped = false;
+        while (!isSkipped) {
+            int tag = this.peekTag();
+            this.peekedTag = NO_TAG;
+            switch (tag) {
+            case BinaryJsonWriter.BEGIN_OBJECT:
+            case BinaryJsonWriter.BEGIN_ARRAY:
+                depth++;
+                break;
+            case BinaryJsonWriter.END_OBJECT:
+            case BinaryJsonWriter.END_ARRAY:
+                depth--;
+                break;
+            case BinaryJsonWriter.NAME:
+            case BinaryJsonWriter.STRING:
+            case BinaryJsonWriter.NUMBER:
+                // The string is read anyway since it may be added to the string table. A name is skipped with its
+                // value
+                this.readString();
+                break;
+            case BinaryJsonWriter.LONG:
+                this.readLong();
+                break;
+            case BinaryJsonWriter.DOUBLE:
+                this.input.readDouble();
+                break;
+            case END_OF_DOCUMENT:
+                throw new EOFException("End of the binary JSON document"); //$NON-NLS-1$
+            default:
+                // true, false and null have no value
+            }
+            isSkipped = depth <= 0 && tag != BinaryJsonWriter.NAME;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    @Override
+    public String getPath() {
+        return "$"; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getPreviousPath() {
+        return "$"; //$NON-NLS-1$
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+
+    /**
+     * Returns the tag of the next token, reading it if needed.
+     *
+     * @return the tag of the next token
+     * @throws IOException
+     *             if the tag cannot be read
+     */
+    private int peekTag() throws IOException {
+        if (this.peekedTag == NO_TAG) {
+            int tag = this.input.read();
+            if (tag < 0) {
+                this.peekedTag = END_OF_DOCUMENT;
+            } else {
+                this.peekedTag = tag;
+            }
+        }
+        return this.peekedTag;
+    }
+
+    /**
+     * Consumes the next token, which should have the given tag.
+     *
+     * @param tag
+     *            the expected tag
+     * @param token
+     *            the expected token
+     * @throws IOException
+     *             if the tag cannot be read
+     */
+    private void consume(int tag, JsonToken token) throws IOException {
+        if (this.peekTag() != tag) {
+            throw this.unexpectedToken(token);
+        }
+        this.peekedTag = NO_TAG;
+    }
+
+    /**
+     * Creates the exception thrown when the next token is not the expected one.
+     *
+     * @param expected
+     *            the expected token
+     * @return the exception
+     * @throws IOException
+     *             if the next token cannot be read
+     */
+    private IllegalStateException unexpectedToken(JsonToken expected) throws IOException {
+        return new IllegalStateException("Expected " + expected + " but was " + this.peek()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Reads a string, written in the string table or referenced by its index in this table.
+     *
+     * @return the string
+     * @throws IOException
+     *             if the string cannot be read
+     */
+    private String readString() throws IOException {
+        String value = null;
+        long reference = this.readVarLong();
+        if (reference >= BinaryJsonWriter.STRING_INDEX_OFFSET) {
+            long index = reference - BinaryJsonWriter.STRING_INDEX_OFFSET;
+            if (index >= this.stringTable.size()) {
+                throw new MalformedJsonException("Unknown string " + index); //$NON-NLS-1$
+            }
+            value = this.stringTable.get((int) index);
+        } else {
+            long length = this.readVarLong();
+            if (length < 0 || length > MAX_STRING_LENGTH) {
+                throw new MalformedJsonException("Invalid string length " + length); //$NON-NLS-1$
+            }
+            // The bytes are read by chunks, so that a corrupted length does not allocate more than the input
+            byte[] bytes = this.input.readNBytes((int) length);
+            if (bytes.length != length) {
+                throw new MalformedJsonException("Truncated string of length " + length); //$NON-NLS-1$
+            }
+            value = new String(bytes, StandardCharsets.UTF_8);
+            if (reference == BinaryJsonWriter.NEW_STRING) {
+                this.stringTable.add(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads an integer written in ZigZag encoding.
+     *
+     * @return the integer
+     * @throws IOException
+     *             if the integer cannot be read
+     */
+    private long readLong() throws IOException {
+        long value = this.readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads an unsigned value written on seven bits per byte, the highest bit indicating if another byte follows.
+     *
+     * @return the unsigned value
+     * @throws IOException
+     *             if the value cannot be read
+     */
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int current = 0;
+        do {
+            if (shift > 63) {
+                throw new MalformedJsonException("Malformed variable length integer"); //$NON-NLS-1$
+            }
+            current = this.input.readUnsignedByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the tokens of a JSON document in a compact binary encoding, read by {@link BinaryJsonReader}, see
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_BINARY_FORMAT}.
+ * <p>
+ * Each token is written as a one byte tag followed by its value. The strings, such as the names of the properties, the
+ * qualified names of the EClasses and the ids, are written once in a string table and then referenced by their index
+ * in this table. The integers are written as variable length integers and the doubles on eight bytes. The other
+ * numbers are written as strings, so that they are read back with the same text as in JSON.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class BinaryJsonWriter extends JsonWriter {
+
+    /**
+     * The bytes starting a binary document.
+     */
+    static final byte[] MAGIC = { 'E', 'J', 'S', 'B', 1 };
+
+    /**
+     * The tag of the start of an object.
+     */
+    static final int BEGIN_OBJECT = 1;
+
+    /**
+     * The tag of the end of an object.
+     */
+    static final int END_OBJECT = 2;
+
+    /**
+     * The tag of the start of an array.
+     */
+    static final int BEGIN_ARRAY = 3;
+
+    /**
+     * The tag of the name of a property, followed by a string.
+     */
+    static final int NAME = 4;
+
+    /**
+     * The tag of a string, followed by a string.
+     */
+    static final int STRING = 5;
+
+    /**
+     * The tag of an integer, followed by a variable length integer.
+     */
+    static final int LONG = 6;
+
+    /**
+     * The tag of a double, followed by its eight bytes.
+     */
+    static final int DOUBLE = 7;
+
+    /**
+     * The tag of another number, followed by its text as a string.
+     */
+    static final int NUMBER = 8;
+
+    /**
+     * The tag of <code>true</code>.
+     */
+    static final int TRUE = 9;
+
+    /**
+     * The tag of <code>false</code>.
+     */
+    static final int FALSE = 10;
+
+    /**
+     * The tag of <code>null</code>.
+     */
+    static final int NULL = 11;
+
+    /**
+     * The tag of the end of an array.
+     */
+    static final int END_ARRAY = 12;
+
+    /**
+     * The reference of a string added to the string table, followed by its UTF-8 bytes.
+     */
+    static final int NEW_STRING = 0;
+
+    /**
+     * The reference of a string written without being added to the string table, followed by its UTF-8 bytes.
+     */
+    static final int INLINE_STRING = 1;
+
+    /**
+     * The offset of the index of a string of the string table in its reference.
+     */
+    static final int STRING_INDEX_OFFSET = 2;
+
+    /**
+     * The maximum length of the strings added to the string table. The longer strings, like textual values, are
+     * rarely repeated.
+     */
+    private static final int MAX_TABLE_STRING_LENGTH = 256;
+
+    /**
+     * The output.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * The index of the strings already written in the string table.
+     */
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    /**
+     * The name of the property written before its value, since it is not written if the value is a <code>null</code>
+     * which should not be serialized.
+     */
+    private String deferredName;
+
+    /**
+     * The constructor.
+     *
+     * @param outputStream
+     *            the output stream
+     * @throws IOException
+     *             if the start of the document cannot be written
+     */
+    public BinaryJsonWriter(OutputStream outputStream) throws IOException {
+        super(Writer.nullWriter());
+        this.output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        this.output.write(MAGIC);
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        this.writeDeferredName();
+        this.output.writeByte(BEGIN_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        this.output.writeByte(END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        this.writeDeferredName();
+        this.output.writeByte(BEGIN_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        this.output.writeByte(END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null"); //$NON-NLS-1$
+        }
+        if (this.deferredName != null) {
+            throw new IllegalStateException("Already wrote a name, expecting a value."); //$NON-NLS-1$
+        }
+        this.deferredName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        JsonWriter result = this;
+        if (value == null) {
+            result = this.nullValue();
+        } else {
+            this.writeDeferredName();
+            this.output.writeByte(STRING);
+            this.writeString(value);
+        }
+        return result;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        this.writeDeferredName();
+        if (value) {
+            this.output.writeByte(TRUE);
+        } else {
+            this.output.writeByte(FALSE);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        JsonWriter result = this;
+        if (value == null) {
+            result = this.nullValue();
+        } else {
+            result = this.value(value.booleanValue());
+        }
+        return result;
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        return this.value(Float.valueOf(value));
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        this.writeDeferredName();
+        this.output.writeByte(DOUBLE);
+        this.output.writeDouble(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        this.writeDeferredName();
+        this.output.writeByte(LONG);
+        // ZigZag encoding to keep the small negative values short
+        this.writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        JsonWriter result = this;
+        if (value == null) {
+            result = this.nullValue();
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            result = this.value(value.longValue());
+        } else if (value instanceof Double) {
+            result = this.value(value.doubleValue());
+        } else {
+            this.writeDeferredName();
+            this.output.writeByte(NUMBER);
+            this.writeString(value.toString());
+        }
+        return result;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (this.deferredName != null && !this.getSerializeNulls()) {
+            // Neither the name nor the value are written
+            this.deferredName = null;
+        } else {
+            this.writeDeferredName();
+            this.output.writeByte(NULL);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        throw new UnsupportedOperationException("Raw JSON values cannot be written in a binary document"); //$NON-NLS-1$
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+
+    /**
+     * Writes the name of the property whose value is written, if any.
+     *
+     * @throws IOException
+     *             if the name cannot be written
+     */
+    private void writeDeferredName() throws IOException {
+        if (this.deferredName != null) {
+            this.output.writeByte(NAME);
+            this.writeString(this.deferredName);
+            this.deferredName = null;
+        }
+    }
+
+    /**
+     * Writes the given string, or its index if it is already in the string table.
+     *
+     * @param value
+     *            the string
+     * @throws IOException
+     *             if the string cannot be written
+     */
+    private void writeString(String value) throws IOException {
+        Integer index = this.stringTable.get(value);
+        if (index != null) {
+            this.writeVarLong(index.longValue() + STRING_INDEX_OFFSET);
+        } else {
+            if (value.length() <= MAX_TABLE_STRING_LENGTH) {
+                this.stringTable.put(value, Integer.valueOf(this.stringTable.size()));
+                this.writeVarLong(NEW_STRING);
+            } else {
+                this.writeVarLong(INLINE_STRING);
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarLong(bytes.length);
+            this.output.write(bytes);
+        }
+    }
+
+    /**
+     * Writes the given unsigned value on as few bytes as possible, seven bits per byte, the highest bit indicating if
+     * another byte follows.
+     *
+     * @param value
+     *            the unsigned value
+     * @throws IOException
+     *             if the value cannot be written
+     */
+    private void writeVarLong(long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            this.output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        this.output.writeByte((int) remaining);
+    }
+}
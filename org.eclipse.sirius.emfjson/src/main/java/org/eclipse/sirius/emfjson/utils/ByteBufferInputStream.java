@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * An input stream reading the remaining bytes of a {@link ByteBuffer}, typically a file mapped in memory, see
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_MEMORY_MAPPED_LOAD}.
+ * <p>
+ * The characters of the bytes can be read with {@link #createReader(Charset)}, which decodes them straight from the
+ * byte buffer in the character buffer of the caller instead of copying them in the intermediate byte buffer of an
+ * {@link java.io.InputStreamReader} first.
+ * </p>
+ * <p>
+ * The stream created by {@link #map(FileChannel)} releases the mapping of the file once it is closed, so that the file
+ * is not kept locked until the buffer is garbage collected on the platforms locking the mapped files. This relies on
+ * <code>sun.misc.Unsafe</code>, if it is not available the mapping is still released by the garbage collector.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer read once the stream is closed, since the mapped buffer cannot be read once its mapping has been
+     * released.
+     */
+    private static final ByteBuffer CLOSED_BUFFER = ByteBuffer.allocate(0);
+
+    /**
+     * The instance of <code>sun.misc.Unsafe</code> or <code>null</code> if it is not available.
+     */
+    private static final Object UNSAFE;
+
+    /**
+     * The method <code>sun.misc.Unsafe#invokeCleaner(ByteBuffer)</code> releasing the mapping of a buffer or
+     * <code>null</code> if it is not available.
+     */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe"); //$NON-NLS-1$
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe"); //$NON-NLS-1$
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class); //$NON-NLS-1$
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // The mappings are released by the garbage collector
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * The byte buffer.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Indicates if the byte buffer is a file mapped by {@link #map(FileChannel)}, whose mapping is released when the
+     * stream is closed.
+     */
+    private final boolean isMapped;
+
+    /**
+     * The constructor.
+     *
+     * @param buffer
+     *            the byte buffer, read from its current position to its limit
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this(buffer, false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param buffer
+     *            the byte buffer, read from its current position to its limit
+     * @param isMapped
+     *            indicates if the buffer is a file mapped by {@link #map(FileChannel)}
+     */
+    private ByteBufferInputStream(ByteBuffer buffer, boolean isMapped) {
+        this.buffer = buffer;
+        this.isMapped = isMapped;
+    }
+
+    /**
+     * Maps in memory the bytes of the file of the given channel, from the current position of the channel to the end of
+     * the file. The mapping is released once the returned stream is closed.
+     *
+     * @param fileChannel
+     *            the channel of the file
+     * @return The stream reading the mapped bytes or <code>null</code> if there are too many bytes to map them at once
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    public static ByteBufferInputStream map(FileChannel fileChannel) throws IOException {
+        ByteBufferInputStream result = null;
+        long position = fileChannel.position();
+        long size = fileChannel.size() - position;
+        if (size >= 0 && size <= Integer.MAX_VALUE) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            result = new ByteBufferInputStream(buffer, true);
+        }
+        return result;
+    }
+
+    @Override
+    public int read() {
+        int result = -1;
+        if (this.buffer.hasRemaining()) {
+            result = this.buffer.get() & 0xFF;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) {
+        int result = -1;
+        if (len == 0) {
+            result = 0;
+        } else if (this.buffer.hasRemaining()) {
+            result = Math.min(len, this.buffer.remaining());
+            this.buffer.get(bytes, off, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) {
+        long result = 0;
+        if (n > 0) {
+            result = Math.min(n, this.buffer.remaining());
+            this.buffer.position(this.buffer.position() + (int) result);
+        }
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        this.buffer.mark();
+    }
+
+    @Override
+    public synchronized void reset() {
+        this.buffer.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The mapping of a buffer mapped by {@link #map(FileChannel)} is released, the stream then reads no more bytes.
+     * </p>
+     *
+     * @see java.io.InputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.isMapped && this.buffer != CLOSED_BUFFER) {
+            ByteBuffer mappedBuffer = this.buffer;
+            this.buffer = CLOSED_BUFFER;
+            if (INVOKE_CLEANER != null) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, mappedBuffer);
+                } catch (ReflectiveOperationException exception) {
+                    // The mapping is released by the garbage collector
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the remaining bytes, without reading them.
+     *
+     * @return A buffer sharing the remaining bytes, from the index <code>0</code> to its limit
+     */
+    public ByteBuffer getRemainingBytes() {
+        return this.buffer.slice();
+    }
+
+    /**
+     * Creates a reader decoding the remaining bytes with the given charset. The malformed and unmappable bytes are
+     * replaced like {@link java.io.InputStreamReader} does.
+     *
+     * @param charset
+     *            the charset
+     * @return The reader
+     */
+    public Reader createReader(Charset charset) {
+        return new ByteBufferReader(charset);
+    }
+
+    /**
+     * A reader decoding the remaining bytes of the byte buffer.
+     */
+    private final class ByteBufferReader extends Reader {
+
+        /**
+         * The decoder.
+         */
+        private final CharsetDecoder decoder;
+
+        /**
+         * The characters decoded but not read yet, used when the space left by the caller is too small for the next
+         * character, like the two characters of a surrogate pair.
+         */
+        private final CharBuffer pending = CharBuffer.allocate(2).flip();
+
+        /**
+         * Indicates if all the bytes have been decoded.
+         */
+        private boolean isEndOfInput;
+
+        /**
+         * The constructor.
+         *
+         * @param charset
+         *            the charset
+         */
+        ByteBufferReader(Charset charset) {
+            this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            int count = this.readPending(cbuf, off, len);
+            if (count < len && !this.isEndOfInput) {
+                CharBuffer charBuffer = CharBuffer.wrap(cbuf, off + count, len - count);
+                this.decode(charBuffer);
+                count = charBuffer.position() - off;
+                if (count == 0 && !this.isEndOfInput) {
+                    this.pending.clear();
+                    this.decode(this.pending);
+                    this.pending.flip();
+                    count = this.readPending(cbuf, off, len);
+                }
+            }
+
+            int result = count;
+            if (count == 0 && len > 0) {
+                result = -1;
+            }
+            return result;
+        }
+
+        /**
+         * Copies the pending characters in the given array.
+         *
+         * @param cbuf
+         *            the array
+         * @param off
+         *            the offset of the first character to copy in the array
+         * @param len
+         *            the maximum number of characters to copy
+         * @return The number of characters copied
+         */
+        private int readPending(char[] cbuf, int off, int len) {
+            int count = Math.min(len, this.pending.remaining());
+            this.pending.get(cbuf, off, count);
+            return count;
+        }
+
+        /**
+         * Decodes as many bytes as possible in the given character buffer.
+         *
+         * @param charBuffer
+         *            the character buffer
+         */
+        private void decode(CharBuffer charBuffer) {
+            CoderResult result = this.decoder.decode(ByteBufferInputStream.this.buffer, charBuffer, true);
+            if (result.isUnderflow()) {
+                result = this.decoder.flush(charBuffer);
+                this.isEndOfInput = result.isUnderflow();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            ByteBufferInputStream.this.close();
+        }
+    }
+}
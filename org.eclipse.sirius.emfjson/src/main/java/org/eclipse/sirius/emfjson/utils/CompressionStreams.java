@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Creates the streams compressing the saved resources and decompressing the loaded ones, see
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_COMPRESSION}.
+ * <p>
+ * The resources are compressed in the zlib format, with a {@link Deflater} taken from a pool shared by all the saves
+ * since creating one allocates a large native buffer. The loaded resources are decompressed when they start with the
+ * header of the zlib or of the gzip format, the {@link Inflater} being taken from another pool for the zlib format.
+ * The other resources are read as they are, since a JSON document cannot start like a compressed one.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class CompressionStreams {
+
+    /**
+     * The size of the buffers of the streams.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum number of deflaters and inflaters kept in each pool.
+     */
+    private static final int MAX_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The first byte of the zlib format with the deflate method and a window of 32K.
+     */
+    private static final int ZLIB_FIRST_BYTE = 0x78;
+
+    /**
+     * The divisor of the first two bytes of the zlib format.
+     */
+    private static final int ZLIB_HEADER_CHECK = 31;
+
+    /**
+     * The first byte of the gzip format.
+     */
+    private static final int GZIP_FIRST_BYTE = 0x1f;
+
+    /**
+     * The second byte of the gzip format.
+     */
+    private static final int GZIP_SECOND_BYTE = 0x8b;
+
+    /**
+     * The deflaters which are not used.
+     */
+    private static final Pool<Deflater> DEFLATERS = new Pool<>();
+
+    /**
+     * The inflaters which are not used.
+     */
+    private static final Pool<Inflater> INFLATERS = new Pool<>();
+
+    /**
+     * The constructor.
+     */
+    private CompressionStreams() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns a stream compressing what is written in the given stream. Closing the returned stream closes the given
+     * one.
+     *
+     * @param outputStream
+     *            the stream of the compressed bytes
+     * @return The stream to write the bytes to compress
+     */
+    public static OutputStream compress(OutputStream outputStream) {
+        Deflater deflater = DEFLATERS.take();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        }
+        return new PooledDeflaterOutputStream(outputStream, deflater);
+    }
+
+    /**
+     * Returns a stream decompressing the given stream if it starts with the header of the zlib or of the gzip format,
+     * or reading it as it is otherwise. The given stream is buffered first unless it supports
+     * {@link InputStream#mark(int)}. Closing the returned stream closes the given one.
+     *
+     * @param inputStream
+     *            the stream
+     * @return The stream to read the decompressed bytes
+     * @throws IOException
+     *             if the start of the stream cannot be read
+     */
+    public static InputStream decompress(InputStream inputStream) throws IOException {
+        InputStream markedInputStream = inputStream;
+        if (!inputStream.markSupported()) {
+            markedInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        }
+        markedInputStream.mark(2);
+        int firstByte = markedInputStream.read();
+        int secondByte = markedInputStream.read();
+        markedInputStream.reset();
+
+        InputStream result = markedInputStream;
+        if (firstByte == GZIP_FIRST_BYTE && secondByte == GZIP_SECOND_BYTE) {
+            result = new GZIPInputStream(markedInputStream, BUFFER_SIZE);
+        } else if (firstByte == ZLIB_FIRST_BYTE && secondByte >= 0 && ((firstByte << 8) | secondByte) % ZLIB_HEADER_CHECK == 0) {
+            Inflater inflater = INFLATERS.take();
+            if (inflater == null) {
+                inflater = new Inflater();
+            }
+            result = new PooledInflaterInputStream(markedInputStream, inflater);
+        }
+        return result;
+    }
+
+    /**
+     * A pool of objects which are not used, bounded by {@link CompressionStreams#MAX_POOL_SIZE}.
+     *
+     * @param <T>
+     *            the type of the objects
+     */
+    private static final class Pool<T> {
+
+        /**
+         * The objects which are not used.
+         */
+        private final Queue<T> objects = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The number of objects in the pool, counted separately since the size of the queue is computed in linear
+         * time.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Takes an object from the pool.
+         *
+         * @return The object or <code>null</code> if the pool is empty
+         */
+        T take() {
+            T object = this.objects.poll();
+            if (object != null) {
+                this.size.decrementAndGet();
+            }
+            return object;
+        }
+
+        /**
+         * Gives back the given object to the pool.
+         *
+         * @param object
+         *            the object, already reset
+         * @return <code>true</code> if the object has been kept, <code>false</code> if the pool is full
+         */
+        boolean give(T object) {
+            boolean isKept = this.size.incrementAndGet() <= MAX_POOL_SIZE;
+            if (isKept) {
+                this.objects.offer(object);
+            } else {
+                this.size.decrementAndGet();
+            }
+            return isKept;
+        }
+    }
+
+    /**
+     * A stream compressing with a deflater of the pool, given back to the pool when the stream is closed.
+     */
+    private static final class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        /**
+         * Indicates if the stream has been closed.
+         */
+        private boolean isClosed;
+
+        /**
+         * The constructor.
+         *
+         * @param outputStream
+         *            the stream of the compressed bytes
+         * @param deflater
+         *            the deflater
+         */
+        PooledDeflaterOutputStream(OutputStream outputStream, Deflater deflater) {
+            super(outputStream, deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.isClosed) {
+                this.isClosed = true;
+                try {
+                    super.close();
+                } finally {
+                    this.def.reset();
+                    if (!DEFLATERS.give(this.def)) {
+                        this.def.end();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A stream decompressing with an inflater of the pool, given back to the pool when the stream is closed.
+     */
+    private static final class PooledInflaterInputStream extends InflaterInputStream {
+
+        /**
+         * Indicates if the stream has been closed.
+         */
+        private boolean isClosed;
+
+        /**
+         * The constructor.
+         *
+         * @param inputStream
+         *            the stream of the compressed bytes
+         * @param inflater
+         *            the inflater
+         */
+        PooledInflaterInputStream(InputStream inputStream, Inflater inflater) {
+            super(inputStream, inflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.isClosed) {
+                this.isClosed = true;
+                try {
+                    super.close();
+                } finally {
+                    this.inf.reset();
+                    if (!INFLATERS.give(this.inf)) {
+                        this.inf.end();
+                    }
+                }
+            }
+        }
+    }
+}
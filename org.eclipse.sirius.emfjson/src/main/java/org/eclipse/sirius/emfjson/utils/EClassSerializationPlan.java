@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
+
+/**
+ * The structural features of an {@link EClass} in the order in which they are serialized, with everything which does
+ * not depend on the serialized object computed once.
+ * <p>
+ * Since the order of the structural features, the ones which can be serialized and their names depend on the save
+ * options, the plans shared by several saves are kept by {@link Key}, which identifies both the EClass and the values
+ * of these options.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class EClassSerializationPlan {
+
+    /**
+     * The way the value of a structural feature is serialized.
+     *
+     * @author Obeo
+     */
+    enum FeatureKind {
+        /**
+         * An attribute serialized as a string.
+         */
+        STRING,
+
+        /**
+         * An attribute serialized as a boolean.
+         */
+        BOOLEAN,
+
+        /**
+         * An attribute serialized as a number.
+         */
+        NUMBER,
+
+        /**
+         * An attribute serialized as an hexadecimal string.
+         */
+        BYTE_ARRAY,
+
+        /**
+         * An attribute serialized as a formatted date.
+         */
+        DATE,
+
+        /**
+         * An attribute serialized with the literals of its enumeration.
+         */
+        ENUM,
+
+        /**
+         * An attribute serialized with the factory of its data type.
+         */
+        DATA_TYPE,
+
+        /**
+         * An attribute whose type is not a data type.
+         */
+        UNSUPPORTED,
+
+        /**
+         * A single-valued containment reference.
+         */
+        CONTAINMENT,
+
+        /**
+         * A many-valued containment reference.
+         */
+        MANY_CONTAINMENT,
+
+        /**
+         * A single-valued non containment reference.
+         */
+        NON_CONTAINMENT,
+
+        /**
+         * A many-valued non containment reference.
+         */
+        MANY_NON_CONTAINMENT
+    }
+
+    /**
+     * The structural features in the order in which they are serialized.
+     */
+    private final EStructuralFeature[] features;
+
+    /**
+     * The way each structural feature is serialized.
+     */
+    private final FeatureKind[] kinds;
+
+    /**
+     * If each structural feature can be serialized, whatever its value.
+     */
+    private final boolean[] serializable;
+
+    /**
+     * The names of the structural features, computed the first time they are serialized.
+     */
+    private final String[] names;
+
+    /**
+     * The constructor.
+     *
+     * @param features
+     *            the structural features in the order in which they are serialized
+     * @param serializable
+     *            if each structural feature can be serialized, whatever its value
+     */
+    EClassSerializationPlan(List<EStructuralFeature> features, boolean[] serializable) {
+        this.features = features.toArray(new EStructuralFeature[features.size()]);
+        this.serializable = serializable;
+        this.names = new String[this.features.length];
+        this.kinds = new FeatureKind[this.features.length];
+        for (int i = 0; i < this.features.length; i++) {
+            this.kinds[i] = getKind(this.features[i]);
+        }
+    }
+
+    /**
+     * Returns the number of structural features.
+     *
+     * @return The number of structural features
+     */
+    int size() {
+        return this.features.length;
+    }
+
+    /**
+     * Returns the structural feature at the given index.
+     *
+     * @param index
+     *            the index
+     * @return The structural feature
+     */
+    EStructuralFeature getFeature(int index) {
+        return this.features[index];
+    }
+
+    /**
+     * Returns the way the structural feature at the given index is serialized.
+     *
+     * @param index
+     *            the index
+     * @return The kind of the structural feature
+     */
+    FeatureKind getKind(int index) {
+        return this.kinds[index];
+    }
+
+    /**
+     * Indicates if the structural feature at the given index can be serialized, whatever its value.
+     *
+     * @param index
+     *            the index
+     * @return <code>true</code> if the structural feature can be serialized, <code>false</code> otherwise
+     */
+    boolean isSerializable(int index) {
+        return this.serializable[index];
+    }
+
+    /**
+     * Returns the name of the structural feature at the given index.
+     *
+     * @param index
+     *            the index
+     * @return The name of the structural feature or <code>null</code> if it has not been computed yet
+     */
+    String getName(int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Keeps the name of the structural feature at the given index.
+     *
+     * @param index
+     *            the index
+     * @param name
+     *            the name of the structural feature
+     */
+    void setName(int index, String name) {
+        this.names[index] = name;
+    }
+
+    /**
+     * Computes the way the given structural feature is serialized.
+     *
+     * @param eStructuralFeature
+     *            the structural feature
+     * @return The kind of the structural feature
+     */
+    private static FeatureKind getKind(EStructuralFeature eStructuralFeature) {
+        FeatureKind kind = null;
+        if (eStructuralFeature instanceof EReference) {
+            EReference eReference = (EReference) eStructuralFeature;
+            if (eReference.isContainment()) {
+                if (eReference.isMany()) {
+                    kind = FeatureKind.MANY_CONTAINMENT;
+                } else {
+                    kind = FeatureKind.CONTAINMENT;
+                }
+            } else {
+                if (eReference.isMany()) {
+                    kind = FeatureKind.MANY_NON_CONTAINMENT;
+                } else {
+                    kind = FeatureKind.NON_CONTAINMENT;
+                }
+            }
+        } else if (eStructuralFeature instanceof EAttribute) {
+            kind = getAttributeKind(((EAttribute) eStructuralFeature).getEType());
+        } else {
+            kind = FeatureKind.UNSUPPORTED;
+        }
+        return kind;
+    }
+
+    /**
+     * Computes the way an attribute of the given type is serialized.
+     *
+     * @param eType
+     *            the type of the attribute
+     * @return The kind of the attribute
+     */
+    private static FeatureKind getAttributeKind(EClassifier eType) {
+        EcorePackage ecorePackage = EcorePackage.eINSTANCE;
+        FeatureKind kind = null;
+        if (ecorePackage.getEString().equals(eType) || ecorePackage.getEChar().equals(eType) || ecorePackage.getECharacterObject().equals(eType)) {
+            kind = FeatureKind.STRING;
+        } else if (ecorePackage.getEBoolean().equals(eType) || ecorePackage.getEBooleanObject().equals(eType)) {
+            kind = FeatureKind.BOOLEAN;
+        } else if (ecorePackage.getEInt().equals(eType) || ecorePackage.getEIntegerObject().equals(eType) || ecorePackage.getEBigDecimal().equals(eType)
+                || ecorePackage.getEBigInteger().equals(eType) || ecorePackage.getEByte().equals(eType) || ecorePackage.getEByteObject().equals(eType)
+                || ecorePackage.getEDouble().equals(eType) || ecorePackage.getEDoubleObject().equals(eType) || ecorePackage.getEFloat().equals(eType)
+                || ecorePackage.getEFloatObject().equals(eType) || ecorePackage.getELong().equals(eType) || ecorePackage.getELongObject().equals(eType)
+                || ecorePackage.getEShort().equals(eType) || ecorePackage.getEShortObject().equals(eType)) {
+            kind = FeatureKind.NUMBER;
+        } else if (ecorePackage.getEByteArray().equals(eType)) {
+            kind = FeatureKind.BYTE_ARRAY;
+        } else if (ecorePackage.getEDate().equals(eType)) {
+            kind = FeatureKind.DATE;
+        } else if (eType instanceof EEnum) {
+            kind = FeatureKind.ENUM;
+        } else if (eType instanceof EDataType) {
+            kind = FeatureKind.DATA_TYPE;
+        } else {
+            kind = FeatureKind.UNSUPPORTED;
+        }
+        return kind;
+    }
+
+    /**
+     * The key of the serialization plan of an EClass in the maps shared by several saves, such as the one of
+     * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_SERIALIZATION_PLAN_CACHE}. It contains the EClass
+     * and the values of the options used to compute its plan, so that the saves with different options do not share
+     * the same plans.
+     *
+     * @author Obeo
+     */
+    public static final class Key {
+
+        /**
+         * The EClass.
+         */
+        private final EClass eClass;
+
+        /**
+         * The comparator used to sort the structural features or <code>null</code> to keep their default order.
+         */
+        private final Comparator<? super EStructuralFeature> featuresComparator;
+
+        /**
+         * If the transient structural features are serialized.
+         */
+        private final boolean saveTransientFeatures;
+
+        /**
+         * If the derived structural features are serialized.
+         */
+        private final boolean saveDerivedFeatures;
+
+        /**
+         * If the extended meta data are used, in which case the names of the structural features are not kept in the
+         * plan.
+         */
+        private final boolean hasExtendedMetaData;
+
+        /**
+         * The class of the helper computing the names of the structural features.
+         */
+        private final Class<?> helperClass;
+
+        /**
+         * The hash code, computed once since the key is looked up for each EClass of each save.
+         */
+        private final int hashCode;
+
+        /**
+         * The constructor.
+         *
+         * @param eClass
+         *            the EClass
+         * @param featuresComparator
+         *            the comparator used to sort the structural features or <code>null</code> to keep their default
+         *            order
+         * @param saveTransientFeatures
+         *            if the transient structural features are serialized
+         * @param saveDerivedFeatures
+         *            if the derived structural features are serialized
+         * @param hasExtendedMetaData
+         *            if the extended meta data are used
+         * @param helperClass
+         *            the class of the helper computing the names of the structural features
+         */
+        Key(EClass eClass, Comparator<? super EStructuralFeature> featuresComparator, boolean saveTransientFeatures, boolean saveDerivedFeatures, boolean hasExtendedMetaData,
+                Class<?> helperClass) {
+            this.eClass = eClass;
+            this.featuresComparator = featuresComparator;
+            this.saveTransientFeatures = saveTransientFeatures;
+            this.saveDerivedFeatures = saveDerivedFeatures;
+            this.hasExtendedMetaData = hasExtendedMetaData;
+            this.helperClass = helperClass;
+            this.hashCode = Objects.hash(eClass, featuresComparator, Boolean.valueOf(saveTransientFeatures), Boolean.valueOf(saveDerivedFeatures),
+                    Boolean.valueOf(hasExtendedMetaData), helperClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            boolean isEqual = this == obj;
+            if (!isEqual && obj instanceof Key other) {
+                isEqual = this.eClass == other.eClass && Objects.equals(this.featuresComparator, other.featuresComparator) && this.saveTransientFeatures == other.saveTransientFeatures
+                        && this.saveDerivedFeatures == other.saveDerivedFeatures && this.hasExtendedMetaData == other.hasExtendedMetaData && this.helperClass == other.helperClass;
+            }
+            return isEqual;
+        }
+    }
+}
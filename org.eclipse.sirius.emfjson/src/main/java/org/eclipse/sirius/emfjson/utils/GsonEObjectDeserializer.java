@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,19 +19,34 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 
 import org.eclipse.emf.common.util.TreeIterator;
@@ -55,6 +70,7 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.ExtendedMetaData;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResource.EStructuralFeaturesFilter;
 import org.eclipse.sirius.emfjson.resource.JsonResource.IEObjectHandler;
 import org.eclipse.sirius.emfjson.resource.JsonResource.IJsonResourceProcessor;
 import org.eclipse.sirius.emfjson.resource.JsonResource.URIHandler;
@@ -67,6 +83,31 @@ import org.eclipse.sirius.emfjson.resource.PackageNotFoundError;
  */
 public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>> {
 
+    /**
+     * The names of the multi-valued containment references of Ecore which are deserialized with their own EClass.
+     */
+    private static final Set<String> ECORE_CONTAINMENT_REFERENCE_NAMES = Set.of(IGsonConstants.EANNOTATIONS, IGsonConstants.ELITERALS, IGsonConstants.EOPERATIONS, IGsonConstants.EPARAMETERS,
+            IGsonConstants.ETYPEPARAMETER_ARRAY, IGsonConstants.ETYPEARGUMENTS, IGsonConstants.EGENERICEXCEPTION, IGsonConstants.ETYPEPARAMETER, IGsonConstants.EGENERICSUPERTYPES,
+            IGsonConstants.EBOUNDS, IGsonConstants.DETAILS, (String) IGsonConstants.ESUBPACKAGES);
+
+    /**
+     * The Gson used to deserialize the values of the data types when {@link JsonResource#OPTION_EDATATYPE_GSON} is
+     * not set.
+     */
+    private static final Gson DEFAULT_EDATATYPE_GSON = new Gson();
+
+    /**
+     * The number of parts of the top-level objects deserialized concurrently for each thread of the pool, to balance
+     * the parts of different sizes.
+     */
+    private static final int PARTS_PER_THREAD = 4;
+
+    /**
+     * The initial size of the buffer of the characters of a document whose top-level objects are deserialized
+     * concurrently, when its expected length is unknown.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * The JsonHelper.
      */
@@ -98,9 +139,49 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
     private List<EObject> rootElements = new ArrayList<>();
 
     /**
-     * The list of Reference to object that are not deserialized yet.
+     * The references to objects that are not deserialized yet, grouped by the id of the referenced object.
+     */
+    private Map<String, List<SingleReference>> forwardSingleReferences;
+
+    /**
+     * The forward references waiting to be inserted in the many-valued features of each object.
+     */
+    private Map<EObject, Map<EStructuralFeature, PendingValues>> pendingValues = new IdentityHashMap<>();
+
+    /**
+     * The structural features matching the keys of the data of the objects, for each EClass.
+     */
+    private Map<EClass, Map<String, FeatureHandle>> featureHandles = new HashMap<>();
+
+    /**
+     * The handle used for the structural features which should not be loaded, whose values are skipped.
+     */
+    private final FeatureHandle skippedFeatureHandle = new FeatureHandle(null);
+
+    /**
+     * The filter of the structural features to load or <code>null</code> to load all of them.
+     */
+    private EStructuralFeaturesFilter eStructuralFeaturesFilter;
+
+    /**
+     * The predicate used to know if a data type is deserialized from a Json tree or <code>null</code>.
+     */
+    private Predicate<EDataType> shouldEDataTypeBeSerializedInJsonPredicate;
+
+    /**
+     * The Gson used to deserialize the values of the data types deserialized from a Json tree.
+     */
+    private Gson eDataTypeGson;
+
+    /**
+     * The number of references which could not be resolved when they have been read.
+     */
+    private int deferredReferenceCount;
+
+    /**
+     * The number of references which could not be resolved at the end of the document.
      */
-    private List<SingleReference> forwardSingleReferences;
+    private int unresolvedReferenceCount;
 
     /**
      * The support of extended meta data.
@@ -141,6 +222,50 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
 
     private final Map<String, EClass> typeCache = new HashMap<>();
 
+    /**
+     * The cache of the information computed from the metamodels shared with other resources or <code>null</code>.
+     */
+    private JsonMetamodelCache metamodelCache;
+
+    /**
+     * The object on which the accesses to the package registry and to the resources of the resource set are
+     * synchronized.
+     */
+    private Object resourceSetLock;
+
+    /**
+     * Indicates if other resources of the resource set may be loaded concurrently, in which case the resources which
+     * are not completely loaded are never accessed.
+     */
+    private boolean concurrentLoad;
+
+    /**
+     * The checks of the packages which have not been found in the other resources of the resource set during a
+     * concurrent load, run once all the resources are loaded, or <code>null</code> to never report them.
+     */
+    private Collection<Runnable> packageChecks;
+
+    /**
+     * The EClassifiers found for the qualified names of the types of the objects of the document.
+     */
+    private Map<String, EClassifier> eClassifiers = new HashMap<>();
+
+    /**
+     * The pool deserializing the top-level objects concurrently or <code>null</code> to deserialize them sequentially.
+     */
+    private ForkJoinPool deserializationPool;
+
+    /**
+     * The ids of the objects deserialized by a part of a concurrent deserialization, which are set once the objects are
+     * attached to the resource, or <code>null</code> if the objects are deserialized in the resource.
+     */
+    private Map<EObject, String> detachedIDs;
+
+    /**
+     * The metrics of the deserialization, computed when a {@link JsonResource.IMetricsListener} is given.
+     */
+    private JsonMetrics metrics;
+
     /**
      * The constructor.
      *
@@ -209,11 +334,47 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
 
         this.eObjectHandler = (JsonResource.IEObjectHandler) this.options.get(JsonResource.OPTION_EOBJECT_HANDLER);
 
-        this.forwardSingleReferences = new ArrayList<>();
+        this.forwardSingleReferences = new LinkedHashMap<>();
 
         this.helper.setOptions(this.options);
 
         this.missingPackageHandler = (JsonResource.MissingPackageHandler) this.options.get(JsonResource.OPTION_MISSING_PACKAGE_HANDLER);
+        this.metamodelCache = (JsonMetamodelCache) this.options.get(JsonResource.OPTION_METAMODEL_CACHE);
+        Object eStructuralFeatureFilter = this.options.get(JsonResource.OPTION_ESTRUCTURAL_FEATURES_FILTER);
+        if (eStructuralFeatureFilter instanceof EStructuralFeaturesFilter) {
+            this.eStructuralFeaturesFilter = (EStructuralFeaturesFilter) eStructuralFeatureFilter;
+        }
+        this.resourceSetLock = this.options.get(JsonResource.OPTION_RESOURCE_SET_LOCK);
+        this.concurrentLoad = this.resourceSetLock != null;
+        this.packageChecks = ParallelResourceLoader.getPackageChecks(this.options);
+        if (this.resourceSetLock == null) {
+            this.resourceSetLock = new Object();
+        }
+
+        @SuppressWarnings("unchecked")
+        Predicate<EDataType> predicate = (Predicate<EDataType>) this.options.get(JsonResource.OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE);
+        this.shouldEDataTypeBeSerializedInJsonPredicate = predicate;
+        Object gson = this.options.get(JsonResource.OPTION_EDATATYPE_GSON);
+        if (gson instanceof Gson) {
+            this.eDataTypeGson = (Gson) gson;
+        } else {
+            this.eDataTypeGson = DEFAULT_EDATATYPE_GSON;
+        }
+
+        Object parallelDeserialization = this.options.get(JsonResource.OPTION_PARALLEL_DESERIALIZATION);
+        if (parallelDeserialization instanceof ForkJoinPool) {
+            this.deserializationPool = (ForkJoinPool) parallelDeserialization;
+        } else if (Boolean.TRUE.equals(parallelDeserialization)) {
+            this.deserializationPool = ForkJoinPool.commonPool();
+        }
+
+        if (this.options.get(JsonResource.OPTION_METRICS_LISTENER) instanceof JsonResource.IMetricsListener) {
+            this.metrics = new JsonMetrics();
+        } else if (JsonResourceEvents.isLoadRecorded()) {
+            this.metrics = JsonMetrics.counters();
+        } else {
+            this.metrics = JsonMetrics.disabled();
+        }
     }
 
     /**
@@ -226,6 +387,325 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
     public List<EObject> deserialize(JsonElement jsonElement, Type type, JsonDeserializationContext context) throws JsonParseException {
         JsonObject jsonRoot = jsonElement.getAsJsonObject();
 
+        this.deserializeHeader(jsonRoot);
+
+        // json content
+        this.deserializeContent(jsonRoot);
+
+        return this.rootElements;
+    }
+
+    /**
+     * Deserializes the document read by the given reader without building a tree of JsonElement for its content. The
+     * header of the document is processed as in {@link #deserialize(JsonElement, Type, JsonDeserializationContext)}
+     * and the objects of the content are then created while their tokens are read, once the header members they
+     * depend on have been read, see {@link #canStreamContent(JsonObject)}. Otherwise, the content is parsed in a tree
+     * and deserialized after the other members. If an {@link IEObjectHandler} or an
+     * {@link IJsonResourceProcessor} is used, the whole document is parsed in a tree first since they need the
+     * JsonObject of each object. If the document turns out to be malformed or truncated, the objects already created
+     * are removed from the resource, which is left empty as when the document is parsed in a tree first.
+     *
+     * @param reader
+     *            the reader of the document
+     * @return the root elements of the document
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    public List<EObject> deserialize(JsonReader reader) throws IOException {
+        reader.setStrictness(Strictness.LENIENT);
+        try {
+            reader.peek();
+        } catch (EOFException e) {
+            // Empty document, just like Gson#fromJson()
+            return this.rootElements;
+        }
+
+        if (this.isJsonObjectRequired()) {
+            return this.deserialize(JsonParser.parseReader(reader), null, null);
+        }
+
+        boolean isDocumentRead = false;
+        try {
+            JsonObject jsonRoot = new JsonObject();
+            boolean isContentStreamed = false;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (IGsonConstants.CONTENT.equals(name) && !isContentStreamed && this.canStreamContent(jsonRoot)) {
+                    this.deserializeHeader(jsonRoot);
+                    this.streamContent(reader);
+                    isContentStreamed = true;
+                } else {
+                    jsonRoot.add(name, JsonParser.parseReader(reader));
+                }
+            }
+            reader.endObject();
+            isDocumentRead = true;
+
+            if (isContentStreamed) {
+                this.handleForwardReference();
+            } else {
+                // The content has been found before the header, its objects can only be created afterwards
+                this.deserializeHeader(jsonRoot);
+                this.deserializeContent(jsonRoot);
+            }
+        } catch (MalformedJsonException | EOFException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        } finally {
+            if (!isDocumentRead) {
+                // A malformed or truncated document leaves the resource empty, like when it is parsed in a tree first
+                this.helper.getResource().getContents().removeAll(this.rootElements);
+                this.rootElements.clear();
+            }
+        }
+
+        return this.rootElements;
+    }
+
+    /**
+     * Indicates if the content can be streamed with the header members read before it. The namespaces are required to
+     * find the types of the objects. The schema locations, which register the packages of some namespaces, may follow
+     * the content, so the content is only streamed without them if the packages of all the namespaces are already
+     * registered.
+     *
+     * @param jsonRoot
+     *            the members of the root object read before the content
+     * @return <code>true</code> if the content can be streamed, <code>false</code> if it has to be deserialized after
+     *         the other members
+     */
+    private boolean canStreamContent(JsonObject jsonRoot) {
+        boolean canStream = jsonRoot.has(IGsonConstants.NS);
+        if (canStream && !jsonRoot.has(IGsonConstants.SCHEMA_LOCATION) && jsonRoot.get(IGsonConstants.NS).isJsonObject()) {
+            Iterator<Entry<String, JsonElement>> iterator = jsonRoot.getAsJsonObject(IGsonConstants.NS).entrySet().iterator();
+            synchronized (this.resourceSetLock) {
+                while (canStream && iterator.hasNext()) {
+                    JsonElement nsURI = iterator.next().getValue();
+                    canStream = nsURI.isJsonPrimitive() && this.packageRegistry.getEPackage(nsURI.getAsString()) != null;
+                }
+            }
+        }
+        return canStream;
+    }
+
+    /**
+     * Deserializes the document read by the given reader, the top-level objects of its content being deserialized
+     * concurrently on the pool given by {@link JsonResource#OPTION_PARALLEL_DESERIALIZATION}.
+     * <p>
+     * The whole document is read in memory and scanned to find the range of each top-level object. The header of the
+     * document is deserialized first, the ranges of the content are then split in contiguous parts, each deserialized
+     * by its own deserializer and {@link JsonHelper} into objects detached from the resource. Once all the parts are
+     * deserialized, their objects are attached to the resource in the order of the document, their ids are set and the
+     * references between the objects, which have all been deferred by the parts, are resolved in a final pass. When the
+     * objects cannot be deserialized concurrently, the document is deserialized with {@link #deserialize(JsonReader)}.
+     * </p>
+     *
+     * @param reader
+     *            the reader of the document
+     * @param expectedLength
+     *            the number of characters expected in the document, such as the number of bytes of the file read, used
+     *            to read the whole document in a single buffer, or <code>0</code> if it is unknown
+     * @return the root elements of the document
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    public List<EObject> deserializeConcurrently(Reader reader, int expectedLength) throws IOException {
+        List<EObject> result = null;
+        if (this.isConcurrentDeserialization()) {
+            int bufferSize = BUFFER_SIZE;
+            if (expectedLength >= BUFFER_SIZE && expectedLength < Integer.MAX_VALUE) {
+                // One more character so that the end of the document is found without growing the buffer
+                bufferSize = expectedLength + 1;
+            }
+            char[] chars = new char[bufferSize];
+            int length = 0;
+            int count = reader.read(chars, length, chars.length - length);
+            while (count != -1) {
+                length += count;
+                if (length == chars.length) {
+                    chars = Arrays.copyOf(chars, chars.length * 2);
+                }
+                count = reader.read(chars, length, chars.length - length);
+            }
+            result = this.deserializeConcurrently(new JsonStructureScanner(chars, length));
+        } else {
+            result = this.deserialize(new JsonReader(reader));
+        }
+        return result;
+    }
+
+    /**
+     * Deserializes the document encoded in UTF-8 in the given bytes, such as a file mapped in memory, the top-level
+     * objects of its content being deserialized concurrently on the pool given by
+     * {@link JsonResource#OPTION_PARALLEL_DESERIALIZATION}.
+     * <p>
+     * Unlike {@link #deserializeConcurrently(Reader, int)}, the document is not copied in memory, its bytes are scanned
+     * directly and each part decodes the bytes of its own top-level objects.
+     * </p>
+     *
+     * @param bytes
+     *            the bytes of the document, from the index <code>0</code> to the limit of the buffer, which are not
+     *            modified
+     * @return the root elements of the document
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    public List<EObject> deserializeConcurrently(ByteBuffer bytes) throws IOException {
+        JsonStructureScanner scanner = new JsonStructureScanner(bytes);
+        List<EObject> result = null;
+        if (this.isConcurrentDeserialization()) {
+            result = this.deserializeConcurrently(scanner);
+        } else {
+            result = this.deserialize(new JsonReader(scanner.createReader()));
+        }
+        return result;
+    }
+
+    /**
+     * Scans the given document and deserializes its top-level objects concurrently, or the whole document
+     * sequentially if it has a single top-level object or cannot be scanned.
+     *
+     * @param scanner
+     *            the scanner of the document
+     * @return the root elements of the document
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    private List<EObject> deserializeConcurrently(JsonStructureScanner scanner) throws IOException {
+        Map<String, int[]> members = scanner.scanRootObject();
+        List<int[]> elements = null;
+        if (members != null && members.get(IGsonConstants.CONTENT) != null) {
+            elements = scanner.scanArray(members.get(IGsonConstants.CONTENT));
+        }
+
+        List<EObject> result = null;
+        if (elements != null && elements.size() > 1) {
+            result = this.deserializeConcurrently(scanner, members, elements);
+        } else {
+            result = this.deserialize(new JsonReader(scanner.createReader()));
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if the top-level objects can be deserialized concurrently, which requires the deserialization of the
+     * parts to be independent from each other and from the resource. The {@link EStructuralFeaturesFilter} is not
+     * required to be thread safe and is only called sequentially.
+     *
+     * @return <code>true</code> if the top-level objects can be deserialized concurrently, <code>false</code> otherwise
+     */
+    private boolean isConcurrentDeserialization() {
+        return this.deserializationPool != null && this.resource != null && !this.isJsonObjectRequired() && this.extendedMetaData == null
+                && this.options.get(JsonResource.OPTION_CUSTOM_HELPER) == null && this.options.get(JsonResource.OPTION_URI_HANDLER) == null
+                && this.options.get(JsonResource.OPTION_RESOURCE_ENTITY_HANDLER) == null && this.eStructuralFeaturesFilter == null;
+    }
+
+    /**
+     * Deserializes the scanned document, the top-level objects of its content being deserialized concurrently on the
+     * {@link #deserializationPool}.
+     *
+     * @param scanner
+     *            the scanner of the document
+     * @param members
+     *            the ranges of the members of the root object of the document
+     * @param elements
+     *            the ranges of the top-level objects of the content
+     * @return the root elements of the document
+     */
+    private List<EObject> deserializeConcurrently(JsonStructureScanner scanner, Map<String, int[]> members, List<int[]> elements) {
+        JsonObject jsonRoot = new JsonObject();
+        for (Entry<String, int[]> member : members.entrySet()) {
+            if (!IGsonConstants.CONTENT.equals(member.getKey())) {
+                jsonRoot.add(member.getKey(), JsonParser.parseReader(scanner.createReader(member.getValue())));
+            }
+        }
+        this.deserializeHeader(jsonRoot);
+
+        int size = elements.size();
+        int partCount = Math.min(size, this.deserializationPool.getParallelism() * PARTS_PER_THREAD);
+        List<ForkJoinTask<GsonEObjectDeserializer>> tasks = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            List<int[]> part = elements.subList(i * size / partCount, (i + 1) * size / partCount);
+            tasks.add(this.deserializationPool.submit(() -> this.deserializePart(scanner, part)));
+        }
+        List<GsonEObjectDeserializer> deserializedParts = new ArrayList<>(partCount);
+        for (ForkJoinTask<GsonEObjectDeserializer> task : tasks) {
+            deserializedParts.add(task.join());
+        }
+
+        for (GsonEObjectDeserializer deserializedPart : deserializedParts) {
+            for (EObject eObject : deserializedPart.rootElements) {
+                this.addToContent(eObject);
+            }
+        }
+        for (GsonEObjectDeserializer deserializedPart : deserializedParts) {
+            for (Entry<EObject, String> entry : deserializedPart.detachedIDs.entrySet()) {
+                this.resource.setID(entry.getKey(), entry.getValue());
+            }
+            for (Entry<String, List<SingleReference>> entry : deserializedPart.forwardSingleReferences.entrySet()) {
+                this.forwardSingleReferences.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            this.pendingValues.putAll(deserializedPart.pendingValues);
+            this.deferredReferenceCount += deserializedPart.deferredReferenceCount;
+            this.metrics.add(deserializedPart.metrics);
+        }
+        this.handleForwardReference();
+
+        return this.rootElements;
+    }
+
+    /**
+     * Deserializes the given part of the top-level objects with a new deserializer and a new {@link JsonHelper}. The
+     * objects are not added to the resource and all the references to the objects of the resource are deferred.
+     *
+     * @param scanner
+     *            the scanner of the document
+     * @param elements
+     *            the ranges of the top-level objects of the part
+     * @return The deserializer of the part
+     */
+    private GsonEObjectDeserializer deserializePart(JsonStructureScanner scanner, List<int[]> elements) {
+        Map<Object, Object> partOptions = new HashMap<>(this.options);
+        partOptions.remove(JsonResource.OPTION_PARALLEL_DESERIALIZATION);
+
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(this.resource, partOptions);
+        deserializer.prefixToNsURi = this.prefixToNsURi;
+        deserializer.resourceSetLock = this.resourceSetLock;
+        deserializer.concurrentLoad = this.concurrentLoad;
+        deserializer.detachedIDs = new LinkedHashMap<>();
+        deserializer.metrics.start(JsonMetrics.Phase.PARSING);
+        try {
+            for (int[] element : elements) {
+                JsonReader reader = new JsonReader(scanner.createReader(element));
+                reader.setStrictness(Strictness.LENIENT);
+                deserializer.streamObject(reader, true);
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        } finally {
+            deserializer.metrics.stop(JsonMetrics.Phase.PARSING);
+        }
+        return deserializer;
+    }
+
+    /**
+     * Indicates if the JsonObject of the deserialized objects have to be given to the {@link IEObjectHandler} or to the
+     * {@link IJsonResourceProcessor}.
+     *
+     * @return <code>true</code> if the JsonObject are required, <code>false</code> otherwise
+     */
+    private boolean isJsonObjectRequired() {
+        return this.eObjectHandler != null || this.jsonResourceProcessor.getClass() != IJsonResourceProcessor.NoOp.class;
+    }
+
+    /**
+     * Deserialize the namespaces and the schema locations of the given root object before calling the
+     * {@link IJsonResourceProcessor}.
+     *
+     * @param jsonRoot
+     *            the root JsonObject of the document
+     */
+    private void deserializeHeader(JsonObject jsonRoot) {
         // namespace
         JsonObject jsonNameSpace = jsonRoot.getAsJsonObject(IGsonConstants.NS);
         if (jsonNameSpace != null) {
@@ -251,20 +731,31 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
                     // XMLHandler.class)
                     uri = this.helper.resolve(uri, this.resourceURI);
 
-                    EPackage ePackage = this.getEPackage(uri);
-                    if (ePackage != null) {
-                        this.resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+                    JsonResourceEvents.SchemaLocationLoadingEvent event = null;
+                    if (JsonResourceEvents.isAvailable()) {
+                        event = new JsonResourceEvents.SchemaLocationLoadingEvent();
+                        event.begin();
+                    }
+                    EPackage ePackage = null;
+                    synchronized (this.resourceSetLock) {
+                        ePackage = this.getEPackage(uri);
+                        if (ePackage != null) {
+                            this.resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+                        }
+                    }
+                    if (event != null) {
+                        event.commit(this.resource, uri.toString(), ePackage != null);
                     }
                 }
             }
         }
 
-        this.jsonResourceProcessor.preDeserialization(this.resource, jsonRoot);
-
-        // json content
-        this.deserializeContent(jsonRoot);
-
-        return this.rootElements;
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            this.jsonResourceProcessor.preDeserialization(this.resource, jsonRoot);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
     }
 
     /**
@@ -316,17 +807,339 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
     }
 
     /**
-     * Check if the values of the forward references have been set. If not, set them.
+     * Creates the root elements while reading the tokens of the content array.
+     *
+     * @param reader
+     *            the reader positioned on the content array
+     * @throws IOException
+     *             if the content cannot be read
      */
-    private void handleForwardReference() {
-        for (SingleReference ref : this.forwardSingleReferences) {
-            EObject obj = this.helper.getResource().getEObject((String) ref.getValue());
+    private void streamContent(JsonReader reader) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            this.streamObject(reader, true);
+        }
+        reader.endArray();
+    }
 
-            if (obj != null) {
-                EStructuralFeature feature = ref.getFeature();
-                this.setFeatureValue(ref.getObject(), feature, obj, ref.getPosition());
+    /**
+     * Creates an EObject while reading the tokens of its JsonObject. The data of the object are read directly when the
+     * EClass of the object is already known, which is the case for the documents written by the serializer. Otherwise
+     * they are parsed in a tree and deserialized once the object has been created.
+     *
+     * @param reader
+     *            the reader positioned on the JsonObject
+     * @param isTopObject
+     *            if the JsonObject is a top element
+     * @return the EObject created or <code>null</code> if its EClass cannot be found
+     * @throws IOException
+     *             if the object cannot be read
+     */
+    private EObject streamObject(JsonReader reader, boolean isTopObject) throws IOException {
+        EObject eObject = null;
+        EClassifier eClassifier = null;
+        boolean isEClassRead = false;
+        boolean isEObjectCreated = false;
+        JsonElement bufferedProperties = null;
+        String id = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (IGsonConstants.ECLASS.equals(name)) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                } else {
+                    eClassifier = this.getEClass(this.nextString(reader));
+                    isEClassRead = true;
+                }
+            } else if (IGsonConstants.DATA.equals(name) && isEClassRead && !isEObjectCreated) {
+                eObject = this.createEObject(eClassifier, isTopObject);
+                isEObjectCreated = true;
+                if (eObject != null) {
+                    this.streamData(reader, (EClass) eClassifier, eObject);
+                } else {
+                    reader.skipValue();
+                }
+            } else if (IGsonConstants.DATA.equals(name)) {
+                bufferedProperties = JsonParser.parseReader(reader);
+            } else if (IGsonConstants.ID.equals(name)) {
+                id = this.nextString(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (isEClassRead && !isEObjectCreated) {
+            eObject = this.createEObject(eClassifier, isTopObject);
+            if (eObject != null && bufferedProperties != null) {
+                this.deserializeData(bufferedProperties.getAsJsonObject(), (EClass) eClassifier, eObject);
+            }
+        }
+
+        if (eObject != null && id != null && this.resource != null) {
+            this.registerID(eObject, id);
+        }
+        return eObject;
+    }
+
+    /**
+     * Deserializes the data of the given EObject while reading their tokens.
+     *
+     * @param reader
+     *            the reader positioned on the data
+     * @param eClass
+     *            the EClass of the EObject
+     * @param eObject
+     *            the EObject
+     * @throws IOException
+     *             if the data cannot be read
+     */
+    private void streamData(JsonReader reader, EClass eClass, EObject eObject) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            FeatureHandle handle = this.getLoadedFeatureHandle(eClass, key, eObject);
+            switch (handle.kind) {
+            case ATTRIBUTE:
+                this.streamEAttribute(reader, (EAttribute) handle.feature, eObject);
+                break;
+            case JSON_ATTRIBUTE:
+                this.deserializeEAttribute((EAttribute) handle.feature, JsonParser.parseReader(reader), eObject);
+                break;
+            case UNKNOWN:
+                reader.skipValue();
+                break;
+            default:
+                this.streamEReference(reader, handle, eObject);
+            }
+        }
+        reader.endObject();
+    }
 
+    /**
+     * Deserializes the value of the given EAttribute while reading its tokens. The values which are not simple strings,
+     * numbers or booleans are parsed in a tree and deserialized with
+     * {@link #deserializeEAttribute(EAttribute, JsonElement, EObject)}, like the values of the data types deserialized
+     * from a Json tree which are handled before.
+     *
+     * @param reader
+     *            the reader positioned on the value
+     * @param eAttribute
+     *            the EAttribute
+     * @param eObject
+     *            the EObject
+     * @throws IOException
+     *             if the value cannot be read
+     */
+    private void streamEAttribute(JsonReader reader, EAttribute eAttribute, EObject eObject) throws IOException {
+        EDataType dataType = eAttribute.getEAttributeType();
+        JsonToken token = reader.peek();
+        if (!eAttribute.isMany() && this.isScalar(token)) {
+            Object value = this.tryCreateDataTypeFromString(dataType, this.nextString(reader));
+            this.helper.setValue(eObject, eAttribute, value);
+        } else if (eAttribute.isMany() && token == JsonToken.BEGIN_ARRAY && this.helper.getValue(eObject, eAttribute) instanceof Collection<?>) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Object value = this.tryCreateDataTypeFromString(dataType, this.nextString(reader));
+                this.helper.setValue(eObject, eAttribute, value);
             }
+            reader.endArray();
+        } else {
+            this.deserializeEAttribute(eAttribute, JsonParser.parseReader(reader), eObject);
+        }
+    }
+
+    /**
+     * Deserializes the value of the EReference of the given handle while reading its tokens. The values of the
+     * references of Ecore which need a specific processing and the values which do not have the expected shape are
+     * parsed in a tree and deserialized with {@link #deserializeEReference(EReference, JsonElement, EObject)}.
+     *
+     * @param reader
+     *            the reader positioned on the value
+     * @param handle
+     *            the handle of the EReference
+     * @param eObject
+     *            the EObject
+     * @throws IOException
+     *             if the value cannot be read
+     */
+    private void streamEReference(JsonReader reader, FeatureHandle handle, EObject eObject) throws IOException {
+        JsonToken token = reader.peek();
+        EReference eReference = (EReference) handle.feature;
+        if (handle.kind == FeatureKind.MANY_CONTAINMENT && token == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                this.addContainedValue(eObject, eReference, this.streamObject(reader, false));
+            }
+            reader.endArray();
+        } else if (handle.kind == FeatureKind.CONTAINMENT && token == JsonToken.BEGIN_OBJECT) {
+            this.helper.setValue(eObject, eReference, this.streamObject(reader, false));
+        } else if (handle.kind == FeatureKind.MANY_NON_CONTAINMENT && token == JsonToken.BEGIN_ARRAY) {
+            List<String> values = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                values.add(this.nextString(reader));
+            }
+            reader.endArray();
+            this.resolveMultipleNonContainmentEReference(eReference, values, eObject);
+        } else if (handle.kind == FeatureKind.NON_CONTAINMENT && this.isScalar(token)) {
+            this.resolveSingleNonContainmentEReference(eReference, this.nextString(reader), eObject);
+        } else {
+            this.deserializeEReference(eReference, JsonParser.parseReader(reader), eObject);
+        }
+    }
+
+    /**
+     * Indicates if the given token is the one of a string, a number or a boolean.
+     *
+     * @param token
+     *            the token
+     * @return <code>true</code> if the token is a string, a number or a boolean
+     */
+    private boolean isScalar(JsonToken token) {
+        return token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN;
+    }
+
+    /**
+     * Reads the next value as a string, in the same way as {@link JsonElement#getAsString()} would do.
+     *
+     * @param reader
+     *            the reader positioned on the value
+     * @return the value as a string
+     * @throws IOException
+     *             if the value cannot be read
+     */
+    private String nextString(JsonReader reader) throws IOException {
+        String value = null;
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            value = reader.nextString();
+        } else if (token == JsonToken.BOOLEAN) {
+            value = Boolean.toString(reader.nextBoolean());
+        } else {
+            value = JsonParser.parseReader(reader).getAsString();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of references which could not be resolved when they have been read since the referenced
+     * objects were not deserialized yet.
+     *
+     * @return The number of deferred references
+     */
+    public int getDeferredReferenceCount() {
+        return this.deferredReferenceCount;
+    }
+
+    /**
+     * Returns the number of references which could not be resolved at the end of the document.
+     *
+     * @return The number of unresolved references
+     */
+    public int getUnresolvedReferenceCount() {
+        return this.unresolvedReferenceCount;
+    }
+
+    /**
+     * Returns the metrics of the deserialization, which are only computed when a {@link JsonResource.IMetricsListener}
+     * is given.
+     *
+     * @return The metrics of the deserialization
+     */
+    public JsonMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Keeps the given reference until the object with the id of its value is deserialized.
+     *
+     * @param ref
+     *            the reference
+     */
+    private void deferReference(SingleReference ref) {
+        this.forwardSingleReferences.computeIfAbsent((String) ref.getValue(), key -> new ArrayList<>()).add(ref);
+        if (ref.getFeature().isMany()) {
+            this.pendingValues.computeIfAbsent(ref.getObject(), key -> new HashMap<>()) //
+                    .computeIfAbsent(ref.getFeature(), key -> new PendingValues()).positions.set(ref.getPosition());
+        }
+        this.deferredReferenceCount++;
+    }
+
+    /**
+     * Sets the id of the given object and the values of the forward references to this object or, if the object is
+     * detached from the resource, keeps its id until it is attached.
+     *
+     * @param eObject
+     *            the object
+     * @param id
+     *            the id of the object
+     */
+    private void registerID(EObject eObject, String id) {
+        if (this.detachedIDs != null) {
+            this.detachedIDs.put(eObject, id);
+        } else {
+            this.resource.setID(eObject, id);
+            this.handleForwardReference(id, eObject);
+        }
+    }
+
+    /**
+     * Sets the values of the forward references to the object which has just been registered with the given id.
+     *
+     * @param id
+     *            the id of the object
+     * @param eObject
+     *            the object
+     */
+    private void handleForwardReference(String id, EObject eObject) {
+        if (this.forwardSingleReferences.containsKey(id) && this.helper.getResource().getEObject(id) == eObject) {
+            this.metrics.start(JsonMetrics.Phase.FORWARD_REFERENCE_RESOLUTION);
+            try {
+                for (SingleReference ref : this.forwardSingleReferences.remove(id)) {
+                    this.setFeatureValue(ref.getObject(), ref.getFeature(), eObject, ref.getPosition());
+                }
+            } finally {
+                this.metrics.stop(JsonMetrics.Phase.FORWARD_REFERENCE_RESOLUTION);
+            }
+        }
+    }
+
+    /**
+     * Check if the values of the forward references have been set. If not, set them.
+     */
+    private void handleForwardReference() {
+        JsonResourceEvents.ForwardReferenceResolutionEvent event = null;
+        if (JsonResourceEvents.isAvailable()) {
+            event = new JsonResourceEvents.ForwardReferenceResolutionEvent();
+            event.begin();
+        }
+        this.metrics.start(JsonMetrics.Phase.FORWARD_REFERENCE_RESOLUTION);
+        try {
+            for (Entry<String, List<SingleReference>> entry : this.forwardSingleReferences.entrySet()) {
+                EObject obj = this.helper.getResource().getEObject(entry.getKey());
+                if (obj != null) {
+                    for (SingleReference ref : entry.getValue()) {
+                        this.setFeatureValue(ref.getObject(), ref.getFeature(), obj, ref.getPosition());
+                    }
+                } else {
+                    this.unresolvedReferenceCount += entry.getValue().size();
+                }
+            }
+            this.forwardSingleReferences.clear();
+            this.pendingValues.clear();
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.FORWARD_REFERENCE_RESOLUTION);
+        }
+        if (event != null) {
+            event.commit(this.resource, this.deferredReferenceCount, this.unresolvedReferenceCount);
         }
     }
 
@@ -358,7 +1171,18 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
             // for opposite references there are some references already set
             if (feature.isMany()) {
                 Object eGet = this.helper.getValue(object, feature);
-                if (eGet instanceof InternalEList<?>) {
+                PendingValues pending = this.pendingValues.getOrDefault(object, Collections.emptyMap()).get(feature);
+                if (eGet instanceof InternalEList<?> && pending != null) {
+                    @SuppressWarnings("unchecked")
+                    InternalEList<Object> list = (InternalEList<Object>) eGet;
+                    pending.positions.clear(position);
+                    if (!pending.contains(list, (EReference) feature, value)) {
+                        // The values with a lower position which are still waiting are not in the list yet
+                        int index = position - pending.positions.get(0, position).cardinality();
+                        list.addUnique(Math.min(index, list.size()), value);
+                        pending.add(value);
+                    }
+                } else if (eGet instanceof InternalEList<?>) {
                     @SuppressWarnings("unchecked")
                     InternalEList<Object> list = (InternalEList<Object>) eGet;
                     if (!list.contains(value)) {
@@ -384,8 +1208,14 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      * @return an object created from a given String
      */
     private Object createFromString(EFactory eFactoryInstance, EDataType eDataType, String value) {
-        Object obj = eFactoryInstance.createFromString(eDataType, value);
-        // TODO: extended MetaData field
+        Object obj = null;
+        this.metrics.start(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+        try {
+            obj = eFactoryInstance.createFromString(eDataType, value);
+            // TODO: extended MetaData field
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+        }
         return obj;
     }
 
@@ -403,21 +1233,31 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
 
         JsonElement eClassJsonElement = object.get(IGsonConstants.ECLASS);
         if (!eClassJsonElement.isJsonNull()) {
-            EClassifier eClassifier = this.getEClass(object, eClassJsonElement);
+            EClassifier eClassifier = this.getEClass(eClassJsonElement.getAsString());
             eObject = this.deserializeEClassifier(eClassifier, object, isTopObject);
         }
 
-        if (eObject != null) {
-            if (this.eObjectHandler != null) {
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            if (eObject != null && this.eObjectHandler != null) {
                 this.eObjectHandler.processDeserializedContent(eObject, object);
             }
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
 
+        if (eObject != null) {
             JsonElement idJsonElement = object.get(IGsonConstants.ID);
             if (idJsonElement != null && this.resource != null) {
-                this.resource.setID(eObject, idJsonElement.getAsString());
+                this.registerID(eObject, idJsonElement.getAsString());
             }
         }
-        this.jsonResourceProcessor.postObjectLoading(this.resource, eObject, object, isTopObject);
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            this.jsonResourceProcessor.postObjectLoading(this.resource, eObject, object, isTopObject);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
         return eObject;
     }
 
@@ -434,16 +1274,37 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      * @return the EObject newly created by the deserialization.
      */
     private EObject deserializeEClassifier(EClassifier eClassifier, JsonObject jsonObject, boolean addToContent) {
-        EObject eObject = null;
-        if (eClassifier instanceof EClass) {
-            EClass eClass = (EClass) eClassifier;
-            eObject = EcoreUtil.create(eClass);
-            if (addToContent) {
-                this.addToContent(eObject);
-            }
+        EObject eObject = this.createEObject(eClassifier, addToContent);
+        if (eObject != null) {
             JsonObject properties = jsonObject.getAsJsonObject(IGsonConstants.DATA);
 
-            this.deserializeData(properties, eClass, eObject);
+            this.deserializeData(properties, (EClass) eClassifier, eObject);
+        }
+        return eObject;
+    }
+
+    /**
+     * Creates an EObject with the given EClassifier as EType.
+     *
+     * @param eClassifier
+     *            the EClassifier
+     * @param addToContent
+     *            <code>true</code> to add the EObject to the content of the resource
+     * @return the EObject newly created or <code>null</code> if the EClassifier is not an EClass
+     */
+    private EObject createEObject(EClassifier eClassifier, boolean addToContent) {
+        EObject eObject = null;
+        this.metrics.start(JsonMetrics.Phase.OBJECT_CREATION);
+        try {
+            if (eClassifier instanceof EClass eClass) {
+                eObject = EcoreUtil.create(eClass);
+                if (addToContent) {
+                    this.addToContent(eObject);
+                }
+                this.metrics.increment(JsonMetrics.Counter.OBJECTS);
+            }
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.OBJECT_CREATION);
         }
         return eObject;
     }
@@ -462,17 +1323,141 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
         if (properties != null) {
             Set<Entry<String, JsonElement>> entrySet = properties.entrySet();
             for (Entry<String, JsonElement> entry : entrySet) {
-                EStructuralFeature eStructuralFeature = eClass.getEStructuralFeature(entry.getKey());
-                if (this.extendedMetaData != null) {
-                    eStructuralFeature = this.extendedMetaData.getElement(eClass, eClass.getEPackage().getNsURI(), entry.getKey());
+                FeatureHandle handle = this.getLoadedFeatureHandle(eClass, entry.getKey(), eObject);
+                switch (handle.kind) {
+                case ATTRIBUTE:
+                case JSON_ATTRIBUTE:
+                    this.deserializeEAttribute((EAttribute) handle.feature, entry.getValue(), eObject);
+                    break;
+                case CONTAINMENT:
+                    this.deserialziseSingleContainmentEReference((EReference) handle.feature, entry.getValue(), eObject);
+                    break;
+                case MANY_CONTAINMENT:
+                    this.deserializeMultipleContainmentEReference((EReference) handle.feature, entry.getValue(), eObject);
+                    break;
+                case NON_CONTAINMENT:
+                    this.deserializeSingleNonContainmentEReference((EReference) handle.feature, entry.getValue(), eObject);
+                    break;
+                case MANY_NON_CONTAINMENT:
+                    this.deserializeMultipleNonContainmentEReference((EReference) handle.feature, entry.getValue(), eObject);
+                    break;
+                case ECORE_REFERENCE:
+                    this.deserializeEReference((EReference) handle.feature, entry.getValue(), eObject);
+                    break;
+                default:
+                    // Unknown key
                 }
-                if (eStructuralFeature instanceof EAttribute) {
-                    this.deserializeEAttribute((EAttribute) eStructuralFeature, entry.getValue(), eObject);
-                } else if (eStructuralFeature instanceof EReference) {
-                    this.deserializeEReference((EReference) eStructuralFeature, entry.getValue(), eObject);
+            }
+        }
+    }
+
+    /**
+     * Returns the handle of the structural feature of the given EClass matching the given key of the data of the given
+     * object, if it should be loaded according to the {@link EStructuralFeaturesFilter}. Otherwise the returned handle
+     * has no feature, so that the value is skipped without being deserialized.
+     *
+     * @param eClass
+     *            the EClass of the object
+     * @param key
+     *            the key of the data
+     * @param eObject
+     *            the object
+     * @return the handle of the structural feature, with a <code>null</code> feature if none matches the key or if it
+     *         should not be loaded
+     */
+    private FeatureHandle getLoadedFeatureHandle(EClass eClass, String key, EObject eObject) {
+        FeatureHandle handle = this.getFeatureHandle(eClass, key);
+        if (this.eStructuralFeaturesFilter != null && handle.feature != null && !this.eStructuralFeaturesFilter.shouldLoad(eObject, handle.feature)) {
+            handle = this.skippedFeatureHandle;
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the handle of the structural feature of the given EClass matching the given key of the data of an object,
+     * computed the first time the key is found for this EClass.
+     *
+     * @param eClass
+     *            the EClass of the object
+     * @param key
+     *            the key of the data
+     * @return the handle of the structural feature, with a <code>null</code> feature if none matches the key
+     */
+    private FeatureHandle getFeatureHandle(EClass eClass, String key) {
+        Map<String, FeatureHandle> eClassFeatureHandles = this.featureHandles.get(eClass);
+        if (eClassFeatureHandles == null) {
+            eClassFeatureHandles = new HashMap<>();
+            this.featureHandles.put(eClass, eClassFeatureHandles);
+        }
+        FeatureHandle handle = eClassFeatureHandles.get(key);
+        if (handle == null) {
+            EStructuralFeature eStructuralFeature = null;
+            if (this.metamodelCache != null) {
+                eStructuralFeature = this.metamodelCache.getEStructuralFeature(eClass, key, this::getEStructuralFeature);
+            } else {
+                eStructuralFeature = this.getEStructuralFeature(eClass, key);
+            }
+            handle = new FeatureHandle(eStructuralFeature);
+            eClassFeatureHandles.put(key, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the way the value of the given structural feature is deserialized.
+     *
+     * @param eStructuralFeature
+     *            the structural feature or <code>null</code>
+     * @return the kind of the structural feature
+     */
+    private FeatureKind getFeatureKind(EStructuralFeature eStructuralFeature) {
+        FeatureKind kind = FeatureKind.UNKNOWN;
+        if (eStructuralFeature instanceof EAttribute eAttribute) {
+            if (this.shouldEDataTypeBeSerializedInJson(eAttribute.getEAttributeType())) {
+                kind = FeatureKind.JSON_ATTRIBUTE;
+            } else {
+                kind = FeatureKind.ATTRIBUTE;
+            }
+        } else if (eStructuralFeature instanceof EReference eReference) {
+            String referenceName = eReference.getName();
+            if (eReference.isContainment() && eReference.isMany()) {
+                if (ECORE_CONTAINMENT_REFERENCE_NAMES.contains(referenceName)) {
+                    kind = FeatureKind.ECORE_REFERENCE;
+                } else {
+                    kind = FeatureKind.MANY_CONTAINMENT;
+                }
+            } else if (eReference.isContainment()) {
+                if (IGsonConstants.EGENERICTYPE.equals(referenceName)) {
+                    kind = FeatureKind.ECORE_REFERENCE;
+                } else {
+                    kind = FeatureKind.CONTAINMENT;
                 }
+            } else if (eReference.isMany()) {
+                kind = FeatureKind.MANY_NON_CONTAINMENT;
+            } else {
+                kind = FeatureKind.NON_CONTAINMENT;
             }
         }
+        return kind;
+    }
+
+    /**
+     * Returns the structural feature of the given EClass matching the given key of the data of an object.
+     *
+     * @param eClass
+     *            the EClass of the object
+     * @param key
+     *            the key of the data
+     * @return the structural feature or <code>null</code> if none matches the key
+     */
+    private EStructuralFeature getEStructuralFeature(EClass eClass, String key) {
+        EStructuralFeature eStructuralFeature = null;
+        if (this.extendedMetaData != null) {
+            eStructuralFeature = this.extendedMetaData.getElement(eClass, eClass.getEPackage().getNsURI(), key);
+        } else {
+            eStructuralFeature = eClass.getEStructuralFeature(key);
+        }
+        return eStructuralFeature;
     }
 
     /**
@@ -512,59 +1497,98 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      *            the EObject
      */
     private void deserializeSingleNonContainmentEReference(EReference eReference, JsonElement value, EObject eObject) {
-        String id = this.getAsFlexibleString(value);
-        id = this.jsonResourceProcessor.getEObjectUri(this.resource, eObject, eReference, id);
+        this.resolveSingleNonContainmentEReference(eReference, this.getAsFlexibleString(value), eObject);
+    }
+
+    /**
+     * Associate the object referenced by the given value to the given non-containment EReference of the given EObject.
+     *
+     * @param eReference
+     *            the EReference
+     * @param value
+     *            the referenced Object uri
+     * @param eObject
+     *            the EObject
+     */
+    private void resolveSingleNonContainmentEReference(EReference eReference, String value, EObject eObject) {
+        this.metrics.start(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        try {
+            this.metrics.increment(JsonMetrics.Counter.REFERENCES);
+            String id = null;
+            this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+            try {
+                id = this.jsonResourceProcessor.getEObjectUri(this.resource, eObject, eReference, value);
+            } finally {
+                this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+            }
 
-        String qualifiedType = null;
+            String qualifiedType = null;
 
-        String[] split = id.split(" "); //$NON-NLS-1$
-        if (split.length == 2) {
-            qualifiedType = split[0];
-            id = split[1];
-        }
+            String[] split = id.split(" "); //$NON-NLS-1$
+            if (split.length == 2) {
+                qualifiedType = split[0];
+                id = split[1];
+            }
 
-        if (id.startsWith("&") && this.resourceEntityHandler != null) { //$NON-NLS-1$
-            id = this.handleResourceEntity(id).toString();
-        }
+            if (id.startsWith("&") && this.resourceEntityHandler != null) { //$NON-NLS-1$
+                id = this.handleResourceEntity(id).toString();
+            }
 
-        int index = id.indexOf(IGsonConstants.FRAGMENT_SEPARATOR, 0);
-        if (index != -1) {
-            String fragmentEMF = id.substring(index + 1, id.length()); // Where I can find the EObject in the
-            // Resource
-            if (index == 0) {
-                // Fragments in Ecore resource
-                EObject object = this.helper.getResource().getEObject(fragmentEMF);
-                if (object == null) {
-                    SingleReference singleReference = new SingleReference(eObject, eReference, fragmentEMF, 0);
-                    this.forwardSingleReferences.add(singleReference);
+            int index = id.indexOf(IGsonConstants.FRAGMENT_SEPARATOR, 0);
+            if (index != -1) {
+                String fragmentEMF = id.substring(index + 1, id.length()); // Where I can find the EObject in the
+                // Resource
+                if (index == 0) {
+                    // Fragments in Ecore resource
+                    EObject object = this.getResourceEObject(fragmentEMF);
+                    if (object == null) {
+                        this.deferReference(new SingleReference(eObject, eReference, fragmentEMF, 0));
+                    } else {
+                        this.helper.setValue(eObject, eReference, object);
+                    }
                 } else {
+                    String resourceURIPath = id.substring(0, index); // The URI of the resource where I can find
+                    // the EObject
+                    EPackage ePackage = this.getPackageForURI(resourceURIPath); // return an EPackage only if the
+                    // URI represent an EPackage
+                    Resource packageResource = null;
+                    EObject object = null;
+                    if (ePackage != null) {
+                        packageResource = ePackage.eResource();
+                        object = packageResource.getEObject(fragmentEMF);
+                    } else {
+                        object = this.createProxyEObject(id, qualifiedType, eReference);
+                    }
                     this.helper.setValue(eObject, eReference, object);
                 }
             } else {
-                String resourceURIPath = id.substring(0, index); // The URI of the resource where I can find
-                // the EObject
-                EPackage ePackage = this.getPackageForURI(resourceURIPath); // return an EPackage only if the
-                // URI represent an EPackage
-                Resource packageResource = null;
-                EObject object = null;
-                if (ePackage != null) {
-                    packageResource = ePackage.eResource();
-                    object = packageResource.getEObject(fragmentEMF);
+                // When Fragments in non Ecore Resource
+                EObject resolvedEObject = this.getResourceEObject(id);
+                if (resolvedEObject != null) {
+                    this.helper.setValue(eObject, eReference, resolvedEObject);
                 } else {
-                    object = this.createProxyEObject(id, qualifiedType, eReference);
+                    this.deferReference(new SingleReference(eObject, eReference, id, 0));
                 }
-                this.helper.setValue(eObject, eReference, object);
-            }
-        } else {
-            // When Fragments in non Ecore Resource
-            EObject resolvedEObject = this.helper.getResource().getEObject(id);
-            if (resolvedEObject != null) {
-                this.helper.setValue(eObject, eReference, resolvedEObject);
-            } else {
-                SingleReference singleReference = new SingleReference(eObject, eReference, id, 0);
-                this.forwardSingleReferences.add(singleReference);
             }
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        }
+    }
+
+    /**
+     * Returns the object of the resource with the given URI fragment, if it can already be found. The objects detached
+     * from the resource cannot be found before they are attached, so the references to them are always deferred.
+     *
+     * @param uriFragment
+     *            the URI fragment of the object
+     * @return the object or <code>null</code> if it cannot be found yet
+     */
+    private EObject getResourceEObject(String uriFragment) {
+        EObject eObject = null;
+        if (this.detachedIDs == null) {
+            eObject = this.helper.getResource().getEObject(uriFragment);
         }
+        return eObject;
     }
 
     /**
@@ -580,25 +1604,37 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      */
     private EObject createProxyEObject(String id, String qualifiedType, EReference eReference) {
         EObject proxyEObject = null;
+        this.metrics.start(JsonMetrics.Phase.PROXY_CREATION);
+        try {
+            URI toResolveURI = URI.createURI(id);
 
-        URI toResolveURI = URI.createURI(id);
-
-        if (qualifiedType != null) {
-            EClass eType = this.typeCache.computeIfAbsent(qualifiedType, this::resolveType);
-            if (eType != null) {
-                proxyEObject = eType.getEPackage().getEFactoryInstance().create(eType);
-                URI resolvedURI = toResolveURI.resolve(this.resourceURI);
-                ((InternalEObject) proxyEObject).eSetProxyURI(resolvedURI);
-            }
-        } else {
-            EClass eType = eReference.getEReferenceType();
-            if (!eType.isAbstract()) {
-                proxyEObject = eType.getEPackage().getEFactoryInstance().create(eType);
-                if (proxyEObject != null) {
+            if (qualifiedType != null) {
+                EClass eType = null;
+                if (this.metamodelCache != null) {
+                    eType = this.metamodelCache.getType(this.resourceSet.getPackageRegistry(), qualifiedType, this::resolveType);
+                } else {
+                    eType = this.typeCache.computeIfAbsent(qualifiedType, this::resolveType);
+                }
+                if (eType != null) {
+                    proxyEObject = eType.getEPackage().getEFactoryInstance().create(eType);
                     URI resolvedURI = toResolveURI.resolve(this.resourceURI);
                     ((InternalEObject) proxyEObject).eSetProxyURI(resolvedURI);
                 }
+            } else {
+                EClass eType = eReference.getEReferenceType();
+                if (!eType.isAbstract()) {
+                    proxyEObject = eType.getEPackage().getEFactoryInstance().create(eType);
+                    if (proxyEObject != null) {
+                        URI resolvedURI = toResolveURI.resolve(this.resourceURI);
+                        ((InternalEObject) proxyEObject).eSetProxyURI(resolvedURI);
+                    }
+                }
             }
+            if (proxyEObject != null) {
+                this.metrics.increment(JsonMetrics.Counter.PROXIES);
+            }
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.PROXY_CREATION);
         }
         return proxyEObject;
     }
@@ -617,11 +1653,14 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
             if (splitType.length == 2) {
                 String packageName = splitType[0];
                 String eClassName = splitType[1];
-                Optional<EPackage> packageOpt = this.resourceSet.getPackageRegistry().values().stream()
-                        .filter(EPackage.class::isInstance)
-                        .map(EPackage.class::cast)
-                        .filter(pkg -> pkg.getName().equals(packageName))
-                        .findFirst();
+                Optional<EPackage> packageOpt = null;
+                synchronized (this.resourceSetLock) {
+                    packageOpt = this.resourceSet.getPackageRegistry().values().stream()
+                            .filter(EPackage.class::isInstance)
+                            .map(EPackage.class::cast)
+                            .filter(pkg -> pkg.getName().equals(packageName))
+                            .findFirst();
+                }
                 if (packageOpt.isPresent()) {
                     Optional<EClass> eClass = packageOpt.get().getEClassifiers().stream()
                             .filter(clazz -> eClassName.equals(clazz.getName()))
@@ -673,67 +1712,122 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      */
     private void deserializeMultipleNonContainmentEReference(EReference eReference, JsonElement value, EObject eObject) {
         JsonArray array = this.getAsFlexibleArray(value);
-        for (int i = 0; i < array.size(); ++i) {
-            String id = array.get(i).getAsString();
-            id = this.jsonResourceProcessor.getEObjectUri(this.resource, eObject, eReference, id);
+        List<String> values = new ArrayList<>(array.size());
+        for (JsonElement jsonElement : array) {
+            values.add(jsonElement.getAsString());
+        }
+        this.resolveMultipleNonContainmentEReference(eReference, values, eObject);
+    }
 
-            String qualifiedType = null;
+    /**
+     * Associate the objects referenced by the given values to the given non-containment EReference of the given
+     * EObject.
+     *
+     * @param eReference
+     *            the EReference
+     * @param values
+     *            referenced Objects uri
+     * @param eObject
+     *            the EObject
+     */
+    private void resolveMultipleNonContainmentEReference(EReference eReference, List<String> values, EObject eObject) {
+        // The resolved objects are added at once to avoid checking the whole list for each of them
+        this.metrics.start(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        try {
+            this.metrics.add(JsonMetrics.Counter.REFERENCES, values.size());
+            List<EObject> resolvedEObjects = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); ++i) {
+                String id = null;
+                this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+                try {
+                    id = this.jsonResourceProcessor.getEObjectUri(this.resource, eObject, eReference, values.get(i));
+                } finally {
+                    this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+                }
 
-            String[] split = id.split(" "); //$NON-NLS-1$
-            if (split.length == 2) {
-                qualifiedType = split[0];
-                id = split[1];
-            }
+                String qualifiedType = null;
 
-            if (id.startsWith("&") && this.resourceEntityHandler != null) { //$NON-NLS-1$
-                id = this.handleResourceEntity(id).toString();
-            }
+                String[] split = id.split(" "); //$NON-NLS-1$
+                if (split.length == 2) {
+                    qualifiedType = split[0];
+                    id = split[1];
+                }
 
-            int index = id.indexOf(IGsonConstants.FRAGMENT_SEPARATOR);
-            if (index != -1) {
-                String fragmentEMF = id.substring(index + 1, id.length());
-                if (index == 0) {
-                    EObject object = this.helper.getResource().getEObject(fragmentEMF);
-                    if (object == null) {
-                        // The reference may not be in the resource yet
-                        SingleReference singleReference = new SingleReference(eObject, eReference, fragmentEMF, i);
-                        this.forwardSingleReferences.add(singleReference);
+                if (id.startsWith("&") && this.resourceEntityHandler != null) { //$NON-NLS-1$
+                    id = this.handleResourceEntity(id).toString();
+                }
+
+                int index = id.indexOf(IGsonConstants.FRAGMENT_SEPARATOR);
+                if (index != -1) {
+                    String fragmentEMF = id.substring(index + 1, id.length());
+                    if (index == 0) {
+                        EObject object = this.getResourceEObject(fragmentEMF);
+                        if (object == null) {
+                            // The reference may not be in the resource yet
+                            this.deferReference(new SingleReference(eObject, eReference, fragmentEMF, i));
+                        } else {
+                            resolvedEObjects.add(object);
+                        }
                     } else {
-                        this.helper.setUniqueValue(eObject, eReference, object);
+                        String resourceURIPath = id.substring(0, index);
+                        EPackage ePackage = this.getPackageForURI(resourceURIPath);
+                        Resource packageResource = null;
+                        EObject object = null;
+                        if (ePackage != null) {
+                            packageResource = ePackage.eResource();
+                            object = packageResource.getEObject(fragmentEMF);
+                        } else {
+                            object = this.createProxyEObject(id, qualifiedType, eReference);
+                        }
+                        resolvedEObjects.add(object);
                     }
                 } else {
-                    String resourceURIPath = id.substring(0, index);
-                    EPackage ePackage = this.getPackageForURI(resourceURIPath);
-                    Resource packageResource = null;
-                    EObject object = null;
-                    if (ePackage != null) {
-                        packageResource = ePackage.eResource();
-                        object = packageResource.getEObject(fragmentEMF);
+                    EObject resolvedEObject = this.getResourceEObject(id);
+                    if (resolvedEObject != null) {
+                        resolvedEObjects.add(resolvedEObject);
                     } else {
-                        object = this.createProxyEObject(id, qualifiedType, eReference);
+                        this.deferReference(new SingleReference(eObject, eReference, id, i));
                     }
-                    this.helper.setUniqueValue(eObject, eReference, object);
-                }
-            } else {
-                EObject resolvedEObject = this.helper.getResource().getEObject(id);
-                if (resolvedEObject != null) {
-                    this.helper.setUniqueValue(eObject, eReference, resolvedEObject);
-                } else {
-                    SingleReference singleReference = new SingleReference(eObject, eReference, id, i);
-                    this.forwardSingleReferences.add(singleReference);
                 }
             }
+            this.helper.setUniqueValues(eObject, eReference, resolvedEObjects);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.REFERENCE_RESOLUTION);
         }
     }
 
     /**
-     * Return an EPackage from a URI String.
+     * Return an EPackage from a URI String, while no other load of the resource set accesses its package registry or
+     * its resources.
      *
      * @param uriString
      *            the URI String representation
      * @return the EPackage corresponding to the given URI String
      */
     private EPackage getPackageForURI(String uriString) {
+        JsonResourceEvents.PackageLookupEvent event = null;
+        if (JsonResourceEvents.isAvailable()) {
+            event = new JsonResourceEvents.PackageLookupEvent();
+            event.begin();
+        }
+        EPackage ePackage = null;
+        synchronized (this.resourceSetLock) {
+            ePackage = this.findPackageForURI(uriString);
+        }
+        if (event != null) {
+            event.commit(this.resource, uriString, ePackage != null);
+        }
+        return ePackage;
+    }
+
+    /**
+     * Return an EPackage from a URI String.
+     *
+     * @param uriString
+     *            the URI String representation
+     * @return the EPackage corresponding to the given URI String
+     */
+    private EPackage findPackageForURI(String uriString) {
         if (uriString == null) {
             return null;
         }
@@ -751,6 +1845,8 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
         }
 
         URI uri = URI.createURI(uriString);
+        boolean pendingResource = false;
+        Resource otherResource = null;
         if (ePackage == null) {
             if (uri.scheme() == null) {
                 // This only works for old globally registered things.
@@ -783,6 +1879,16 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
                 trimmedURI = this.helper.resolve(trimmedURI, this.resourceURI);
 
                 packageResource = this.resourceSet.getResource(trimmedURI, false);
+                if (this.concurrentLoad && packageResource != null && packageResource != this.resource) {
+                    // Whether the resource is still loaded by another thread depends on the timing, so it is only
+                    // checked once all the resources are loaded
+                    otherResource = packageResource;
+                    if (this.isPending(packageResource)) {
+                        // The references to the objects of the resource will be proxies
+                        packageResource = null;
+                        pendingResource = true;
+                    }
+                }
                 if (packageResource != null && !packageResource.isLoaded()) {
                     try {
                         packageResource.load(this.resourceSet.getLoadOptions());
@@ -793,33 +1899,87 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
             }
 
             if (packageResource != null) {
-                Object content = null;
-                List<EObject> contents = packageResource.getContents();
-                if (!contents.isEmpty()) {
-                    content = contents.get(0);
-                }
-                if (!(content instanceof EPackage) && fragment != null) {
-                    content = packageResource.getEObject(fragment);
-                }
-
-                if (content instanceof EPackage) {
-                    ePackage = (EPackage) content;
+                ePackage = this.getResourcePackage(packageResource, fragment);
+                if (ePackage != null) {
                     this.helper.addPackage(ePackage);
                 }
             }
         }
 
-        if (ePackage == null) {
+        if (ePackage == null && !pendingResource) {
             ePackage = this.handleMissingPackage(uriString);
         }
 
-        if (ePackage == null) {
+        if (ePackage == null && otherResource != null) {
+            this.deferPackageCheck(uriString, otherResource, uri.fragment());
+        } else if (ePackage == null) {
             this.helper.getResource().getErrors().add(new PackageNotFoundError(uriString, this.helper.getResourceURI().toString()));
         }
 
         return ePackage;
     }
 
+    /**
+     * Returns the package of the given resource, which is either its first root or the object with the given fragment.
+     *
+     * @param packageResource
+     *            the resource
+     * @param fragment
+     *            the fragment of the URI of the package or <code>null</code>
+     * @return the package or <code>null</code> if the resource has no such package
+     */
+    private EPackage getResourcePackage(Resource packageResource, String fragment) {
+        Object content = null;
+        List<EObject> contents = packageResource.getContents();
+        if (!contents.isEmpty()) {
+            content = contents.get(0);
+        }
+        if (!(content instanceof EPackage) && fragment != null) {
+            content = packageResource.getEObject(fragment);
+        }
+
+        EPackage ePackage = null;
+        if (content instanceof EPackage) {
+            ePackage = (EPackage) content;
+        }
+        return ePackage;
+    }
+
+    /**
+     * Keeps the check of the package with the given URI, which has not been found in the given resource of the
+     * resource set during a concurrent load, to report it once all the resources are loaded, so that the errors do not
+     * depend on the order in which the resources are loaded. Without {@link #packageChecks}, it is never reported.
+     *
+     * @param uriString
+     *            the URI of the package
+     * @param packageResource
+     *            the resource which should contain the package
+     * @param fragment
+     *            the fragment of the URI of the package or <code>null</code>
+     */
+    private void deferPackageCheck(String uriString, Resource packageResource, String fragment) {
+        if (this.packageChecks != null) {
+            Resource resourceWithError = this.helper.getResource();
+            String location = this.helper.getResourceURI().toString();
+            this.packageChecks.add(() -> {
+                if (this.getResourcePackage(packageResource, fragment) == null && this.handleMissingPackage(uriString) == null) {
+                    resourceWithError.getErrors().add(new PackageNotFoundError(uriString, location));
+                }
+            });
+        }
+    }
+
+    /**
+     * Indicates if the given resource is not loaded yet or is still being loaded.
+     *
+     * @param resource
+     *            the resource
+     * @return <code>true</code> if the resource is not completely loaded, <code>false</code> otherwise
+     */
+    private boolean isPending(Resource resource) {
+        return !resource.isLoaded() || resource instanceof Resource.Internal && ((Resource.Internal) resource).isLoading();
+    }
+
     /**
      * Associate the given value to the given containment EReference of the given EObject. The value is considered as an
      * array.
@@ -866,16 +2026,32 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
                 JsonObject properties = jsonObject.getAsJsonObject(IGsonConstants.DATA);
                 eReferenceValue = this.loadReferences(EcorePackage.Literals.EPACKAGE, properties);
                 EPackage ePackage = (EPackage) eReferenceValue;
-                this.resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+                synchronized (this.resourceSetLock) {
+                    this.resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+                }
             } else {
                 eReferenceValue = this.loadObject(jsonObject, false);
             }
-            Object eGet = this.helper.getValue(eObject, eReference);
-            if (eGet instanceof Collection<?> && eReferenceValue != null) {
-                @SuppressWarnings("unchecked")
-                Collection<Object> collection = (Collection<Object>) eGet;
-                collection.add(eReferenceValue);
-            }
+            this.addContainedValue(eObject, eReference, eReferenceValue);
+        }
+    }
+
+    /**
+     * Adds the given value to the given multi-valued containment EReference of the given EObject.
+     *
+     * @param eObject
+     *            the EObject
+     * @param eReference
+     *            the EReference
+     * @param eReferenceValue
+     *            the value to add, ignored if <code>null</code>
+     */
+    private void addContainedValue(EObject eObject, EReference eReference, EObject eReferenceValue) {
+        Object eGet = this.helper.getValue(eObject, eReference);
+        if (eGet instanceof Collection<?> && eReferenceValue != null) {
+            @SuppressWarnings("unchecked")
+            Collection<Object> collection = (Collection<Object>) eGet;
+            collection.add(eReferenceValue);
         }
     }
 
@@ -945,7 +2121,12 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
         if (!eAttribute.isMany()) {
             Object value = null;
             if (this.shouldEDataTypeBeSerializedInJson(dataType)) {
-                value = new Gson().fromJson(jsonElement, eAttribute.getEType().getInstanceClass());
+                this.metrics.start(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+                try {
+                    value = this.eDataTypeGson.fromJson(jsonElement, dataType.getInstanceClass());
+                } finally {
+                    this.metrics.stop(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+                }
             } else {
                 String newValue = this.getAsFlexibleString(jsonElement);
                 value = this.tryCreateDataTypeFromString(dataType, newValue);
@@ -958,7 +2139,12 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
                 for (JsonElement jElement : asJsonArray) {
                     Object value = null;
                     if (this.shouldEDataTypeBeSerializedInJson(dataType)) {
-                        value = new Gson().fromJson(jElement, eAttribute.getEType().getInstanceClass());
+                        this.metrics.start(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+                        try {
+                            value = this.eDataTypeGson.fromJson(jElement, dataType.getInstanceClass());
+                        } finally {
+                            this.metrics.stop(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
+                        }
                     } else {
                         value = this.tryCreateDataTypeFromString(dataType, jElement.getAsString());
                     }
@@ -978,9 +2164,7 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      * @return true if the given {@link EDataType} should be deserialized from a Json tree.
      */
     private boolean shouldEDataTypeBeSerializedInJson(EDataType eDataType) {
-        @SuppressWarnings("unchecked")
-        Predicate<EDataType> shouldEDataTypeBeSerializedInJsonPredicate = (Predicate<EDataType>) this.options.get(JsonResource.OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE);
-        return shouldEDataTypeBeSerializedInJsonPredicate != null && shouldEDataTypeBeSerializedInJsonPredicate.test(eDataType);
+        return this.shouldEDataTypeBeSerializedInJsonPredicate != null && this.shouldEDataTypeBeSerializedInJsonPredicate.test(eDataType);
     }
 
     /**
@@ -996,10 +2180,15 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
      */
     private Object tryCreateDataTypeFromString(EDataType dataType, String serializedValue) {
         Object value;
+        this.metrics.start(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
         try {
-            value = EcoreUtil.createFromString(dataType, serializedValue);
-        } catch (IllegalArgumentException e) {
-            value = serializedValue;
+            try {
+                value = EcoreUtil.createFromString(dataType, serializedValue);
+            } catch (IllegalArgumentException e) {
+                value = serializedValue;
+            }
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.DATA_TYPE_CONVERSION);
         }
         return value;
     }
@@ -1067,15 +2256,34 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
     }
 
     /**
-     * Return the EClassifier from the given jsonObject if it exist, otherwise return <code>null</code>.
+     * Return the EClassifier matching the given qualified name if it exist, otherwise return <code>null</code>. The
+     * EClassifiers found are kept for the other objects of the document.
      *
-     * @param object
-     *            the given JsonObject
-     * @param eClassJsonElement
-     * @return the EClassifier from the given jsonObject if it exist, otherwise return <code>null</code>
+     * @param jsonEClass
+     *            the qualified name of the EClassifier (e.g. "ecore:EClass")
+     * @return the EClassifier matching the given qualified name if it exist, otherwise return <code>null</code>
+     */
+    private EClassifier getEClass(String jsonEClass) {
+        EClassifier eClassifier = this.eClassifiers.get(jsonEClass);
+        if (eClassifier == null) {
+            synchronized (this.resourceSetLock) {
+                eClassifier = this.findEClass(jsonEClass);
+            }
+            if (eClassifier != null) {
+                this.eClassifiers.put(jsonEClass, eClassifier);
+            }
+        }
+        return eClassifier;
+    }
+
+    /**
+     * Return the EClassifier matching the given qualified name if it exist, otherwise return <code>null</code>.
+     *
+     * @param jsonEClass
+     *            the qualified name of the EClassifier (e.g. "ecore:EClass")
+     * @return the EClassifier matching the given qualified name if it exist, otherwise return <code>null</code>
      */
-    private EClassifier getEClass(JsonObject object, JsonElement eClassJsonElement) {
-        String jsonEClass = eClassJsonElement.getAsString();
+    private EClassifier findEClass(String jsonEClass) {
 
         String nsPrefix = jsonEClass;
         String className = jsonEClass;
@@ -1090,7 +2298,12 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
 
         EPackage ePackage = null;
         if (this.resourceSet != null) {
-            ePackage = this.resourceSet.getPackageRegistry().getEPackage(nsUri);
+            EPackage.Registry registry = this.resourceSet.getPackageRegistry();
+            if (this.metamodelCache != null && nsUri != null) {
+                ePackage = this.metamodelCache.getEPackage(registry, nsUri, registry::getEPackage);
+            } else {
+                ePackage = registry.getEPackage(nsUri);
+            }
         }
 
         if (ePackage == null) {
@@ -1188,13 +2401,141 @@ public class GsonEObjectDeserializer implements JsonDeserializer<List<EObject>>
     }
 
     /**
-     * Add the given EObject to the Resource and the list of content.
+     * The way the value of a structural feature is deserialized.
+     */
+    private enum FeatureKind {
+        /**
+         * An attribute deserialized from a string.
+         */
+        ATTRIBUTE,
+
+        /**
+         * An attribute deserialized from a Json tree.
+         */
+        JSON_ATTRIBUTE,
+
+        /**
+         * A single-valued containment reference.
+         */
+        CONTAINMENT,
+
+        /**
+         * A many-valued containment reference.
+         */
+        MANY_CONTAINMENT,
+
+        /**
+         * A single-valued non containment reference.
+         */
+        NON_CONTAINMENT,
+
+        /**
+         * A many-valued non containment reference.
+         */
+        MANY_NON_CONTAINMENT,
+
+        /**
+         * A containment reference of Ecore which needs a specific processing.
+         */
+        ECORE_REFERENCE,
+
+        /**
+         * A key which does not match any structural feature.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * The structural feature matching a key of the data of the objects of an EClass.
+     */
+    private final class FeatureHandle {
+
+        /**
+         * The structural feature or <code>null</code> if none matches the key.
+         */
+        private final EStructuralFeature feature;
+
+        /**
+         * The way the value of the structural feature is deserialized.
+         */
+        private final FeatureKind kind;
+
+        /**
+         * The constructor.
+         *
+         * @param feature
+         *            the structural feature or <code>null</code> if none matches the key
+         */
+        FeatureHandle(EStructuralFeature feature) {
+            this.feature = feature;
+            this.kind = GsonEObjectDeserializer.this.getFeatureKind(feature);
+        }
+    }
+
+    /**
+     * The forward references waiting to be inserted in a many-valued feature of an object.
+     */
+    private static final class PendingValues {
+
+        /**
+         * The positions of the values which are not in the list yet.
+         */
+        private final BitSet positions = new BitSet();
+
+        /**
+         * The values of the list, computed the first time a value is inserted.
+         */
+        private Set<Object> values;
+
+        /**
+         * Indicates if the given list already contains the given value. The values of the list are only indexed when
+         * the reference has no opposite since the opposite reference may also add values in the list.
+         *
+         * @param list
+         *            the list of the values of the reference
+         * @param eReference
+         *            the reference
+         * @param value
+         *            the value
+         * @return <code>true</code> if the value is already in the list, <code>false</code> otherwise
+         */
+        private boolean contains(List<Object> list, EReference eReference, Object value) {
+            boolean contains = false;
+            if (eReference.getEOpposite() != null) {
+                contains = list.contains(value);
+            } else {
+                if (this.values == null) {
+                    this.values = Collections.newSetFromMap(new IdentityHashMap<>());
+                    this.values.addAll(list);
+                }
+                contains = this.values.contains(value);
+            }
+            return contains;
+        }
+
+        /**
+         * Indexes the given value inserted in the list.
+         *
+         * @param value
+         *            the value
+         */
+        private void add(Object value) {
+            if (this.values != null) {
+                this.values.add(value);
+            }
+        }
+    }
+
+    /**
+     * Add the given EObject to the Resource, unless the objects are detached from it, and the list of content.
      *
      * @param eObject
      *            the given EObject
      */
     private void addToContent(EObject eObject) {
-        this.helper.getResource().getContents().add(eObject);
+        if (this.detachedIDs == null) {
+            this.helper.getResource().getContents().add(eObject);
+        }
         this.rootElements.add(eObject);
     }
 
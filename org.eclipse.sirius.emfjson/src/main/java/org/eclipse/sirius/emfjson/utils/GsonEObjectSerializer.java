@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,19 +20,31 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.security.InvalidParameterException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -72,6 +84,7 @@ import org.eclipse.sirius.emfjson.resource.JsonResource.IJsonResourceProcessor;
 import org.eclipse.sirius.emfjson.resource.JsonResource.ISerializationListener;
 import org.eclipse.sirius.emfjson.resource.JsonResource.ResourceEntityHandler;
 import org.eclipse.sirius.emfjson.resource.exception.DanglingHREFException;
+import org.eclipse.sirius.emfjson.utils.EClassSerializationPlan.FeatureKind;
 
 /**
  * The Gson serializer is responsible for the serialization of EObjects.
@@ -100,6 +113,23 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      */
     private static final char[] DIGITS = new char[] { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
 
+    /**
+     * The Gson used to serialize the values of the EDataTypes when {@link JsonResource#OPTION_EDATATYPE_GSON} is not
+     * set.
+     */
+    private static final Gson DEFAULT_EDATATYPE_GSON = new Gson();
+
+    /**
+     * The adapter used to write the JsonElements computed for small values while streaming.
+     */
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = DEFAULT_EDATATYPE_GSON.getAdapter(JsonElement.class);
+
+    /**
+     * The number of parts of the root objects serialized concurrently for each thread of the pool, to balance the
+     * parts of different sizes.
+     */
+    private static final int PARTS_PER_THREAD = 4;
+
     /**
      * the helper.
      */
@@ -110,6 +140,16 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      */
     private boolean declareSchemaLocation;
 
+    /**
+     * The predicate used to know if a data type is serialized in a Json tree or <code>null</code>.
+     */
+    private Predicate<EDataType> shouldEDataTypeBeSerializedInJsonPredicate;
+
+    /**
+     * The Gson used to serialize the values of the data types serialized in a Json tree.
+     */
+    private Gson eDataTypeGson;
+
     /**
      * The serialization options.
      */
@@ -138,6 +178,63 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
 
     private Resource eResource;
 
+    /**
+     * The Ecore elements serialized during the preparation of a streaming serialization, waiting to be written.
+     */
+    private Map<EObject, JsonElement> preparedEcoreElements = new IdentityHashMap<>();
+
+    /**
+     * The names of the features computed with the extended meta data during the preparation of a streaming
+     * serialization, waiting to be written.
+     */
+    private Map<EObject, Iterator<String>> preparedFeatureNames = new IdentityHashMap<>();
+
+    /**
+     * The serialization plans of the EClasses, which may be shared by several saves.
+     */
+    private Map<EClassSerializationPlan.Key, EClassSerializationPlan> serializationPlans;
+
+    /**
+     * The serialization plans of the EClasses of the serialized objects, found in {@link #serializationPlans} the
+     * first time they are requested.
+     */
+    private final Map<EClass, EClassSerializationPlan> eClassSerializationPlans = new HashMap<>();
+
+    /**
+     * The comparator used to sort the structural features or <code>null</code> to keep their default order.
+     */
+    private Comparator<? super EStructuralFeature> featuresComparator;
+
+    /**
+     * The filter of the structural features to serialize or <code>null</code>.
+     */
+    private EStructuralFeaturesFilter eStructuralFeaturesFilter;
+
+    /**
+     * If the transient structural features should be serialized.
+     */
+    private boolean saveTransientFeatures;
+
+    /**
+     * If the derived structural features should be serialized.
+     */
+    private boolean saveDerivedFeatures;
+
+    /**
+     * If the structural features which are not set should be serialized.
+     */
+    private boolean saveUnsettedFeatures;
+
+    /**
+     * The pool serializing the root objects concurrently or <code>null</code> to serialize them sequentially.
+     */
+    private ForkJoinPool serializationPool;
+
+    /**
+     * The metrics of the serialization, computed when a {@link JsonResource.IMetricsListener} is given.
+     */
+    private JsonMetrics metrics;
+
     /**
      * The constructor.
      *
@@ -189,11 +286,69 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
 
         this.declareSchemaLocation = Boolean.TRUE.equals(options.get(JsonResource.OPTION_SCHEMA_LOCATION));
 
+        @SuppressWarnings("unchecked")
+        Predicate<EDataType> predicate = (Predicate<EDataType>) serializedOptions.get(JsonResource.OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE);
+        this.shouldEDataTypeBeSerializedInJsonPredicate = predicate;
+        Object gson = serializedOptions.get(JsonResource.OPTION_EDATATYPE_GSON);
+        if (gson instanceof Gson) {
+            this.eDataTypeGson = (Gson) gson;
+        } else {
+            this.eDataTypeGson = DEFAULT_EDATATYPE_GSON;
+        }
+
+        this.initializeSerializationPlanOptions(serializedOptions);
+
+        Object parallelSerialization = serializedOptions.get(JsonResource.OPTION_PARALLEL_SERIALIZATION);
+        if (parallelSerialization instanceof ForkJoinPool) {
+            this.serializationPool = (ForkJoinPool) parallelSerialization;
+        } else if (Boolean.TRUE.equals(parallelSerialization)) {
+            this.serializationPool = ForkJoinPool.commonPool();
+        }
+
+        if (serializedOptions.get(JsonResource.OPTION_METRICS_LISTENER) instanceof JsonResource.IMetricsListener) {
+            this.metrics = new JsonMetrics();
+        } else if (JsonResourceEvents.isSaveRecorded()) {
+            this.metrics = JsonMetrics.counters();
+        } else {
+            this.metrics = JsonMetrics.disabled();
+        }
+
         this.helper.setOptions(serializedOptions);
         this.options = serializedOptions;
 
     }
 
+    /**
+     * Reads once the options used to compute the serialization plans of the EClasses.
+     *
+     * @param serializedOptions
+     *            the serialization options
+     */
+    @SuppressWarnings("unchecked")
+    private void initializeSerializationPlanOptions(Map<?, ?> serializedOptions) {
+        Object plans = serializedOptions.get(JsonResource.OPTION_SERIALIZATION_PLAN_CACHE);
+        Object metamodelCache = serializedOptions.get(JsonResource.OPTION_METAMODEL_CACHE);
+        if (plans instanceof Map<?, ?>) {
+            this.serializationPlans = (Map<EClassSerializationPlan.Key, EClassSerializationPlan>) plans;
+        } else if (metamodelCache instanceof JsonMetamodelCache) {
+            this.serializationPlans = ((JsonMetamodelCache) metamodelCache).getSerializationPlans();
+        } else {
+            this.serializationPlans = new HashMap<>();
+        }
+
+        Object orderFeatures = serializedOptions.get(JsonResource.OPTION_SAVE_FEATURES_ORDER_COMPARATOR);
+        if (orderFeatures instanceof Comparator<?>) {
+            this.featuresComparator = (Comparator<? super EStructuralFeature>) orderFeatures;
+        }
+        Object eStructuralFeatureFilter = serializedOptions.get(JsonResource.OPTION_ESTRUCTURAL_FEATURES_FILTER);
+        if (eStructuralFeatureFilter instanceof JsonResource.EStructuralFeaturesFilter) {
+            this.eStructuralFeaturesFilter = (EStructuralFeaturesFilter) eStructuralFeatureFilter;
+        }
+        this.saveTransientFeatures = Boolean.TRUE.equals(serializedOptions.get(JsonResource.OPTION_SAVE_TRANSIENT_FEATURES));
+        this.saveDerivedFeatures = Boolean.TRUE.equals(serializedOptions.get(JsonResource.OPTION_SAVE_DERIVED_FEATURES));
+        this.saveUnsettedFeatures = Boolean.TRUE.equals(serializedOptions.get(JsonResource.OPTION_SAVE_UNSETTED_FEATURES));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -202,29 +357,509 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      */
     @Override
     public JsonElement serialize(List<EObject> eObjects, Type type, JsonSerializationContext context) {
-        JsonArray data = new JsonArray();
-        for (EObject eObject : eObjects) {
-            data.add(this.createData(eObject));
-        }
+        JsonObject jsonObject = new JsonObject();
+        this.metrics.start(JsonMetrics.Phase.SERIALIZATION);
+        try {
+            JsonArray data = null;
+            // The proxies are checked last since all the objects are visited
+            if (this.isConcurrentSerialization(eObjects) && !this.hasProxies(eObjects)) {
+                data = this.createDataConcurrently(eObjects);
+            }
+            if (data == null) {
+                data = new JsonArray();
+                for (EObject eObject : eObjects) {
+                    data.add(this.createData(eObject));
+                }
+            }
 
-        JsonElement jsonHeader = this.createJsonHeader();
-        JsonElement nsHeader = this.createNsHeader();
-        JsonElement schemaLocationHeader = this.createSchemaLocationHeader();
+            JsonElement jsonHeader = this.createJsonHeader();
+            JsonElement nsHeader = this.createNsHeader();
+            JsonElement schemaLocationHeader = this.createSchemaLocationHeader();
 
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.add(IGsonConstants.JSON, jsonHeader);
-        jsonObject.add(IGsonConstants.NS, nsHeader);
+            jsonObject.add(IGsonConstants.JSON, jsonHeader);
+            jsonObject.add(IGsonConstants.NS, nsHeader);
 
-        this.jsonResourceProcessor.postSerialization((JsonResource) this.eResource, jsonObject);
+            this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+            try {
+                this.jsonResourceProcessor.postSerialization((JsonResource) this.eResource, jsonObject);
+            } finally {
+                this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+            }
 
-        if (schemaLocationHeader != null) {
-            jsonObject.add(IGsonConstants.SCHEMA_LOCATION, schemaLocationHeader);
+            if (schemaLocationHeader != null) {
+                jsonObject.add(IGsonConstants.SCHEMA_LOCATION, schemaLocationHeader);
+            }
+            jsonObject.add(IGsonConstants.CONTENT, data);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.SERIALIZATION);
+            // The caches are cleared even if the serialization fails since the helper may be reused by another save
+            this.helper.clearURICaches();
         }
-        jsonObject.add(IGsonConstants.CONTENT, data);
 
         return jsonObject;
     }
 
+    /**
+     * Serializes the given objects directly in the given writer instead of building the whole {@link JsonElement} tree
+     * of the resource first.
+     * <p>
+     * Since the namespace header has to be written before the content, a first pass registers the packages used by the
+     * objects, in the same order as the regular serialization, so that the output is identical. The content is then
+     * written while the objects are visited, only small values such as attributes or non containment references are
+     * converted to {@link JsonElement}. When an {@link IEObjectHandler} is used, the tree of each object is required
+     * and the regular serialization is used. The {@link ISerializationListener} receives {@link JsonNull#INSTANCE} as
+     * the serialization of the streamed objects. The regular serialization is also used when the root objects are
+     * serialized concurrently with {@link JsonResource#OPTION_PARALLEL_SERIALIZATION}.
+     * </p>
+     *
+     * @param eObjects
+     *            The objects to serialize
+     * @param writer
+     *            The writer
+     * @throws IOException
+     *             if the writer fails
+     */
+    public void serialize(List<EObject> eObjects, JsonWriter writer) throws IOException {
+        // Same configuration as the one used by Gson#toJson(Object, Type, JsonWriter)
+        writer.setStrictness(Strictness.LENIENT);
+        writer.setHtmlSafe(false);
+        writer.setSerializeNulls(false);
+
+        if (this.eObjectHandler != null || this.isConcurrentSerialization(eObjects)) {
+            JSON_ELEMENT_ADAPTER.write(writer, this.serialize(eObjects, null, null));
+        } else {
+            this.metrics.start(JsonMetrics.Phase.SERIALIZATION);
+            try {
+                for (EObject eObject : eObjects) {
+                    this.prepareData(eObject);
+                }
+
+                JsonElement jsonHeader = this.createJsonHeader();
+                JsonElement nsHeader = this.createNsHeader();
+                JsonElement schemaLocationHeader = this.createSchemaLocationHeader();
+
+                JsonObject jsonObject = new JsonObject();
+                jsonObject.add(IGsonConstants.JSON, jsonHeader);
+                jsonObject.add(IGsonConstants.NS, nsHeader);
+
+                this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+                try {
+                    this.jsonResourceProcessor.postSerialization((JsonResource) this.eResource, jsonObject);
+                } finally {
+                    this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+                }
+
+                if (schemaLocationHeader != null) {
+                    jsonObject.add(IGsonConstants.SCHEMA_LOCATION, schemaLocationHeader);
+                }
+
+                writer.beginObject();
+                for (Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+                    writer.name(entry.getKey());
+                    JSON_ELEMENT_ADAPTER.write(writer, entry.getValue());
+                }
+                writer.name(IGsonConstants.CONTENT);
+                writer.beginArray();
+                for (EObject eObject : eObjects) {
+                    this.writeData(eObject, writer);
+                }
+                writer.endArray();
+                writer.endObject();
+            } finally {
+                this.metrics.stop(JsonMetrics.Phase.SERIALIZATION);
+                // The caches are cleared even if the serialization fails since the helper may be reused by another save
+                this.preparedEcoreElements.clear();
+                this.preparedFeatureNames.clear();
+                this.helper.clearURICaches();
+            }
+        }
+    }
+
+    /**
+     * Indicates if the given root objects are serialized concurrently. The serialization options whose values keep a
+     * state during the serialization, such as a custom helper, an URI handler, a resource entity handler, an
+     * {@link IDManager}, an {@link IEObjectHandler} or the extended meta data, are not supported and the objects are
+     * serialized sequentially.
+     *
+     * @param eObjects
+     *            the root objects
+     * @return <code>true</code> if the objects are serialized concurrently, <code>false</code> otherwise
+     */
+    private boolean isConcurrentSerialization(List<EObject> eObjects) {
+        return this.serializationPool != null && eObjects.size() > 1 && this.eResource instanceof JsonResource && this.eObjectHandler == null && this.extendedMetaData == null
+                && this.options.get(JsonResource.OPTION_CUSTOM_HELPER) == null && this.options.get(JsonResource.OPTION_URI_HANDLER) == null
+                && this.options.get(JsonResource.OPTION_RESOURCE_ENTITY_HANDLER) == null && this.options.get(JsonResource.OPTION_ID_MANAGER) == null;
+    }
+
+    /**
+     * Indicates if the given root objects or the objects that they contain are proxies or reference proxies, without
+     * resolving them. Since resolving a proxy may load a resource in the resource set, the proxies are resolved by the
+     * sequential serialization only.
+     *
+     * @param eObjects
+     *            the root objects
+     * @return <code>true</code> if a proxy has been found, <code>false</code> otherwise
+     */
+    private boolean hasProxies(List<EObject> eObjects) {
+        boolean hasProxies = false;
+        Iterator<EObject> iterator = EcoreUtil.getAllProperContents(eObjects, false);
+        while (!hasProxies && iterator.hasNext()) {
+            EObject eObject = iterator.next();
+            hasProxies = eObject.eIsProxy();
+            Iterator<EObject> crossReferences = ((InternalEList<EObject>) eObject.eCrossReferences()).basicIterator();
+            while (!hasProxies && crossReferences.hasNext()) {
+                hasProxies = crossReferences.next().eIsProxy();
+            }
+        }
+        return hasProxies;
+    }
+
+    /**
+     * Serializes the given root objects concurrently on the {@link #serializationPool}.
+     * <p>
+     * The objects are split in contiguous parts, each serialized by its own serializer and {@link JsonHelper}. The
+     * packages registered by the helpers of the parts, the dangling references that they have found and the calls to
+     * the {@link ISerializationListener} are then merged in the order of the parts, so that the result is the same as
+     * the one of the sequential serialization. If a part has chosen another prefix for a package than the one chosen
+     * by the sequential serialization, because this prefix is already used by a previous part, the objects have to be
+     * serialized sequentially.
+     * </p>
+     *
+     * @param eObjects
+     *            the root objects
+     * @return the serialized objects or <code>null</code> if they have to be serialized sequentially
+     */
+    private JsonArray createDataConcurrently(List<EObject> eObjects) {
+        Map<EClassSerializationPlan.Key, EClassSerializationPlan> concurrentPlans = null;
+        if (this.serializationPlans instanceof ConcurrentMap<?, ?>) {
+            concurrentPlans = this.serializationPlans;
+        } else {
+            concurrentPlans = new ConcurrentHashMap<>(this.serializationPlans);
+        }
+
+        int size = eObjects.size();
+        int partCount = Math.min(size, this.serializationPool.getParallelism() * PARTS_PER_THREAD);
+        List<ForkJoinTask<SerializedPart>> tasks = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            List<EObject> part = eObjects.subList(i * size / partCount, (i + 1) * size / partCount);
+            Map<EClassSerializationPlan.Key, EClassSerializationPlan> plans = concurrentPlans;
+            tasks.add(this.serializationPool.submit(() -> this.serializePart(part, plans)));
+        }
+        List<SerializedPart> serializedParts = new ArrayList<>(partCount);
+        for (ForkJoinTask<SerializedPart> task : tasks) {
+            serializedParts.add(task.join());
+        }
+        if (concurrentPlans != this.serializationPlans) {
+            this.serializationPlans.putAll(concurrentPlans);
+        }
+
+        boolean hasSamePrefixes = true;
+        for (SerializedPart serializedPart : serializedParts) {
+            hasSamePrefixes = this.helper.registerPackages(serializedPart.helper) && hasSamePrefixes;
+        }
+
+        JsonArray data = null;
+        if (hasSamePrefixes) {
+            data = new JsonArray(size);
+            for (SerializedPart serializedPart : serializedParts) {
+                this.helper.reportDanglingHREFExceptions(serializedPart.helper);
+                if (serializedPart.listener != null) {
+                    serializedPart.listener.replay(this.serializationListener);
+                }
+                data.addAll(serializedPart.data);
+            }
+        }
+        for (SerializedPart serializedPart : serializedParts) {
+            this.metrics.add(serializedPart.metrics);
+        }
+        return data;
+    }
+
+    /**
+     * Serializes the given part of the root objects with a new serializer and a new {@link JsonHelper}.
+     *
+     * @param eObjects
+     *            the part of the root objects
+     * @param plans
+     *            the serialization plans shared by the parts
+     * @return The serialized part
+     */
+    private SerializedPart serializePart(List<EObject> eObjects, Map<EClassSerializationPlan.Key, EClassSerializationPlan> plans) {
+        Map<Object, Object> partOptions = new HashMap<>(this.options);
+        partOptions.remove(JsonResource.OPTION_PARALLEL_SERIALIZATION);
+        partOptions.put(JsonResource.OPTION_SERIALIZATION_PLAN_CACHE, plans);
+        RecordingSerializationListener listener = null;
+        if (!(this.serializationListener instanceof ISerializationListener.NoOp)) {
+            listener = new RecordingSerializationListener();
+            partOptions.put(JsonResource.OPTION_SERIALIZATION_LISTENER, listener);
+        }
+
+        GsonEObjectSerializer serializer = new GsonEObjectSerializer(this.eResource, partOptions);
+        serializer.helper.startPartialSerialization();
+        JsonArray data = new JsonArray(eObjects.size());
+        serializer.metrics.start(JsonMetrics.Phase.SERIALIZATION);
+        try {
+            for (EObject eObject : eObjects) {
+                data.add(serializer.createData(eObject));
+            }
+        } finally {
+            serializer.metrics.stop(JsonMetrics.Phase.SERIALIZATION);
+        }
+        return new SerializedPart(serializer.helper, listener, data, serializer.metrics);
+    }
+
+    /**
+     * Registers the packages used by the serialization of the given object and its content, in the same order as
+     * {@link #createData(EObject)}.
+     *
+     * @param eObject
+     *            the eObject to prepare
+     */
+    private void prepareData(EObject eObject) {
+        if (this.isEcoreElement(eObject)) {
+            if (this.shouldSaveType(eObject.eClass())) {
+                // The serialization of the generic types may register the package of their meta class
+                this.preparedEcoreElements.put(eObject, this.serializeEcoreElement(eObject));
+            }
+        } else if (eObject instanceof EPackage && ((EPackage) eObject).getESuperPackage() != null) {
+            this.prepareEAllStructuralFeatures(eObject);
+        } else {
+            this.helper.getQName(eObject.eClass());
+            this.prepareEAllStructuralFeatures(eObject);
+        }
+    }
+
+    /**
+     * Registers the packages used by the serialization of the structural features of the given object, in the same
+     * order as {@link #serializeEAllStructuralFeatures(EObject)}.
+     *
+     * @param eObject
+     *            the eObject to prepare
+     */
+    private void prepareEAllStructuralFeatures(EObject eObject) {
+        List<String> featureNames = new ArrayList<>();
+        EClassSerializationPlan plan = this.getSerializationPlan(eObject.eClass());
+        for (int i = 0; i < plan.size(); i++) {
+            EStructuralFeature eStructuralFeature = plan.getFeature(i);
+            if (this.shouldSerialize(eObject, plan, i)) {
+                boolean hasValue = true;
+                if (eStructuralFeature instanceof EReference) {
+                    hasValue = this.prepareEReference(eObject, (EReference) eStructuralFeature);
+                } else {
+                    // The name of the feature only registers a package with extended meta data
+                    hasValue = this.extendedMetaData != null && this.serializeEStructuralFeature(eObject, eStructuralFeature, plan.getKind(i)) != null;
+                }
+
+                if (hasValue && this.extendedMetaData != null) {
+                    featureNames.add(this.helper.getQName(eStructuralFeature));
+                }
+            }
+        }
+        if (!featureNames.isEmpty()) {
+            // The extended meta data may not return the same namespace twice
+            this.preparedFeatureNames.put(eObject, featureNames.iterator());
+        }
+    }
+
+    /**
+     * Registers the packages used by the serialization of the given reference, in the same order as
+     * {@link #serializeEReference(EObject, EReference)}.
+     *
+     * @param eObject
+     *            The EObject
+     * @param eReference
+     *            The EReference to prepare
+     * @return <code>true</code> if the reference will be serialized with a value, <code>false</code> otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private boolean prepareEReference(EObject eObject, EReference eReference) {
+        boolean hasValue = true;
+        Object referenceValue = this.helper.getValue(eObject, eReference);
+        if (eReference.isContainment()) {
+            if (eReference.isMany()) {
+                hasValue = referenceValue instanceof Iterable<?>;
+                if (hasValue) {
+                    for (Object object : (Iterable<?>) referenceValue) {
+                        if (object instanceof EObject) {
+                            this.prepareData((EObject) object);
+                        }
+                    }
+                }
+            } else {
+                hasValue = referenceValue instanceof EObject;
+                if (hasValue && !this.isSerializedAsURI(eObject, (EObject) referenceValue)) {
+                    this.prepareData((EObject) referenceValue);
+                }
+            }
+        } else if (this.shouldSaveType(eReference.getEReferenceType())) {
+            if (eReference.isMany()) {
+                if (this.docKindMany(eObject, eReference) == CROSS_DOC) {
+                    for (EObject value : (InternalEList<? extends EObject>) referenceValue) {
+                        if (value != null) {
+                            this.prepareHref(value);
+                        }
+                    }
+                }
+            } else if (this.docKindSingle(eObject, eReference) == CROSS_DOC && referenceValue != null) {
+                this.prepareHref((EObject) referenceValue);
+            }
+        }
+        return hasValue;
+    }
+
+    /**
+     * Registers the package of the type written in front of the HREF of the given object by
+     * {@link #saveHref(EObject, EReference)}.
+     *
+     * @param object
+     *            the referenced object
+     */
+    private void prepareHref(EObject object) {
+        InternalEObject internalEObject = (InternalEObject) object;
+        if (internalEObject.eProxyURI() != null || object.eResource() != null || this.helper.getResource() != null) {
+            this.helper.getQName(object.eClass());
+        }
+    }
+
+    /**
+     * Writes the given object and its content in the writer.
+     *
+     * @param eObject
+     *            the eObject to write
+     * @param writer
+     *            the writer
+     * @throws IOException
+     *             if the writer fails
+     */
+    private void writeData(EObject eObject, JsonWriter writer) throws IOException {
+        JsonElement jsonElement = JsonNull.INSTANCE;
+        if (this.isEcoreElement(eObject)) {
+            jsonElement = this.preparedEcoreElements.remove(eObject);
+            if (jsonElement == null) {
+                jsonElement = this.serializeEcoreElement(eObject);
+            }
+            JSON_ELEMENT_ADAPTER.write(writer, jsonElement);
+        } else if (eObject instanceof EPackage && ((EPackage) eObject).getESuperPackage() != null) {
+            writer.beginObject();
+            this.writeEAllStructuralFeatures(eObject, writer);
+            writer.endObject();
+        } else {
+            writer.beginObject();
+            Object supplierObject = this.options.get(JsonResource.OPTION_ID_MANAGER);
+            if (supplierObject instanceof IDManager) {
+                IDManager idManager = (IDManager) supplierObject;
+                writer.name(IGsonConstants.ID).value(idManager.getOrCreateId(eObject));
+            }
+            writer.name(IGsonConstants.ECLASS).value(this.helper.getQName(eObject.eClass()));
+            this.writeEAllStructuralFeatures(eObject, writer);
+            writer.endObject();
+        }
+        this.metrics.increment(JsonMetrics.Counter.OBJECTS);
+
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            this.serializationListener.onObjectSerialized(eObject, jsonElement);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
+    }
+
+    /**
+     * Writes the structural features of the given object in the writer, the data member is only written if at least one
+     * feature has a value.
+     *
+     * @param eObject
+     *            The EObject to write
+     * @param writer
+     *            the writer
+     * @throws IOException
+     *             if the writer fails
+     */
+    private void writeEAllStructuralFeatures(EObject eObject, JsonWriter writer) throws IOException {
+        Iterator<String> featureNames = this.preparedFeatureNames.remove(eObject);
+        boolean hasData = false;
+        EClassSerializationPlan plan = this.getSerializationPlan(eObject.eClass());
+        for (int i = 0; i < plan.size(); i++) {
+            EStructuralFeature eStructuralFeature = plan.getFeature(i);
+            FeatureKind kind = plan.getKind(i);
+            if (this.shouldSerialize(eObject, plan, i)) {
+                if (kind == FeatureKind.CONTAINMENT || kind == FeatureKind.MANY_CONTAINMENT) {
+                    EReference eReference = (EReference) eStructuralFeature;
+                    Object referenceValue = this.helper.getValue(eObject, eReference);
+                    if (eReference.isMany() && referenceValue instanceof Iterable<?>) {
+                        hasData = this.writeDataName(hasData, this.getFeatureName(plan, i, featureNames), writer);
+                        writer.beginArray();
+                        for (Object object : (Iterable<?>) referenceValue) {
+                            if (object instanceof EObject) {
+                                this.writeData((EObject) object, writer);
+                            }
+                        }
+                        writer.endArray();
+                    } else if (!eReference.isMany() && referenceValue instanceof EObject) {
+                        hasData = this.writeDataName(hasData, this.getFeatureName(plan, i, featureNames), writer);
+                        if (this.isSerializedAsURI(eObject, (EObject) referenceValue)) {
+                            writer.value(this.removeFragmentSeparator(this.helper.deresolve(EcoreUtil.getURI((EObject) referenceValue)).toString()));
+                        } else {
+                            this.writeData((EObject) referenceValue, writer);
+                        }
+                    }
+                } else {
+                    JsonElement value = this.serializeEStructuralFeature(eObject, eStructuralFeature, kind);
+                    if (value != null) {
+                        hasData = this.writeDataName(hasData, this.getFeatureName(plan, i, featureNames), writer);
+                        JSON_ELEMENT_ADAPTER.write(writer, value);
+                    }
+                }
+            }
+        }
+        if (hasData) {
+            writer.endObject();
+        }
+    }
+
+    /**
+     * Returns the name of the feature at the given index of the plan, computed during the preparation if there is one.
+     *
+     * @param plan
+     *            the serialization plan
+     * @param index
+     *            the index of the feature
+     * @param featureNames
+     *            the names computed during the preparation of the object or <code>null</code>
+     * @return the name of the feature
+     */
+    private String getFeatureName(EClassSerializationPlan plan, int index, Iterator<String> featureNames) {
+        String featureName = null;
+        if (featureNames != null && featureNames.hasNext()) {
+            featureName = featureNames.next();
+        } else {
+            featureName = this.getFeatureName(plan, index);
+        }
+        return featureName;
+    }
+
+    /**
+     * Writes the name of a feature, preceded by the beginning of the data member if it has not been written yet.
+     *
+     * @param hasData
+     *            if the data member has already been written
+     * @param featureName
+     *            the name of the feature
+     * @param writer
+     *            the writer
+     * @return <code>true</code> since the data member has been written
+     * @throws IOException
+     *             if the writer fails
+     */
+    private boolean writeDataName(boolean hasData, String featureName, JsonWriter writer) throws IOException {
+        if (!hasData) {
+            writer.name(IGsonConstants.DATA);
+            writer.beginObject();
+        }
+        writer.name(featureName);
+        return true;
+    }
+
     /**
      * Return data field.
      *
@@ -233,6 +868,53 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      * @return data field.
      */
     private JsonElement createData(EObject eObject) {
+        JsonElement jsonElement = null;
+        if (this.isEcoreElement(eObject)) {
+            jsonElement = this.serializeEcoreElement(eObject);
+        } else {
+            if (eObject instanceof EPackage && ((EPackage) eObject).getESuperPackage() != null) {
+                jsonElement = this.serializeESubPackage((EPackage) eObject);
+            } else {
+                jsonElement = this.serializationEClass(eObject);
+            }
+        }
+
+        this.metrics.increment(JsonMetrics.Counter.OBJECTS);
+
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            if (this.eObjectHandler != null) {
+                this.eObjectHandler.processSerializedContent(jsonElement, eObject);
+            }
+
+            this.serializationListener.onObjectSerialized(eObject, jsonElement);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
+
+        return jsonElement;
+    }
+
+    /**
+     * Indicates if the given object is an Ecore element with a dedicated serialization.
+     *
+     * @param eObject
+     *            the eObject
+     * @return <code>true</code> if the given object has a dedicated serialization, <code>false</code> otherwise
+     */
+    private boolean isEcoreElement(EObject eObject) {
+        return eObject instanceof EAnnotation || eObject instanceof EOperation || eObject instanceof EParameter || eObject instanceof EGenericType
+                || eObject instanceof ETypeParameter || eObject instanceof EEnumLiteral;
+    }
+
+    /**
+     * Serialize the given Ecore element with its dedicated serialization.
+     *
+     * @param eObject
+     *            the Ecore element to serialize
+     * @return the json representation of the Ecore element
+     */
+    private JsonElement serializeEcoreElement(EObject eObject) {
         JsonElement jsonElement = null;
         if (eObject instanceof EAnnotation) {
             jsonElement = this.serializeEAnnotation((EAnnotation) eObject);
@@ -246,20 +928,7 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
             jsonElement = this.serializeETypeParameter((ETypeParameter) eObject);
         } else if (eObject instanceof EEnumLiteral) {
             jsonElement = this.serializeEEnumLiteral((EEnumLiteral) eObject);
-        } else {
-            if (eObject instanceof EPackage && ((EPackage) eObject).getESuperPackage() != null) {
-                jsonElement = this.serializeESubPackage((EPackage) eObject);
-            } else {
-                jsonElement = this.serializationEClass(eObject);
-            }
-        }
-
-        if (this.eObjectHandler != null) {
-            this.eObjectHandler.processSerializedContent(jsonElement, eObject);
         }
-
-        this.serializationListener.onObjectSerialized(eObject, jsonElement);
-
         return jsonElement;
     }
 
@@ -898,32 +1567,14 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      *            The EObject to serialize
      * @return A JsonObject containing all the properties of the given object
      */
-    @SuppressWarnings("unchecked")
     private JsonObject serializeEAllStructuralFeatures(EObject eObject) {
         JsonObject properties = new JsonObject();
-        EClass eClass = eObject.eClass();
-        List<EStructuralFeature> eAllStructuralFeatures = eClass.getEAllStructuralFeatures();
-
-        Object orderFeatures = this.options.get(JsonResource.OPTION_SAVE_FEATURES_ORDER_COMPARATOR);
-        if (orderFeatures instanceof Comparator<?>) {
-            eAllStructuralFeatures = eAllStructuralFeatures.stream() //
-                    .sorted((Comparator<? super EStructuralFeature>) orderFeatures) //
-                    .collect(Collectors.toList());
-        }
-
-        for (EStructuralFeature eStructuralFeature : eAllStructuralFeatures) {
-            if (this.shouldSerialize(eObject, eStructuralFeature)) {
-                JsonElement value = null;
-                if (eStructuralFeature instanceof EAttribute) {
-                    EAttribute eAttribute = (EAttribute) eStructuralFeature;
-                    value = this.serializeEAttribute(eObject, eAttribute);
-                } else if (eStructuralFeature instanceof EReference) {
-                    EReference eReference = (EReference) eStructuralFeature;
-                    value = this.serializeEReference(eObject, eReference);
-                }
-
+        EClassSerializationPlan plan = this.getSerializationPlan(eObject.eClass());
+        for (int i = 0; i < plan.size(); i++) {
+            if (this.shouldSerialize(eObject, plan, i)) {
+                JsonElement value = this.serializeEStructuralFeature(eObject, plan.getFeature(i), plan.getKind(i));
                 if (value != null) {
-                    String featureName = this.helper.getQName(eStructuralFeature);
+                    String featureName = this.getFeatureName(plan, i);
                     properties.add(featureName, value);
                 }
             }
@@ -933,32 +1584,68 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
     }
 
     /**
-     * Determine if the structural feature should be serialized.
+     * Returns the serialization plan of the given EClass, computed the first time it is requested with the same
+     * options.
+     *
+     * @param eClass
+     *            The EClass
+     * @return The serialization plan of the EClass
+     */
+    private EClassSerializationPlan getSerializationPlan(EClass eClass) {
+        EClassSerializationPlan plan = this.eClassSerializationPlans.get(eClass);
+        if (plan == null) {
+            EClassSerializationPlan.Key key = new EClassSerializationPlan.Key(eClass, this.featuresComparator, this.saveTransientFeatures, this.saveDerivedFeatures,
+                    this.extendedMetaData != null, this.helper.getClass());
+            plan = this.serializationPlans.get(key);
+            if (plan == null) {
+                plan = this.createSerializationPlan(eClass);
+                this.serializationPlans.put(key, plan);
+            }
+            this.eClassSerializationPlans.put(eClass, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Computes the serialization plan of the given EClass. The structural features are sorted with the
+     * {@link JsonResource#OPTION_SAVE_FEATURES_ORDER_COMPARATOR} option if it is set.
+     *
+     * @param eClass
+     *            The EClass
+     * @return The serialization plan of the EClass
+     */
+    private EClassSerializationPlan createSerializationPlan(EClass eClass) {
+        List<EStructuralFeature> eAllStructuralFeatures = eClass.getEAllStructuralFeatures();
+        if (this.featuresComparator != null) {
+            eAllStructuralFeatures = eAllStructuralFeatures.stream() //
+                    .sorted(this.featuresComparator) //
+                    .collect(Collectors.toList());
+        }
+
+        boolean[] serializable = new boolean[eAllStructuralFeatures.size()];
+        for (int i = 0; i < eAllStructuralFeatures.size(); i++) {
+            serializable[i] = this.isSerializable(eAllStructuralFeatures.get(i));
+        }
+        return new EClassSerializationPlan(eAllStructuralFeatures, serializable);
+    }
+
+    /**
+     * Determine if the structural feature can be serialized, whatever its value.
      *
-     * @param eObject
-     *            the EObject
      * @param eStructuralFeature
      *            the EStructuralFeature to serialize
-     * @return if the structural feature will be serialized
+     * @return if the structural feature can be serialized
      */
-    private boolean shouldSerialize(EObject eObject, EStructuralFeature eStructuralFeature) {
+    private boolean isSerializable(EStructuralFeature eStructuralFeature) {
         boolean shouldGenerate = true;
 
         // isTransient
-        Object saveTransientFeatures = this.options.get(JsonResource.OPTION_SAVE_TRANSIENT_FEATURES);
-        if (shouldGenerate && eStructuralFeature.isTransient() && !(saveTransientFeatures instanceof Boolean && ((Boolean) saveTransientFeatures).booleanValue())) {
+        if (shouldGenerate && eStructuralFeature.isTransient() && !this.saveTransientFeatures) {
             shouldGenerate = false;
         }
 
         // isDerived
-        Object saveDerivedFeatures = this.options.get(JsonResource.OPTION_SAVE_DERIVED_FEATURES);
-        if (shouldGenerate && eStructuralFeature.isDerived() && !(saveDerivedFeatures instanceof Boolean && ((Boolean) saveDerivedFeatures).booleanValue())) {
-            shouldGenerate = false;
-        }
-
-        // EIsSet
-        Object saveUnsettedFeatures = this.options.get(JsonResource.OPTION_SAVE_UNSETTED_FEATURES);
-        if (shouldGenerate && !eObject.eIsSet(eStructuralFeature) && !(saveUnsettedFeatures instanceof Boolean && ((Boolean) saveUnsettedFeatures).booleanValue())) {
+        if (shouldGenerate && eStructuralFeature.isDerived() && !this.saveDerivedFeatures) {
             shouldGenerate = false;
         }
 
@@ -971,78 +1658,120 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
             }
         }
 
-        Object eStructuralFeatureFilter = this.options.get(JsonResource.OPTION_ESTRUCTURAL_FEATURES_FILTER);
-        if (eStructuralFeatureFilter instanceof JsonResource.EStructuralFeaturesFilter) {
-            JsonResource.EStructuralFeaturesFilter filter = (EStructuralFeaturesFilter) eStructuralFeatureFilter;
-            shouldGenerate = filter.shouldSave(eObject, eStructuralFeature);
-        }
+        return shouldGenerate;
+    }
 
+    /**
+     * Determine if the structural feature at the given index of the plan should be serialized.
+     *
+     * @param eObject
+     *            the EObject
+     * @param plan
+     *            the serialization plan of the EClass of the EObject
+     * @param index
+     *            the index of the EStructuralFeature to serialize
+     * @return if the structural feature will be serialized
+     */
+    private boolean shouldSerialize(EObject eObject, EClassSerializationPlan plan, int index) {
+        EStructuralFeature eStructuralFeature = plan.getFeature(index);
+        boolean shouldGenerate = false;
+        if (this.eStructuralFeaturesFilter != null) {
+            shouldGenerate = this.eStructuralFeaturesFilter.shouldSave(eObject, eStructuralFeature);
+        } else {
+            // EIsSet
+            shouldGenerate = plan.isSerializable(index) && (this.saveUnsettedFeatures || eObject.eIsSet(eStructuralFeature));
+        }
         return shouldGenerate;
     }
 
     /**
-     * Serialize an EAttribute into a JsonElement.
+     * Returns the name of the structural feature at the given index of the plan. The name is only kept in the plan
+     * without extended meta data, since it may then register a package in the namespace header each time it is
+     * computed.
+     *
+     * @param plan
+     *            the serialization plan
+     * @param index
+     *            the index of the feature
+     * @return the name of the feature
+     */
+    private String getFeatureName(EClassSerializationPlan plan, int index) {
+        String featureName = plan.getName(index);
+        if (featureName == null) {
+            featureName = this.helper.getQName(plan.getFeature(index));
+            if (this.extendedMetaData == null) {
+                plan.setName(index, featureName);
+            }
+        }
+        return featureName;
+    }
+
+    /**
+     * Serialize a structural feature into a JsonElement.
      *
      * @param eObject
      *            The EObject
-     * @param eAttribute
-     *            The EAttribute to serialize
-     * @return The JsonElement representing the EAttribute
+     * @param eStructuralFeature
+     *            The EStructuralFeature to serialize
+     * @param kind
+     *            The way the EStructuralFeature is serialized
+     * @return The JsonElement representing the EStructuralFeature
      */
-    private JsonElement serializeEAttribute(EObject eObject, EAttribute eAttribute) {
-        JsonElement value = null;
-        EClassifier eType = eAttribute.getEType();
-
-        if (EcorePackage.eINSTANCE.getEString().equals(eType)) {
-            value = this.serializeEStringEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEBoolean().equals(eType)) {
-            value = this.serializeEBooleanEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEBooleanObject().equals(eType)) {
-            value = this.serializeEBooleanEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEInt().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEIntegerObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEBigDecimal().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEBigInteger().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEByte().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEByteArray().equals(eType)) {
-            value = this.serializeEByteArrayEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEByteObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEChar().equals(eType)) {
-            value = this.serializeEStringEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getECharacterObject().equals(eType)) {
-            value = this.serializeEStringEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEDate().equals(eType)) {
-            value = this.serializeEDateEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEDouble().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEDoubleObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEFloat().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEFloatObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getELong().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getELongObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEShort().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (EcorePackage.eINSTANCE.getEShortObject().equals(eType)) {
-            value = this.serializeENumberEAttribute(eObject, eAttribute);
-        } else if (eType instanceof EEnum) {
-            value = this.serializeEEnumEAttribute(eObject, eAttribute);
-        } else if (eType instanceof EDataType) {
-            value = this.serializeEDataType(eObject, eAttribute);
-        } else {
-            throw new InvalidParameterException();
+    private JsonElement serializeEStructuralFeature(EObject eObject, EStructuralFeature eStructuralFeature, FeatureKind kind) {
+        JsonMetrics.Phase phase = null;
+        if (kind == FeatureKind.NON_CONTAINMENT || kind == FeatureKind.MANY_NON_CONTAINMENT) {
+            phase = JsonMetrics.Phase.REFERENCE_RESOLUTION;
+        } else if (kind != FeatureKind.CONTAINMENT && kind != FeatureKind.MANY_CONTAINMENT) {
+            phase = JsonMetrics.Phase.DATA_TYPE_CONVERSION;
+        }
+        if (phase != null) {
+            this.metrics.start(phase);
         }
 
+        JsonElement value = null;
+        try {
+            switch (kind) {
+            case STRING:
+                value = this.serializeEStringEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case BOOLEAN:
+                value = this.serializeEBooleanEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case NUMBER:
+                value = this.serializeENumberEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case BYTE_ARRAY:
+                value = this.serializeEByteArrayEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case DATE:
+                value = this.serializeEDateEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case ENUM:
+                value = this.serializeEEnumEAttribute(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case DATA_TYPE:
+                value = this.serializeEDataType(eObject, (EAttribute) eStructuralFeature);
+                break;
+            case CONTAINMENT:
+                value = this.serializeSingleContainmentEReference(eObject, (EReference) eStructuralFeature);
+                break;
+            case MANY_CONTAINMENT:
+                value = this.serializeMultipleContainmentEReference(eObject, (EReference) eStructuralFeature);
+                break;
+            case NON_CONTAINMENT:
+                value = this.serializeSingleNonContainmentEReference(eObject, (EReference) eStructuralFeature);
+                break;
+            case MANY_NON_CONTAINMENT:
+                value = this.serializeMultipleNonContainmentEReference(eObject, (EReference) eStructuralFeature);
+                break;
+            default:
+                throw new InvalidParameterException();
+            }
+        } finally {
+            if (phase != null) {
+                this.metrics.stop(phase);
+            }
+        }
         return value;
     }
 
@@ -1068,7 +1797,7 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
                     if (object == null) {
                         jsonArray.add(JsonNull.INSTANCE);
                     } else if (this.shouldEDataTypeBeSerializedInJson(eAttribute.getEAttributeType())) {
-                        jsonArray.add(new Gson().toJsonTree(object));
+                        jsonArray.add(this.eDataTypeGson.toJsonTree(object));
                     } else {
                         jsonArray.add(new JsonPrimitive(eFactoryInstance.convertToString(eAttribute.getEAttributeType(), object)));
                     }
@@ -1080,7 +1809,7 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
             if (stringValue == null) {
                 jsonElement = JsonNull.INSTANCE;
             } else if (this.shouldEDataTypeBeSerializedInJson(eAttribute.getEAttributeType())) {
-                jsonElement = new Gson().toJsonTree(value);
+                jsonElement = this.eDataTypeGson.toJsonTree(value);
             } else {
                 jsonElement = new JsonPrimitive(stringValue);
             }
@@ -1099,9 +1828,7 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      * @return true if the given {@link EDataType} should be deserialized as a Json tree.
      */
     private boolean shouldEDataTypeBeSerializedInJson(EDataType eDataType) {
-        @SuppressWarnings("unchecked")
-        Predicate<EDataType> shouldEDataTypeBeSerializedInJsonPredicate = (Predicate<EDataType>) this.options.get(JsonResource.OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE);
-        return shouldEDataTypeBeSerializedInJsonPredicate != null && shouldEDataTypeBeSerializedInJsonPredicate.test(eDataType);
+        return this.shouldEDataTypeBeSerializedInJsonPredicate != null && this.shouldEDataTypeBeSerializedInJsonPredicate.test(eDataType);
     }
 
     /**
@@ -1366,9 +2093,7 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
 
         Object referenceValue = this.helper.getValue(eObject, eReference);
         if (referenceValue instanceof EObject) {
-            if (referenceValue instanceof BasicEObjectImpl && ((BasicEObjectImpl) referenceValue).eDirectResource() != null) {
-                jsonElement = new JsonPrimitive(this.removeFragmentSeparator(this.helper.deresolve(EcoreUtil.getURI((EObject) referenceValue)).toString()));
-            } else if (((EObject) referenceValue).eResource() != eObject.eResource()) {
+            if (this.isSerializedAsURI(eObject, (EObject) referenceValue)) {
                 jsonElement = new JsonPrimitive(this.removeFragmentSeparator(this.helper.deresolve(EcoreUtil.getURI((EObject) referenceValue)).toString()));
             } else {
                 jsonElement = this.createData((EObject) referenceValue);
@@ -1377,6 +2102,21 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
         return jsonElement;
     }
 
+    /**
+     * Indicates if the given contained object is serialized with its URI instead of its content, which happens when it
+     * is stored in another resource.
+     *
+     * @param eObject
+     *            The container
+     * @param containedEObject
+     *            The contained object
+     * @return <code>true</code> if the URI of the contained object should be serialized, <code>false</code> otherwise
+     */
+    private boolean isSerializedAsURI(EObject eObject, EObject containedEObject) {
+        return containedEObject instanceof BasicEObjectImpl && ((BasicEObjectImpl) containedEObject).eDirectResource() != null
+                || containedEObject.eResource() != eObject.eResource();
+    }
+
     /**
      * Return a JsonElement representing a multiple containment reference value.
      *
@@ -1415,29 +2155,70 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
      */
     @SuppressWarnings("unchecked")
     private JsonElement serializeMultipleNonContainmentEReference(EObject eObject, EReference eReference) {
-        JsonElement jsonElement = null;
         JsonArray jsonArray = new JsonArray();
-        Object referenceValue = this.helper.getValue(eObject, eReference);
-        for (EObject value : (InternalEList<? extends EObject>) referenceValue) {
-            switch (this.docKindMany(eObject, eReference)) {
-            case SAME_DOC:
-                String id = this.helper.getIDREF(value);
-                id = this.removeFragmentSeparator(id);
+        InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) this.helper.getValue(eObject, eReference);
+        boolean isCrossDoc = false;
+        int index = 0;
+        for (EObject value : values) {
+            if (!isCrossDoc && this.isCrossDoc((InternalEObject) value)) {
+                // As soon as one of the values is in another document, all of them are written as HREFs, see
+                // docKindMany, so the IDREFs of the previous values are replaced
+                isCrossDoc = true;
+                jsonArray = new JsonArray();
+                Iterator<? extends EObject> previousValues = values.iterator();
+                for (int i = 0; i < index; i++) {
+                    this.addHref(jsonArray, previousValues.next(), eReference);
+                }
+            }
+
+            if (isCrossDoc) {
+                this.addHref(jsonArray, value, eReference);
+            } else {
+                String id = this.removeFragmentSeparator(this.helper.getIDREF(value));
                 if (!id.isEmpty()) {
                     jsonArray.add(new JsonPrimitive(id));
                 }
-                break;
-            case CROSS_DOC:
-                if (value != null) {
-                    jsonArray.add(new JsonPrimitive(this.saveHref(value, eReference)));
-                }
-                break;
-            default:
             }
+            index++;
         }
+        this.metrics.add(JsonMetrics.Counter.REFERENCES, jsonArray.size());
+        return jsonArray;
+    }
 
-        jsonElement = jsonArray;
-        return jsonElement;
+    /**
+     * Adds the HREF of the given referenced object to the given array.
+     *
+     * @param jsonArray
+     *            the array
+     * @param value
+     *            the referenced object
+     * @param eReference
+     *            the reference
+     */
+    private void addHref(JsonArray jsonArray, EObject value, EReference eReference) {
+        if (value != null) {
+            jsonArray.add(new JsonPrimitive(this.saveHref(value, eReference)));
+        }
+    }
+
+    /**
+     * Indicates if the given referenced object is in another document than the serialized resource.
+     *
+     * @param value
+     *            the referenced object
+     * @return <code>true</code> if the object is a proxy or is in another resource, <code>false</code> otherwise
+     */
+    private boolean isCrossDoc(InternalEObject value) {
+        boolean isCrossDoc = false;
+        if (value != null) {
+            if (value.eIsProxy()) {
+                isCrossDoc = true;
+            } else {
+                Resource resource = value.eResource();
+                isCrossDoc = resource != this.helper.getResource() && resource != null;
+            }
+        }
+        return isCrossDoc;
     }
 
     /**
@@ -1461,14 +2242,8 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
 
         Iterator<? extends InternalEObject> it = internalEList.iterator();
         while (referenceType != GsonEObjectSerializer.SKIP && referenceType != GsonEObjectSerializer.CROSS_DOC && it.hasNext()) {
-            InternalEObject internalEObject = it.next();
-            if (internalEObject.eIsProxy()) {
+            if (this.isCrossDoc(it.next())) {
                 referenceType = GsonEObjectSerializer.CROSS_DOC;
-            } else {
-                Resource resource = internalEObject.eResource();
-                if (resource != this.helper.getResource() && resource != null) {
-                    referenceType = GsonEObjectSerializer.CROSS_DOC;
-                }
             }
         }
         return referenceType;
@@ -1503,6 +2278,9 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
         default:
         }
         jsonElement = new JsonPrimitive(value);
+        if (!value.isEmpty()) {
+            this.metrics.increment(JsonMetrics.Counter.REFERENCES);
+        }
 
         return jsonElement;
     }
@@ -1543,7 +2321,13 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
             // TODO: element Handler if statement : look at XMLSaveImpl line 2308
             value += href;
         }
-        this.serializationListener.onCrossReferenceURICreated(object, eReference, value);
+        this.metrics.increment(JsonMetrics.Counter.PROXIES);
+        this.metrics.start(JsonMetrics.Phase.CALLBACKS);
+        try {
+            this.serializationListener.onCrossReferenceURICreated(object, eReference, value);
+        } finally {
+            this.metrics.stop(JsonMetrics.Phase.CALLBACKS);
+        }
         return value;
     }
 
@@ -1618,4 +2402,98 @@ public class GsonEObjectSerializer implements JsonSerializer<List<EObject>> {
         return this.helper.getDanglingHREFException();
     }
 
+    /**
+     * Returns the metrics of the serialization, which are only computed when a {@link JsonResource.IMetricsListener} is
+     * given.
+     *
+     * @return The metrics of the serialization
+     */
+    public JsonMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * A part of the root objects serialized concurrently with the other parts.
+     */
+    private static final class SerializedPart {
+
+        /**
+         * The helper used to serialize the part.
+         */
+        private final JsonHelper helper;
+
+        /**
+         * The listener recording the calls made while serializing the part or <code>null</code> if there is no
+         * listener.
+         */
+        private final RecordingSerializationListener listener;
+
+        /**
+         * The serialized objects.
+         */
+        private final JsonArray data;
+
+        /**
+         * The metrics of the serialization of the part.
+         */
+        private final JsonMetrics metrics;
+
+        /**
+         * The constructor.
+         *
+         * @param helper
+         *            the helper used to serialize the part
+         * @param listener
+         *            the listener recording the calls made while serializing the part or <code>null</code>
+         * @param data
+         *            the serialized objects
+         * @param metrics
+         *            the metrics of the serialization of the part
+         */
+        SerializedPart(JsonHelper helper, RecordingSerializationListener listener, JsonArray data, JsonMetrics metrics) {
+            this.helper = helper;
+            this.listener = listener;
+            this.data = data;
+            this.metrics = metrics;
+        }
+    }
+
+    /**
+     * A listener recording the calls made while serializing a part of the root objects, to make them again on the
+     * listener of the serialization in the order of the parts.
+     */
+    private static final class RecordingSerializationListener implements ISerializationListener {
+
+        /**
+         * The recorded calls.
+         */
+        private final List<Consumer<ISerializationListener>> calls = new ArrayList<>();
+
+        @Override
+        public void onNsHeaderEntryAdded(String nsPrefix, String nsURI) {
+            this.calls.add(listener -> listener.onNsHeaderEntryAdded(nsPrefix, nsURI));
+        }
+
+        @Override
+        public void onObjectSerialized(EObject eObject, JsonElement jsonElement) {
+            this.calls.add(listener -> listener.onObjectSerialized(eObject, jsonElement));
+        }
+
+        @Override
+        public void onCrossReferenceURICreated(EObject eObject, EReference eReference, String uri) {
+            this.calls.add(listener -> listener.onCrossReferenceURICreated(eObject, eReference, uri));
+        }
+
+        /**
+         * Makes the recorded calls on the given listener.
+         *
+         * @param listener
+         *            the listener
+         */
+        void replay(ISerializationListener listener) {
+            for (Consumer<ISerializationListener> call : this.calls) {
+                call.accept(listener);
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,16 +14,19 @@
 package org.eclipse.sirius.emfjson.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.BasicEMap;
 import org.eclipse.emf.common.util.EMap;
-import org.eclipse.emf.common.util.SegmentSequence;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.common.util.UniqueEList;
 import org.eclipse.emf.ecore.EClass;
@@ -56,6 +59,11 @@ public class JsonHelper {
      */
     private static final String SEGMENT_SEPARATOR = "/"; //$NON-NLS-1$
 
+    /**
+     * The maximum number of URI fragments and HREFs kept by each cache before it is cleared.
+     */
+    private static final int MAX_CACHED_URIS = 1 << 16;
+
     /**
      * This class is used to register uri and all prefixes that refers to this uri.
      */
@@ -105,6 +113,80 @@ public class JsonHelper {
         }
     }
 
+    /**
+     * A node of the trie of the fragment prefixes, reached by matching one more character of a URI fragment than its
+     * parent node.
+     */
+    private static final class FragmentPrefixNode {
+
+        /**
+         * The characters leading to the children.
+         */
+        private char[] chars = new char[0];
+
+        /**
+         * The children, reached by the characters at the same index.
+         */
+        private FragmentPrefixNode[] children = new FragmentPrefixNode[0];
+
+        /**
+         * The ascending indexes of the roots whose fragment prefix ends at this node or <code>null</code> if none
+         * does.
+         */
+        private int[] indexes;
+
+        /**
+         * Returns the child reached by the given character.
+         *
+         * @param c
+         *            the character
+         * @return The child or <code>null</code> if no fragment prefix continues with this character
+         */
+        FragmentPrefixNode getChild(char c) {
+            FragmentPrefixNode child = null;
+            for (int i = 0; i < this.chars.length && child == null; i++) {
+                if (this.chars[i] == c) {
+                    child = this.children[i];
+                }
+            }
+            return child;
+        }
+
+        /**
+         * Returns the child reached by the given character, created if it does not exist yet.
+         *
+         * @param c
+         *            the character
+         * @return The child
+         */
+        FragmentPrefixNode getOrCreateChild(char c) {
+            FragmentPrefixNode child = this.getChild(c);
+            if (child == null) {
+                child = new FragmentPrefixNode();
+                this.chars = Arrays.copyOf(this.chars, this.chars.length + 1);
+                this.chars[this.chars.length - 1] = c;
+                this.children = Arrays.copyOf(this.children, this.children.length + 1);
+                this.children[this.children.length - 1] = child;
+            }
+            return child;
+        }
+
+        /**
+         * Adds the index of a root whose fragment prefix ends at this node, the indexes being added in ascending order.
+         *
+         * @param index
+         *            the index of the root
+         */
+        void addIndex(int index) {
+            if (this.indexes == null) {
+                this.indexes = new int[] { index };
+            } else {
+                this.indexes = Arrays.copyOf(this.indexes, this.indexes.length + 1);
+                this.indexes[this.indexes.length - 1] = index;
+            }
+        }
+    }
+
     /**
      * Sets when there is no namespace in json file.
      */
@@ -170,6 +252,16 @@ public class JsonHelper {
      */
     protected String[] fragmentPrefixes;
 
+    /**
+     * The roots EObject to serialize, compared by identity.
+     */
+    private Set<EObject> rootSet;
+
+    /**
+     * The root of the trie of the fragment prefixes, whose nodes keep the indexes of the roots having each prefix.
+     */
+    private FragmentPrefixNode fragmentPrefixTrie;
+
     /**
      * the URI Handler.
      */
@@ -202,12 +294,48 @@ public class JsonHelper {
      */
     private final Map<EClass, String> qnameCache;
 
+    /**
+     * The index of the root objects in the contents of the resource.
+     */
+    private final RootObjectIndex rootObjectIndex;
+
+    /**
+     * The IDREFs already computed for the referenced objects.
+     */
+    private final Map<EObject, String> idrefs;
+
+    /**
+     * The HREFs already computed for the referenced objects.
+     */
+    private final Map<EObject, String> hrefs;
+
+    /**
+     * The path based URI fragments already computed for the referenced objects and their containers.
+     */
+    private final Map<EObject, String> pathFragments;
+
+    /**
+     * The packages in the order of their registration, recorded while serializing a part of the resource concurrently,
+     * or <code>null</code>.
+     */
+    private List<EPackage> registeredPackages;
+
+    /**
+     * The dangling references found while serializing a part of the resource concurrently, which are reported by the
+     * helper of the whole serialization, or <code>null</code>.
+     */
+    private List<DanglingHREFException> partialDanglingHREFExceptions;
+
     /**
      * The constructor.
      */
     public JsonHelper() {
         this.prefixesToURIs = new PrefixToURI();
         this.qnameCache = new HashMap<>();
+        this.rootObjectIndex = new RootObjectIndex();
+        this.idrefs = new IdentityHashMap<>();
+        this.hrefs = new IdentityHashMap<>();
+        this.pathFragments = new IdentityHashMap<>();
     }
 
     /**
@@ -278,6 +406,8 @@ public class JsonHelper {
         List<? extends EObject> rootsEObject = (List<? extends EObject>) options.get(JsonResource.OPTION_ROOT_OBJECTS);
         if (rootsEObject != null) {
             this.roots = rootsEObject;
+            this.rootSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.rootSet.addAll(rootsEObject);
             this.fragmentPrefixes = new String[rootsEObject.size()];
             int count = 0;
             for (EObject root : rootsEObject) {
@@ -289,7 +419,7 @@ public class JsonHelper {
                     internalEObject = container;
                     Resource directResource = container.eDirectResource();
                     if (directResource != null) {
-                        int index = directResource.getContents().indexOf(container);
+                        int index = this.rootObjectIndex.indexOf(directResource.getContents(), container);
                         String fragmentPath = ""; //$NON-NLS-1$
                         fragmentPath = this.diffZeroIndexConverter(index, fragmentPath);
                         uriFragmentPath.add(fragmentPath);
@@ -304,6 +434,14 @@ public class JsonHelper {
                 }
                 this.fragmentPrefixes[count++] = result.toString();
             }
+            this.fragmentPrefixTrie = new FragmentPrefixNode();
+            for (int i = 0; i < this.fragmentPrefixes.length; i++) {
+                FragmentPrefixNode node = this.fragmentPrefixTrie;
+                for (int j = 0; j < this.fragmentPrefixes[i].length(); j++) {
+                    node = node.getOrCreateChild(this.fragmentPrefixes[i].charAt(j));
+                }
+                node.addIndex(i);
+            }
         }
 
         this.processDanglingReference = (String) options.get(JsonResource.OPTION_PROCESS_DANGLING_HREF);
@@ -509,6 +647,9 @@ public class JsonHelper {
 
                 if (!this.packages.containsKey(ePackage)) {
                     this.packages.put(ePackage, nsPrefix);
+                    if (this.registeredPackages != null) {
+                        this.registeredPackages.add(ePackage);
+                    }
                 }
 
             }
@@ -650,6 +791,35 @@ public class JsonHelper {
         }
     }
 
+    /**
+     * Adds the given values to the feature of the given object at once, ignoring the values which are already in the
+     * list of the feature or which are duplicated in the given values. The order of the given values is kept.
+     *
+     * @param eObject
+     *            the given eObject
+     * @param feature
+     *            the multi-valued feature
+     * @param values
+     *            the values to add
+     */
+    public void setUniqueValues(EObject eObject, EStructuralFeature feature, Collection<?> values) {
+        Object eGet = this.getValue(eObject, feature);
+        if (eGet instanceof InternalEList && !values.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            InternalEList<Object> eList = (InternalEList<Object>) eGet;
+            Set<Object> uniqueValues = Collections.newSetFromMap(new IdentityHashMap<>());
+            uniqueValues.addAll(eList);
+
+            List<Object> newValues = new ArrayList<>(values.size());
+            for (Object value : values) {
+                if (uniqueValues.add(value)) {
+                    newValues.add(value);
+                }
+            }
+            eList.addAllUnique(newValues);
+        }
+    }
+
     /**
      * Returns the value of the given object for the feature.
      *
@@ -715,6 +885,24 @@ public class JsonHelper {
      * @return an HREF to this obj from this resource
      */
     public String getHREF(EObject obj) {
+        String href = this.hrefs.get(obj);
+        if (href == null) {
+            href = this.computeHREF(obj);
+            if (href != null) {
+                this.cache(this.hrefs, obj, href);
+            }
+        }
+        return href;
+    }
+
+    /**
+     * Computes an HREF to this obj from this resource.
+     *
+     * @param obj
+     *            the EObject
+     * @return an HREF to this obj from this resource
+     */
+    private String computeHREF(EObject obj) {
         // TODO: when ticket on proxy handle will be checkouted look at XMLHelperImpl.getHREF(EObject) line
         // 772
         InternalEObject o = (InternalEObject) obj;
@@ -783,7 +971,7 @@ public class JsonHelper {
      */
     private String getURIFragment(Resource otherResource, EObject obj) {
         String result = null;
-        if (this.roots != null && otherResource == this.resource && !EcoreUtil.isAncestor(this.roots, obj)) {
+        if (this.roots != null && otherResource == this.resource && !this.isContainedInRoots(obj)) {
             URI uriResult = null;
             this.handleDanglingHREF(obj);
             String uriFragment = this.extracted(uriResult);
@@ -802,15 +990,85 @@ public class JsonHelper {
                     result = uriFragment;
                 }
             } else if (this.fragmentPrefixes != null) {
-                for (int i = 0; i < this.fragmentPrefixes.length; i++) {
-                    String fragmentPrefix = this.fragmentPrefixes[i];
-                    if (result.startsWith(fragmentPrefix)) {
-                        String stringIndex = ""; //$NON-NLS-1$
-                        stringIndex = this.diffZeroIndexConverter(i, stringIndex);
-                        result = JsonHelper.SEGMENT_SEPARATOR + stringIndex + result.substring(fragmentPrefix.length() - 1);
+                result = this.replaceFragmentPrefixes(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if the given object is one of the roots EObject to serialize or is contained in one of them.
+     *
+     * @param eObject
+     *            the EObject
+     * @return <code>true</code> if the object is in the serialized roots, <code>false</code> otherwise
+     */
+    private boolean isContainedInRoots(EObject eObject) {
+        boolean isContained = false;
+        for (InternalEObject container = (InternalEObject) eObject; container != null && !isContained; container = container.eInternalContainer()) {
+            isContained = this.rootSet.contains(container);
+        }
+        return isContained;
+    }
+
+    /**
+     * Replaces, in the order of the roots EObject to serialize, the fragment prefix of each root which starts the given
+     * URI fragment by the index of the root.
+     * <p>
+     * The fragment prefixes are kept in a trie of their characters, so all the fragment prefixes starting the URI
+     * fragment are found in a single pass over its characters, without creating a substring for each of its segments
+     * and without testing all the fragment prefixes.
+     * </p>
+     *
+     * @param uriFragment
+     *            the URI fragment
+     * @return The URI fragment relative to the roots EObject to serialize
+     */
+    private String replaceFragmentPrefixes(String uriFragment) {
+        String result = uriFragment;
+        int nextIndex = 0;
+        while (nextIndex >= 0) {
+            int matchingIndex = -1;
+            int matchingLength = 0;
+            FragmentPrefixNode node = this.fragmentPrefixTrie;
+            for (int i = 0; i < result.length() && node != null; i++) {
+                node = node.getChild(result.charAt(i));
+                if (node != null && node.indexes != null) {
+                    int index = this.firstIndexFrom(node.indexes, nextIndex);
+                    if (index != -1 && (matchingIndex == -1 || index < matchingIndex)) {
+                        matchingIndex = index;
+                        matchingLength = i + 1;
                     }
                 }
             }
+
+            if (matchingIndex == -1) {
+                nextIndex = -1;
+            } else {
+                String stringIndex = ""; //$NON-NLS-1$
+                stringIndex = this.diffZeroIndexConverter(matchingIndex, stringIndex);
+                result = JsonHelper.SEGMENT_SEPARATOR + stringIndex + result.substring(matchingLength - 1);
+                nextIndex = matchingIndex + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first of the given ascending indexes which is greater than or equal to the given minimum.
+     *
+     * @param indexes
+     *            the ascending indexes
+     * @param minimum
+     *            the minimum
+     * @return The first index greater than or equal to the minimum or <code>-1</code> if there is none
+     */
+    private int firstIndexFrom(int[] indexes, int minimum) {
+        int result = -1;
+        for (int i = 0; i < indexes.length && result == -1; i++) {
+            if (indexes[i] >= minimum) {
+                result = indexes[i];
+            }
         }
         return result;
     }
@@ -833,31 +1091,39 @@ public class JsonHelper {
         if (internalEObject.eDirectResource() == internalEObject.eResource()) {
             return JsonHelper.SEGMENT_SEPARATOR + this.getURIFragmentRootSegment(eObject);
         }
-        SegmentSequence.Builder builder = SegmentSequence.newBuilder(JsonHelper.SEGMENT_SEPARATOR);
+        String pathFragment = this.pathFragments.get(eObject);
+        if (pathFragment != null) {
+            return pathFragment;
+        }
 
-        boolean isContained = false;
-        for (InternalEObject container = internalEObject.eInternalContainer(); container != null; container = internalEObject.eInternalContainer()) {
-            builder.append(container.eURIFragmentSegment(internalEObject.eContainingFeature(), internalEObject));
+        // The path of the closest container whose path is known is reused
+        List<InternalEObject> eObjects = new ArrayList<>();
+        eObjects.add(internalEObject);
+        String containerPathFragment = null;
+        for (InternalEObject container = internalEObject.eInternalContainer(); container != null && containerPathFragment == null; container = internalEObject
+                .eInternalContainer()) {
             internalEObject = container;
             if (container.eDirectResource() == internalEObject.eResource()) {
-                isContained = true;
-                break;
+                containerPathFragment = JsonHelper.SEGMENT_SEPARATOR + this.getURIFragmentRootSegment(container);
+            } else {
+                containerPathFragment = this.pathFragments.get(container);
+                if (containerPathFragment == null) {
+                    eObjects.add(container);
+                }
             }
         }
 
-        if (!isContained) {
+        if (containerPathFragment == null) {
             return "/-1"; //$NON-NLS-1$
         }
 
-        builder.append(this.getURIFragmentRootSegment(internalEObject));
-        builder.append(""); //$NON-NLS-1$
-        builder.reverse();
-
-        // Note that we convert it to a segment sequence because the most common use case is that
-        // callers of this method will call URI.appendFragment.
-        // By creating the segment sequence here, we ensure that it's found in the cache.
-        //
-        return builder.toSegmentSequence().toString();
+        for (int i = eObjects.size() - 1; i >= 0; i--) {
+            InternalEObject child = eObjects.get(i);
+            containerPathFragment = containerPathFragment + JsonHelper.SEGMENT_SEPARATOR
+                    + ((InternalEObject) child.eInternalContainer()).eURIFragmentSegment(child.eContainingFeature(), child);
+            this.cache(this.pathFragments, child, containerPathFragment);
+        }
+        return containerPathFragment;
     }
 
     /**
@@ -870,7 +1136,7 @@ public class JsonHelper {
      */
     protected String getURIFragmentRootSegment(EObject eObject) {
         List<EObject> contents = this.resource.getContents();
-        return contents.size() > 1 ? Integer.toString(contents.indexOf(eObject)) : ""; //$NON-NLS-1$
+        return contents.size() > 1 ? Integer.toString(this.rootObjectIndex.indexOf(contents, eObject)) : ""; //$NON-NLS-1$
     }
 
     // CHECKSTYLE:ON
@@ -925,13 +1191,44 @@ public class JsonHelper {
      * @return the IDREF to this object
      */
     public String getIDREF(EObject referenceValue) {
-        String id = null;
-        if (this.resource != null) {
+        String id = this.idrefs.get(referenceValue);
+        if (id == null && this.resource != null) {
             id = this.getURIFragment(this.resource, referenceValue);
+            // The IDREFs of dangling references are computed each time to report them
+            if (!id.isEmpty()) {
+                this.cache(this.idrefs, referenceValue, id);
+            }
         }
         return id;
     }
 
+    /**
+     * Keeps the given URI computed for the given object in the given cache, which is cleared first if it is full.
+     *
+     * @param cache
+     *            the cache
+     * @param eObject
+     *            the object
+     * @param uri
+     *            the URI computed for the object
+     */
+    private void cache(Map<EObject, String> cache, EObject eObject, String uri) {
+        if (cache.size() >= MAX_CACHED_URIS) {
+            cache.clear();
+        }
+        cache.put(eObject, uri);
+    }
+
+    /**
+     * Forgets the URI fragments and HREFs computed for the referenced objects, which must be done once the objects
+     * have been serialized since they may be modified later.
+     */
+    public void clearURICaches() {
+        this.idrefs.clear();
+        this.hrefs.clear();
+        this.pathFragments.clear();
+    }
+
     /**
      * Add the given package to the package Registry with the extended meta-data behavior, if it is defined.
      *
@@ -981,13 +1278,68 @@ public class JsonHelper {
             DanglingHREFException exception = new DanglingHREFException("The Object '" + object //$NON-NLS-1$
                     + "' is not contained in a resource.", location); //$NON-NLS-1$
 
-            if (this.danglingHREFException == null) {
-                this.danglingHREFException = exception;
+            if (this.partialDanglingHREFExceptions != null) {
+                this.partialDanglingHREFExceptions.add(exception);
+            } else {
+                this.addDanglingHREFException(exception);
             }
+        }
+    }
 
-            if (this.resource != null) {
-                this.resource.getErrors().add(exception);
-            }
+    /**
+     * Reports the given dangling reference.
+     *
+     * @param exception
+     *            the exception describing the dangling reference
+     */
+    private void addDanglingHREFException(DanglingHREFException exception) {
+        if (this.danglingHREFException == null) {
+            this.danglingHREFException = exception;
+        }
+
+        if (this.resource != null) {
+            this.resource.getErrors().add(exception);
+        }
+    }
+
+    /**
+     * Prepares this helper to serialize a part of the resource concurrently with the other parts, each with its own
+     * helper. The packages registered and the dangling references found are recorded to be merged in the helper of the
+     * whole serialization, in the order of the parts, with {@link #registerPackages(JsonHelper)} and
+     * {@link #reportDanglingHREFExceptions(JsonHelper)}.
+     */
+    void startPartialSerialization() {
+        this.registeredPackages = new ArrayList<>();
+        this.partialDanglingHREFExceptions = new ArrayList<>();
+    }
+
+    /**
+     * Registers the packages registered by the given helper of a part of the serialization, in the same order.
+     *
+     * @param partialHelper
+     *            the helper of the part
+     * @return <code>true</code> if all the packages have the same prefix in both helpers, <code>false</code> if the
+     *         given helper has chosen another prefix for a package, which happens when its prefix is already used by
+     *         a package of a previous part
+     */
+    boolean registerPackages(JsonHelper partialHelper) {
+        boolean hasSamePrefixes = true;
+        for (EPackage ePackage : partialHelper.registeredPackages) {
+            String nsPrefix = this.getPrefix(ePackage);
+            hasSamePrefixes = hasSamePrefixes && nsPrefix.equals(partialHelper.packages.get(ePackage));
+        }
+        return hasSamePrefixes;
+    }
+
+    /**
+     * Reports the dangling references found by the given helper of a part of the serialization, in the same order.
+     *
+     * @param partialHelper
+     *            the helper of the part
+     */
+    void reportDanglingHREFExceptions(JsonHelper partialHelper) {
+        for (DanglingHREFException exception : partialHelper.partialDanglingHREFExceptions) {
+            this.addDanglingHREFException(exception);
         }
     }
 
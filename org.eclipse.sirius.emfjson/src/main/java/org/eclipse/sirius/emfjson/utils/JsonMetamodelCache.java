@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * The information computed from the metamodels during the loads and the saves, which can be shared by several
+ * resources, loaded or saved concurrently, with {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_METAMODEL_CACHE}.
+ * <p>
+ * The structural features found for the keys of the data of the objects depend on the options of the loads, so a
+ * cache must only be shared by resources using the same
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_EXTENDED_META_DATA} and
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_CUSTOM_HELPER} options. The serialization plans of
+ * the EClasses are kept by {@link EClassSerializationPlan.Key}, with the values of the save options used to compute
+ * them, so they can be shared by saves using different options. The packages and the types
+ * found in a package registry are kept for this registry only, as long as it is used, and the packages and types
+ * which are not found are not kept, so that the packages registered afterwards are found. If a package is replaced in
+ * a registry, {@link #clear()} must be called.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class JsonMetamodelCache {
+
+    /**
+     * The structural features matching the keys of the data of the objects, for each EClass.
+     */
+    private final Map<EClass, Map<String, Optional<EStructuralFeature>>> eStructuralFeatures = new ConcurrentHashMap<>();
+
+    /**
+     * The packages and the types found in each package registry.
+     */
+    private final Map<RegistryReference, RegistryCache> registryCaches = new ConcurrentHashMap<>();
+
+    /**
+     * The queue of the references to the package registries which are not used anymore.
+     */
+    private final ReferenceQueue<EPackage.Registry> unusedRegistries = new ReferenceQueue<>();
+
+    /**
+     * The serialization plans of the EClasses, for each value of the options used to compute them.
+     */
+    private final Map<EClassSerializationPlan.Key, EClassSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Forgets everything which has been cached.
+     */
+    public void clear() {
+        this.eStructuralFeatures.clear();
+        this.registryCaches.clear();
+        this.serializationPlans.clear();
+    }
+
+    /**
+     * Returns the structural feature of the given EClass matching the given key of the data of an object, computed
+     * with the given function the first time.
+     *
+     * @param eClass
+     *            the EClass
+     * @param key
+     *            the key of the data
+     * @param function
+     *            the function computing the structural feature
+     * @return the structural feature or <code>null</code> if none matches the key
+     */
+    EStructuralFeature getEStructuralFeature(EClass eClass, String key, BiFunction<EClass, String, EStructuralFeature> function) {
+        Map<String, Optional<EStructuralFeature>> eClassFeatures = this.eStructuralFeatures.computeIfAbsent(eClass, klass -> new ConcurrentHashMap<>());
+        return eClassFeatures.computeIfAbsent(key, name -> Optional.ofNullable(function.apply(eClass, name))).orElse(null);
+    }
+
+    /**
+     * Returns the package registered for the given namespace URI in the given registry, computed with the given
+     * function the first time. The packages which are not found are not cached.
+     *
+     * @param packageRegistry
+     *            the package registry
+     * @param nsURI
+     *            the namespace URI
+     * @param function
+     *            the function finding the package in the registry
+     * @return the package or <code>null</code> if none is registered
+     */
+    EPackage getEPackage(EPackage.Registry packageRegistry, String nsURI, Function<String, EPackage> function) {
+        return this.getRegistryCache(packageRegistry).ePackages.computeIfAbsent(nsURI, function);
+    }
+
+    /**
+     * Returns the EClass matching the given qualified type name in the packages of the given registry, computed with
+     * the given function the first time. The types which are not found are not cached.
+     *
+     * @param packageRegistry
+     *            the package registry
+     * @param qualifiedType
+     *            the qualified type name
+     * @param function
+     *            the function finding the EClass in the registry
+     * @return the EClass or <code>null</code> if none matches the type name
+     */
+    EClass getType(EPackage.Registry packageRegistry, String qualifiedType, Function<String, EClass> function) {
+        return this.getRegistryCache(packageRegistry).types.computeIfAbsent(qualifiedType, function);
+    }
+
+    /**
+     * Returns the serialization plans of the EClasses.
+     *
+     * @return the serialization plans
+     */
+    Map<EClassSerializationPlan.Key, EClassSerializationPlan> getSerializationPlans() {
+        return this.serializationPlans;
+    }
+
+    /**
+     * Returns the packages and the types found in the given registry, after having forgotten the ones of the
+     * registries which are not used anymore.
+     *
+     * @param packageRegistry
+     *            the package registry
+     * @return the packages and the types found in the registry
+     */
+    private RegistryCache getRegistryCache(EPackage.Registry packageRegistry) {
+        Reference<? extends EPackage.Registry> unusedRegistry = this.unusedRegistries.poll();
+        while (unusedRegistry != null) {
+            this.registryCaches.remove(unusedRegistry);
+            unusedRegistry = this.unusedRegistries.poll();
+        }
+        return this.registryCaches.computeIfAbsent(new RegistryReference(packageRegistry, this.unusedRegistries), reference -> new RegistryCache());
+    }
+
+    /**
+     * A weak reference to a package registry, identifying it by its identity since the registries are maps whose
+     * equality depends on their packages.
+     *
+     * @author Obeo
+     */
+    private static final class RegistryReference extends WeakReference<EPackage.Registry> {
+
+        /**
+         * The identity hash code of the registry.
+         */
+        private final int hashCode;
+
+        /**
+         * The constructor.
+         *
+         * @param packageRegistry
+         *            the package registry
+         * @param queue
+         *            the queue of the references to the registries which are not used anymore
+         */
+        RegistryReference(EPackage.Registry packageRegistry, ReferenceQueue<EPackage.Registry> queue) {
+            super(packageRegistry, queue);
+            this.hashCode = System.identityHashCode(packageRegistry);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            boolean isEqual = this == obj;
+            if (!isEqual && obj instanceof RegistryReference other) {
+                EPackage.Registry packageRegistry = this.get();
+                isEqual = packageRegistry != null && packageRegistry == other.get();
+            }
+            return isEqual;
+        }
+    }
+
+    /**
+     * The packages and the types found in a package registry.
+     *
+     * @author Obeo
+     */
+    private static final class RegistryCache {
+
+        /**
+         * The packages registered for each namespace URI.
+         */
+        private final Map<String, EPackage> ePackages = new ConcurrentHashMap<>();
+
+        /**
+         * The EClasses found for each qualified type name (e.g. "flow:System").
+         */
+        private final Map<String, EClass> types = new ConcurrentHashMap<>();
+    }
+}
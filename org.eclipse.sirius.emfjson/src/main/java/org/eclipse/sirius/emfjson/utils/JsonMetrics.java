@@ -0,0 +1,413 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * The time spent in each phase of a load or a save and the number of elements processed, given to the
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource.IMetricsListener}.
+ * <p>
+ * The phases are nested, for example the creation of a proxy happens during the resolution of a reference, and the time
+ * of a phase does not include the time of the phases nested in it, so the times can be added. The time of the
+ * {@link Phase#PARSING} of a load and of the {@link Phase#WRITING} of a save is the time which is not spent in another
+ * phase. When the objects are serialized or deserialized concurrently, the times of all the threads are added, which
+ * includes the time the calling thread waits for the others. The metrics are only computed when a listener is given,
+ * the methods of {@link #disabled()} do nothing, and only the counters are computed for the events of
+ * {@link JsonResourceEvents}.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class JsonMetrics {
+
+    /**
+     * The metrics which are not computed.
+     */
+    private static final JsonMetrics DISABLED = new JsonMetrics(false, false);
+
+    /**
+     * Indicates if the times of the phases are computed.
+     */
+    private final boolean isTimed;
+
+    /**
+     * Indicates if the counters are computed.
+     */
+    private final boolean isCounted;
+
+    /**
+     * The time spent in each phase, in nanoseconds, by ordinal of the phase.
+     */
+    private final long[] times = new long[Phase.values().length];
+
+    /**
+     * The value of each counter, by ordinal of the counter.
+     */
+    private final long[] counts = new long[Counter.values().length];
+
+    /**
+     * The phases which have been started and not stopped yet, the last one being the current phase.
+     */
+    private Phase[] startedPhases = new Phase[8];
+
+    /**
+     * The number of phases which have been started and not stopped yet.
+     */
+    private int depth;
+
+    /**
+     * The time when the current phase has been started or resumed, in nanoseconds.
+     */
+    private long currentPhaseTime;
+
+    /**
+     * The constructor of the metrics computed.
+     */
+    public JsonMetrics() {
+        this(true, true);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param isTimed
+     *            indicates if the times of the phases are computed
+     * @param isCounted
+     *            indicates if the counters are computed
+     */
+    private JsonMetrics(boolean isTimed, boolean isCounted) {
+        this.isTimed = isTimed;
+        this.isCounted = isCounted;
+    }
+
+    /**
+     * Returns the metrics which are not computed, used when no listener is given.
+     *
+     * @return The metrics which are not computed
+     */
+    public static JsonMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns new metrics computing only the counters, without the cost of measuring the times of the phases, used
+     * when only the events of {@link JsonResourceEvents} are recorded.
+     *
+     * @return The metrics computing only the counters
+     */
+    public static JsonMetrics counters() {
+        return new JsonMetrics(false, true);
+    }
+
+    /**
+     * Indicates if the metrics are computed, at least the counters.
+     *
+     * @return <code>true</code> if the metrics are computed, <code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return this.isCounted;
+    }
+
+    /**
+     * Starts the given phase, the current phase being suspended until the given one is stopped.
+     *
+     * @param phase
+     *            the phase
+     */
+    public void start(Phase phase) {
+        if (this.isTimed) {
+            this.elapse(System.nanoTime());
+            if (this.depth == this.startedPhases.length) {
+                this.startedPhases = Arrays.copyOf(this.startedPhases, this.depth * 2);
+            }
+            this.startedPhases[this.depth] = phase;
+            this.depth++;
+        }
+    }
+
+    /**
+     * Stops the given phase, which must be the current one, and resumes the previous one.
+     *
+     * @param phase
+     *            the phase
+     * @throws IllegalStateException
+     *             if the given phase is not the current one
+     */
+    public void stop(Phase phase) {
+        if (this.isTimed) {
+            if (this.depth == 0 || this.startedPhases[this.depth - 1] != phase) {
+                throw new IllegalStateException("The phase " + phase + " is not the current one"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            this.elapse(System.nanoTime());
+            this.depth--;
+        }
+    }
+
+    /**
+     * Adds the time elapsed since the current phase has been started or resumed to this phase.
+     *
+     * @param time
+     *            the current time in nanoseconds
+     */
+    private void elapse(long time) {
+        if (this.depth > 0) {
+            this.times[this.startedPhases[this.depth - 1].ordinal()] += time - this.currentPhaseTime;
+        }
+        this.currentPhaseTime = time;
+    }
+
+    /**
+     * Increments the given counter.
+     *
+     * @param counter
+     *            the counter
+     */
+    public void increment(Counter counter) {
+        if (this.isCounted) {
+            this.counts[counter.ordinal()]++;
+        }
+    }
+
+    /**
+     * Adds the given value to the given counter.
+     *
+     * @param counter
+     *            the counter
+     * @param value
+     *            the value
+     */
+    public void add(Counter counter, long value) {
+        if (this.isCounted) {
+            this.counts[counter.ordinal()] += value;
+        }
+    }
+
+    /**
+     * Adds the times and the counters of the given metrics, computed by another thread, to these metrics.
+     *
+     * @param metrics
+     *            the metrics
+     */
+    public void add(JsonMetrics metrics) {
+        if (this.isCounted) {
+            for (int i = 0; i < this.times.length; i++) {
+                this.times[i] += metrics.times[i];
+            }
+            for (int i = 0; i < this.counts.length; i++) {
+                this.counts[i] += metrics.counts[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the time spent in the given phase, without the time of the phases nested in it.
+     *
+     * @param phase
+     *            the phase
+     * @return The time in nanoseconds
+     */
+    public long getTime(Phase phase) {
+        return this.times[phase.ordinal()];
+    }
+
+    /**
+     * Returns the value of the given counter.
+     *
+     * @param counter
+     *            the counter
+     * @return The value of the counter
+     */
+    public long getCount(Counter counter) {
+        return this.counts[counter.ordinal()];
+    }
+
+    /**
+     * Returns a stream counting the {@link Counter#BYTES} read from the given stream, or the given stream itself if the
+     * metrics are not computed. The bytes of a {@link ByteBufferInputStream} are counted at once, since they are read
+     * straight from its buffer.
+     *
+     * @param inputStream
+     *            the stream
+     * @return The counting stream
+     */
+    public InputStream count(InputStream inputStream) {
+        InputStream result = inputStream;
+        if (this.isCounted && inputStream instanceof ByteBufferInputStream byteBufferInputStream) {
+            this.add(Counter.BYTES, byteBufferInputStream.available());
+        } else if (this.isCounted) {
+            result = new FilterInputStream(inputStream) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value != -1) {
+                        JsonMetrics.this.increment(Counter.BYTES);
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int count = super.read(b, off, len);
+                    if (count > 0) {
+                        JsonMetrics.this.add(Counter.BYTES, count);
+                    }
+                    return count;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long count = super.skip(n);
+                    JsonMetrics.this.add(Counter.BYTES, count);
+                    return count;
+                }
+
+                @Override
+                public boolean markSupported() {
+                    // The bytes read again after a reset would be counted twice
+                    return false;
+                }
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Returns a stream counting the {@link Counter#BYTES} written in the given stream, or the given stream itself if
+     * the metrics are not computed.
+     *
+     * @param outputStream
+     *            the stream
+     * @return The counting stream
+     */
+    public OutputStream count(OutputStream outputStream) {
+        OutputStream result = outputStream;
+        if (this.isCounted) {
+            result = new FilterOutputStream(outputStream) {
+                @Override
+                public void write(int b) throws IOException {
+                    this.out.write(b);
+                    JsonMetrics.this.increment(Counter.BYTES);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                    JsonMetrics.this.add(Counter.BYTES, len);
+                }
+            };
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("JsonMetrics ["); //$NON-NLS-1$
+        for (Phase phase : Phase.values()) {
+            builder.append(phase).append('=').append(this.getTime(phase)).append("ns, "); //$NON-NLS-1$
+        }
+        for (Counter counter : Counter.values()) {
+            builder.append(counter).append('=').append(this.getCount(counter)).append(", "); //$NON-NLS-1$
+        }
+        builder.setLength(builder.length() - 2);
+        return builder.append(']').toString();
+    }
+
+    /**
+     * A phase of a load or a save.
+     *
+     * @author Obeo
+     */
+    public enum Phase {
+        /**
+         * Reading the tokens of the document during a load, and everything which is not in another phase.
+         */
+        PARSING,
+
+        /**
+         * Creating the objects during a load.
+         */
+        OBJECT_CREATION,
+
+        /**
+         * Converting the values of the attributes from their serialized form during a load and to it during a save.
+         */
+        DATA_TYPE_CONVERSION,
+
+        /**
+         * Finding the objects referenced by the non containment references read during a load, and computing the URIs
+         * of the objects referenced by the non containment references during a save.
+         */
+        REFERENCE_RESOLUTION,
+
+        /**
+         * Setting the references to the objects which were not deserialized yet when the references were read.
+         */
+        FORWARD_REFERENCE_RESOLUTION,
+
+        /**
+         * Creating the proxies to the objects of other resources or of the contents which have not been loaded yet.
+         */
+        PROXY_CREATION,
+
+        /**
+         * Running the {@link org.eclipse.sirius.emfjson.resource.JsonResource.IJsonResourceProcessor}, the
+         * {@link org.eclipse.sirius.emfjson.resource.JsonResource.IEObjectHandler} and the
+         * {@link org.eclipse.sirius.emfjson.resource.JsonResource.ISerializationListener}.
+         */
+        CALLBACKS,
+
+        /**
+         * Visiting the objects to serialize them during a save, which includes writing them when they are written
+         * directly in the document with {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_STREAMING_SAVE}.
+         */
+        SERIALIZATION,
+
+        /**
+         * Writing the document during a save, and everything which is not in another phase.
+         */
+        WRITING
+    }
+
+    /**
+     * A counter of the elements processed by a load or a save.
+     *
+     * @author Obeo
+     */
+    public enum Counter {
+        /**
+         * The objects created during a load or serialized during a save.
+         */
+        OBJECTS,
+
+        /**
+         * The values of the non containment references read during a load or written during a save.
+         */
+        REFERENCES,
+
+        /**
+         * The proxies created during a load, or the references to objects of other resources written during a save.
+         */
+        PROXIES,
+
+        /**
+         * The bytes read during a load or written during a save.
+         */
+        BYTES
+    }
+}
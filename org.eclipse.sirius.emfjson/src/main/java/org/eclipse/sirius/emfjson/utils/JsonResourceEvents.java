@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * The JDK Flight Recorder events of the loads and saves of the JSON resources, recorded next to the other events of the
+ * JVM such as the garbage collections and the I/O.
+ * <p>
+ * An event is created and begun before each recorded operation. Its values are only computed when it should be
+ * committed, so an event which is not enabled in the recording costs an allocation removed by the JIT. The objects and
+ * the bytes of the loads and saves are counted by a {@link JsonMetrics} computing only its counters when no
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource.IMetricsListener} is given.
+ * </p>
+ * <p>
+ * The module <code>jdk.jfr</code> is optional, the events are only created if it is in the runtime, as indicated by
+ * {@link #isAvailable()}, since their classes cannot be loaded otherwise.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class JsonResourceEvents {
+
+    /**
+     * The category of the events.
+     */
+    private static final String CATEGORY = "Sirius EMF JSON"; //$NON-NLS-1$
+
+    /**
+     * Indicates if the module of the JDK Flight Recorder is in the runtime.
+     */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent(); //$NON-NLS-1$
+
+    /**
+     * The constructor.
+     */
+    private JsonResourceEvents() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Indicates if the module of the JDK Flight Recorder is in the runtime, which is required to create the events.
+     *
+     * @return <code>true</code> if the events can be created, <code>false</code> otherwise
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Indicates if the events of the loads are recorded, in which case the objects and the bytes read have to be
+     * counted.
+     *
+     * @return <code>true</code> if the events of the loads are recorded, <code>false</code> otherwise
+     */
+    public static boolean isLoadRecorded() {
+        return AVAILABLE && (new LoadEvent().isEnabled() || new ParseEvent().isEnabled());
+    }
+
+    /**
+     * Indicates if the events of the saves are recorded, in which case the objects and the bytes written have to be
+     * counted.
+     *
+     * @return <code>true</code> if the events of the saves are recorded, <code>false</code> otherwise
+     */
+    public static boolean isSaveRecorded() {
+        return AVAILABLE && (new SaveEvent().isEnabled() || new SerializationEvent().isEnabled());
+    }
+
+    /**
+     * An event of an operation on a whole resource. Its fields are not private since the fields of the super classes of
+     * an event are only recorded if they are not private.
+     *
+     * @author Obeo
+     */
+    abstract static class AbstractResourceEvent extends Event {
+
+        /**
+         * The URI of the resource.
+         */
+        @Label("Resource URI")
+        protected String resourceURI;
+
+        /**
+         * The number of objects loaded or saved.
+         */
+        @Label("Objects")
+        protected long objectCount;
+
+        /**
+         * The number of bytes read or written.
+         */
+        @Label("Size")
+        @DataAmount
+        protected long byteCount;
+
+        /**
+         * Ends the event and commits it with the given resource and the counters of the given metrics, if it should
+         * be.
+         *
+         * @param resource
+         *            the resource
+         * @param metrics
+         *            the metrics of the operation
+         */
+        public void commit(Resource resource, JsonMetrics metrics) {
+            if (this.shouldCommit()) {
+                this.resourceURI = String.valueOf(resource.getURI());
+                this.objectCount = metrics.getCount(JsonMetrics.Counter.OBJECTS);
+                this.byteCount = metrics.getCount(JsonMetrics.Counter.BYTES);
+                this.commit();
+            }
+        }
+    }
+
+    /**
+     * The load of a resource, from the opening of its document to the end of the deserialization of its objects.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.Load")
+    @Label("JSON Resource Load")
+    @Category(CATEGORY)
+    @Description("Loads a JSON resource")
+    public static final class LoadEvent extends AbstractResourceEvent {
+        // The values are the ones of the resource
+    }
+
+    /**
+     * The save of a resource, from the creation of its document to the end of its writing.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.Save")
+    @Label("JSON Resource Save")
+    @Category(CATEGORY)
+    @Description("Saves a JSON resource")
+    public static final class SaveEvent extends AbstractResourceEvent {
+        // The values are the ones of the resource
+    }
+
+    /**
+     * The parsing of the document of a resource and the deserialization of its objects.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.Parse")
+    @Label("JSON Resource Parse")
+    @Category(CATEGORY)
+    @Description("Parses the document of a JSON resource and deserializes its objects")
+    public static final class ParseEvent extends AbstractResourceEvent {
+        // The values are the ones of the resource
+    }
+
+    /**
+     * The serialization of the objects of a resource, which includes their writing when they are written directly in
+     * the document.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.Serialization")
+    @Label("JSON Resource Serialization")
+    @Category(CATEGORY)
+    @Description("Serializes the objects of a JSON resource")
+    public static final class SerializationEvent extends AbstractResourceEvent {
+        // The values are the ones of the resource
+    }
+
+    /**
+     * The resolution of the references to the objects which were not deserialized yet when the references were read,
+     * at the end of the deserialization. The references resolved as soon as their objects are deserialized are resolved
+     * during the {@link ParseEvent}.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.ForwardReferenceResolution")
+    @Label("JSON Forward Reference Resolution")
+    @Category(CATEGORY)
+    @Description("Resolves the references to the objects deserialized after them")
+    public static final class ForwardReferenceResolutionEvent extends Event {
+
+        /**
+         * The URI of the resource.
+         */
+        @Label("Resource URI")
+        private String resourceURI;
+
+        /**
+         * The number of references deferred since the referenced objects were not deserialized yet.
+         */
+        @Label("Deferred References")
+        private long deferredReferenceCount;
+
+        /**
+         * The number of references which could not be resolved.
+         */
+        @Label("Unresolved References")
+        private long unresolvedReferenceCount;
+
+        /**
+         * Ends the event and commits it with the given values, if it should be.
+         *
+         * @param resource
+         *            the resource or <code>null</code>
+         * @param deferredReferenceCount
+         *            the number of references deferred since the referenced objects were not deserialized yet
+         * @param unresolvedReferenceCount
+         *            the number of references which could not be resolved
+         */
+        public void commit(Resource resource, long deferredReferenceCount, long unresolvedReferenceCount) {
+            if (this.shouldCommit()) {
+                if (resource != null) {
+                    this.resourceURI = String.valueOf(resource.getURI());
+                }
+                this.deferredReferenceCount = deferredReferenceCount;
+                this.unresolvedReferenceCount = unresolvedReferenceCount;
+                this.commit();
+            }
+        }
+    }
+
+    /**
+     * The lookup of the package of a namespace or of a referenced resource, which may load this resource. Since it
+     * happens for each reference to another resource, only the slow lookups are recorded by default.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.PackageLookup")
+    @Label("JSON Package Lookup")
+    @Category(CATEGORY)
+    @Description("Finds the package of a namespace or of a referenced resource")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    public static final class PackageLookupEvent extends Event {
+
+        /**
+         * The URI of the resource.
+         */
+        @Label("Resource URI")
+        private String resourceURI;
+
+        /**
+         * The URI of the package.
+         */
+        @Label("Package URI")
+        private String packageURI;
+
+        /**
+         * Indicates if the package has been found.
+         */
+        @Label("Found")
+        private boolean found;
+
+        /**
+         * Ends the event and commits it with the given values, if it should be.
+         *
+         * @param resource
+         *            the resource or <code>null</code>
+         * @param packageURI
+         *            the URI of the package
+         * @param isFound
+         *            indicates if the package has been found
+         */
+        public void commit(Resource resource, String packageURI, boolean isFound) {
+            if (this.shouldCommit()) {
+                if (resource != null) {
+                    this.resourceURI = String.valueOf(resource.getURI());
+                }
+                this.packageURI = packageURI;
+                this.found = isFound;
+                this.commit();
+            }
+        }
+    }
+
+    /**
+     * The loading of the package of a schema location declared in the header of a document.
+     *
+     * @author Obeo
+     */
+    @Name("org.eclipse.sirius.emfjson.SchemaLocationLoading")
+    @Label("JSON Schema Location Loading")
+    @Category(CATEGORY)
+    @Description("Loads the package of a schema location of a JSON resource")
+    public static final class SchemaLocationLoadingEvent extends Event {
+
+        /**
+         * The URI of the resource.
+         */
+        @Label("Resource URI")
+        private String resourceURI;
+
+        /**
+         * The resolved schema location.
+         */
+        @Label("Schema Location")
+        private String schemaLocation;
+
+        /**
+         * Indicates if the package has been found.
+         */
+        @Label("Found")
+        private boolean found;
+
+        /**
+         * Ends the event and commits it with the given values, if it should be.
+         *
+         * @param resource
+         *            the resource or <code>null</code>
+         * @param schemaLocation
+         *            the resolved schema location
+         * @param isFound
+         *            indicates if the package has been found
+         */
+        public void commit(Resource resource, String schemaLocation, boolean isFound) {
+            if (this.shouldCommit()) {
+                if (resource != null) {
+                    this.resourceURI = String.valueOf(resource.getURI());
+                }
+                this.schemaLocation = schemaLocation;
+                this.found = isFound;
+                this.commit();
+            }
+        }
+    }
+}
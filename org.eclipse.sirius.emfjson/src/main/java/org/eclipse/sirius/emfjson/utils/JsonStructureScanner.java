@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A scanner finding the ranges of the values of a JSON document without parsing them, used to split the content of a
+ * document in parts parsed concurrently, see
+ * {@link org.eclipse.sirius.emfjson.resource.JsonResource#OPTION_PARALLEL_DESERIALIZATION}.
+ * <p>
+ * The scanner only follows the strings, to ignore the characters they contain, and the nesting of the objects and
+ * arrays. The values themselves are not checked, their syntax errors are found when the ranges are parsed. The
+ * documents which do not have the strict syntax written by the serialization, for example with comments, are not
+ * scanned.
+ * </p>
+ * <p>
+ * The document can be scanned from its characters or from its bytes encoded in UTF-8, such as a file mapped in memory,
+ * without decoding them first. Since the bytes of the characters which are not ASCII are all greater than
+ * <code>0x7F</code> in UTF-8, they cannot be mistaken for the ASCII characters of the structure. The ranges are then
+ * offsets in the bytes of the document, which are decoded by the readers created by {@link #createReader(int[])}.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class JsonStructureScanner {
+
+    /**
+     * The characters of the document or <code>null</code> if its bytes are scanned.
+     */
+    private final char[] chars;
+
+    /**
+     * The bytes of the document encoded in UTF-8 or <code>null</code> if its characters are scanned.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * The number of characters or bytes of the document.
+     */
+    private final int length;
+
+    /**
+     * The position of the next character to scan.
+     */
+    private int position;
+
+    /**
+     * The constructor.
+     *
+     * @param chars
+     *            the characters of the document
+     * @param length
+     *            the number of characters of the document
+     */
+    public JsonStructureScanner(char[] chars, int length) {
+        this.chars = chars;
+        this.bytes = null;
+        this.length = length;
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param bytes
+     *            the bytes of the document encoded in UTF-8, from the index <code>0</code> to the limit of the buffer,
+     *            which are not modified
+     */
+    public JsonStructureScanner(ByteBuffer bytes) {
+        this.chars = null;
+        this.bytes = bytes;
+        this.length = bytes.limit();
+    }
+
+    /**
+     * Creates a reader of the characters of the whole document.
+     *
+     * @return The reader
+     */
+    public Reader createReader() {
+        return this.createReader(new int[] { 0, this.length });
+    }
+
+    /**
+     * Creates a reader of the characters in the given range of the document. The readers of several ranges can be
+     * created and read concurrently.
+     *
+     * @param range
+     *            the range, as returned by {@link #scanRootObject()} or {@link #scanArray(int[])}
+     * @return The reader
+     */
+    public Reader createReader(int[] range) {
+        Reader reader = null;
+        if (this.chars != null) {
+            reader = new CharArrayReader(this.chars, range[0], range[1] - range[0]);
+        } else {
+            reader = new ByteBufferInputStream(this.bytes.slice(range[0], range[1] - range[0])).createReader(StandardCharsets.UTF_8);
+        }
+        return reader;
+    }
+
+    /**
+     * Scans the members of the root object of the document.
+     *
+     * @return The ranges of the values of the members, by name in the order of the document, or <code>null</code> if
+     *         the document is not a single object or has a member name with an escaped character. Each range contains
+     *         the offset of the first character of the value and the offset following its last character.
+     */
+    public Map<String, int[]> scanRootObject() {
+        this.position = 0;
+        this.skipWhitespaces();
+        if (this.chars != null && this.position < this.length && this.charAt(this.position) == '\ufeff') {
+            this.position++;
+            this.skipWhitespaces();
+        } else if (this.bytes != null && this.position + 2 < this.length && this.charAt(this.position) == 0xEF && this.charAt(this.position + 1) == 0xBB
+                && this.charAt(this.position + 2) == 0xBF) {
+            // The byte order mark encoded in UTF-8
+            this.position += 3;
+            this.skipWhitespaces();
+        }
+
+        Map<String, int[]> members = null;
+        if (this.consume('{')) {
+            members = new LinkedHashMap<>();
+            boolean isValid = true;
+            boolean hasNext = !this.consume('}');
+            while (isValid && hasNext) {
+                this.skipWhitespaces();
+                int nameStart = this.position + 1;
+                isValid = this.consume('"') && this.skipString();
+                String name = null;
+                if (isValid) {
+                    name = this.substring(nameStart, this.position - 1);
+                    isValid = name.indexOf('\\') == -1 && this.consume(':');
+                }
+                if (isValid) {
+                    this.skipWhitespaces();
+                    int valueStart = this.position;
+                    isValid = this.skipValue();
+                    members.put(name, new int[] { valueStart, this.position });
+                }
+                hasNext = isValid && this.consume(',');
+                isValid = isValid && (hasNext || this.consume('}'));
+            }
+            this.skipWhitespaces();
+            if (!isValid || this.position != this.length) {
+                members = null;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Scans the elements of the array in the given range.
+     *
+     * @param range
+     *            the range of the array, as returned by {@link #scanRootObject()}
+     * @return The ranges of the elements, in the order of the array, or <code>null</code> if the range is not an array
+     */
+    public List<int[]> scanArray(int[] range) {
+        this.position = range[0];
+
+        List<int[]> elements = null;
+        if (this.consume('[')) {
+            elements = new ArrayList<>();
+            boolean isValid = true;
+            boolean hasNext = !this.consume(']');
+            while (isValid && hasNext) {
+                this.skipWhitespaces();
+                int elementStart = this.position;
+                isValid = this.skipValue();
+                elements.add(new int[] { elementStart, this.position });
+                hasNext = isValid && this.consume(',');
+                isValid = isValid && (hasNext || this.consume(']'));
+            }
+            if (!isValid || this.position != range[1]) {
+                elements = null;
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the character at the given position, or the byte at this position converted to a character if the bytes
+     * of the document are scanned.
+     *
+     * @param index
+     *            the position
+     * @return The character
+     */
+    private char charAt(int index) {
+        char c;
+        if (this.chars != null) {
+            c = this.chars[index];
+        } else {
+            c = (char) (this.bytes.get(index) & 0xFF);
+        }
+        return c;
+    }
+
+    /**
+     * Returns the characters between the given positions.
+     *
+     * @param start
+     *            the position of the first character
+     * @param end
+     *            the position following the last character
+     * @return The characters
+     */
+    private String substring(int start, int end) {
+        String substring = null;
+        if (this.chars != null) {
+            substring = new String(this.chars, start, end - start);
+        } else {
+            substring = StandardCharsets.UTF_8.decode(this.bytes.slice(start, end - start)).toString();
+        }
+        return substring;
+    }
+
+    /**
+     * Skips the whitespaces and then the given character, if it is the next one.
+     *
+     * @param c
+     *            the character
+     * @return <code>true</code> if the character has been skipped, <code>false</code> otherwise
+     */
+    private boolean consume(char c) {
+        this.skipWhitespaces();
+        boolean isConsumed = this.position < this.length && this.charAt(this.position) == c;
+        if (isConsumed) {
+            this.position++;
+        }
+        return isConsumed;
+    }
+
+    /**
+     * Skips the whitespaces.
+     */
+    private void skipWhitespaces() {
+        while (this.position < this.length && this.isWhitespace(this.charAt(this.position))) {
+            this.position++;
+        }
+    }
+
+    /**
+     * Indicates if the given character is a JSON whitespace.
+     *
+     * @param c
+     *            the character
+     * @return <code>true</code> if the character is a whitespace, <code>false</code> otherwise
+     */
+    private boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Skips the value starting at the current position.
+     *
+     * @return <code>true</code> if a value has been skipped, <code>false</code> otherwise
+     */
+    private boolean skipValue() {
+        boolean isSkipped = false;
+        if (this.position < this.length) {
+            char c = this.charAt(this.position);
+            if (c == '"') {
+                this.position++;
+                isSkipped = this.skipString();
+            } else if (c == '{' || c == '[') {
+                isSkipped = this.skipNestedValues();
+            } else {
+                int start = this.position;
+                while (this.position < this.length && !this.isLiteralEnd(this.charAt(this.position))) {
+                    this.position++;
+                }
+                isSkipped = this.position > start;
+            }
+        }
+        return isSkipped;
+    }
+
+    /**
+     * Indicates if the given character ends a literal, such as a number or <code>true</code>.
+     *
+     * @param c
+     *            the character
+     * @return <code>true</code> if the character ends a literal, <code>false</code> otherwise
+     */
+    private boolean isLiteralEnd(char c) {
+        return c == ',' || c == ':' || c == '}' || c == ']' || c == '{' || c == '[' || c == '"' || this.isWhitespace(c);
+    }
+
+    /**
+     * Skips the object or the array starting at the current position, with the values it contains.
+     *
+     * @return <code>true</code> if the object or the array has been closed, <code>false</code> otherwise
+     */
+    private boolean skipNestedValues() {
+        boolean isValid = true;
+        int depth = 0;
+        do {
+            char c = this.charAt(this.position++);
+            if (c == '"') {
+                isValid = this.skipString();
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        } while (isValid && depth > 0 && this.position < this.length);
+        return isValid && depth == 0;
+    }
+
+    /**
+     * Skips the characters of the string whose opening quote has just been skipped, up to its closing quote.
+     *
+     * @return <code>true</code> if the closing quote has been skipped, <code>false</code> otherwise
+     */
+    private boolean skipString() {
+        boolean isClosed = false;
+        while (!isClosed && this.position < this.length) {
+            char c = this.charAt(this.position++);
+            if (c == '\\') {
+                this.position++;
+            } else if (c == '"') {
+                isClosed = true;
+            }
+        }
+        return isClosed;
+    }
+}
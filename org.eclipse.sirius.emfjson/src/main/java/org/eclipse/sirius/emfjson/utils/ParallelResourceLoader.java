@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+
+/**
+ * Loads several resources of the same resource set concurrently on an executor, for example a fixed thread pool or an
+ * executor creating a virtual thread per task.
+ * <p>
+ * The resources are created in the resource set before the loads, which only synchronize on the resource set, with
+ * {@link JsonResource#OPTION_RESOURCE_SET_LOCK}, when they read or modify its package registry or its resources. The
+ * references to the objects of other resources are loaded as proxies, which can be resolved once all the resources
+ * are loaded. The {@link org.eclipse.sirius.emfjson.resource.PackageNotFoundError} of the references to the other
+ * resources are only added once all the resources are loaded, so that they do not depend on the order of the loads.
+ * Each resource is loaded with its own copy of the options and the option values keeping a state during a
+ * load, such as {@link JsonResource#OPTION_CUSTOM_HELPER}, {@link JsonResource#OPTION_URI_HANDLER} and
+ * {@link JsonResource#OPTION_RESOURCE_ENTITY_HANDLER}, must be created for each resource with
+ * {@link #ParallelResourceLoader(Executor, Function)}. The adapters of the resource set are notified from the threads
+ * of the executor.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class ParallelResourceLoader {
+
+    /**
+     * The key of the load option whose value is the collection in which the loads add the checks of the packages
+     * which have not been found in the other resources, to run them once all the resources are loaded.
+     */
+    private static final String PACKAGE_CHECKS_OPTION = ParallelResourceLoader.class.getName() + ".packageChecks"; //$NON-NLS-1$
+
+    /**
+     * The executor running the loads.
+     */
+    private final Executor executor;
+
+    /**
+     * The function providing the load options of each resource.
+     */
+    private final Function<? super Resource, ? extends Map<?, ?>> optionsProvider;
+
+    /**
+     * Creates a loader using a copy of the given options for each resource.
+     *
+     * @param executor
+     *            the executor running the loads
+     * @param options
+     *            the load options, without any option value keeping a state during a load
+     * @throws IllegalArgumentException
+     *             if the options contain a custom helper, an URI handler or a resource entity handler which would be
+     *             shared by the concurrent loads
+     */
+    public ParallelResourceLoader(Executor executor, Map<?, ?> options) {
+        this(executor, resource -> new HashMap<>(options));
+        if (options.get(JsonResource.OPTION_CUSTOM_HELPER) != null || options.get(JsonResource.OPTION_URI_HANDLER) != null
+                || options.get(JsonResource.OPTION_RESOURCE_ENTITY_HANDLER) != null) {
+            throw new IllegalArgumentException("The custom helper, URI handler and resource entity handler must be created for each resource"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Creates a loader using the options provided by the given function for each resource.
+     *
+     * @param executor
+     *            the executor running the loads
+     * @param optionsProvider
+     *            the function called for each resource, on the thread of its load, to provide its load options
+     */
+    public ParallelResourceLoader(Executor executor, Function<? super Resource, ? extends Map<?, ?>> optionsProvider) {
+        this.executor = executor;
+        this.optionsProvider = optionsProvider;
+    }
+
+    /**
+     * Loads the resources with the given URIs in the given resource set and waits for the end of all the loads. The
+     * resources which are already loaded are left as they are.
+     *
+     * @param resourceSet
+     *            the resource set
+     * @param uris
+     *            the URIs of the resources
+     * @param resolveProxies
+     *            <code>true</code> to resolve the proxies of the loaded resources once they are all loaded, which may
+     *            load other resources
+     * @return the errors of the resources which could not be loaded, in the order of the URIs
+     */
+    public Map<URI, Exception> load(ResourceSet resourceSet, Collection<URI> uris, boolean resolveProxies) {
+        Map<URI, Exception> errors = new ConcurrentHashMap<>();
+        Map<Resource, URI> resources = new LinkedHashMap<>();
+        for (URI uri : uris) {
+            Resource resource = resourceSet.getResource(uri, false);
+            if (resource == null) {
+                resource = resourceSet.createResource(uri);
+            }
+            if (resource == null) {
+                errors.put(uri, new IOException("No resource factory is registered for " + uri)); //$NON-NLS-1$
+            } else if (!resource.isLoaded()) {
+                resources.put(resource, uri);
+            }
+        }
+
+        Queue<Runnable> packageChecks = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> loads = new ArrayList<>(resources.size());
+        for (Map.Entry<Resource, URI> entry : resources.entrySet()) {
+            loads.add(CompletableFuture.runAsync(() -> this.load(resourceSet, entry.getKey(), entry.getValue(), packageChecks, errors), this.executor));
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[loads.size()])).join();
+        packageChecks.forEach(Runnable::run);
+
+        if (resolveProxies) {
+            for (Map.Entry<Resource, URI> entry : resources.entrySet()) {
+                if (!errors.containsKey(entry.getValue())) {
+                    EcoreUtil.resolveAll(entry.getKey());
+                }
+            }
+        }
+
+        Map<URI, Exception> orderedErrors = new LinkedHashMap<>();
+        for (URI uri : uris) {
+            Exception exception = errors.get(uri);
+            if (exception != null) {
+                orderedErrors.put(uri, exception);
+            }
+        }
+        return orderedErrors;
+    }
+
+    /**
+     * Loads the given resource and keeps its error, if any.
+     *
+     * @param resourceSet
+     *            the resource set of the resource
+     * @param resource
+     *            the resource
+     * @param uri
+     *            the URI with which the resource has been requested
+     * @param packageChecks
+     *            the checks of the packages run once all the resources are loaded
+     * @param errors
+     *            the errors of the resources
+     */
+    private void load(ResourceSet resourceSet, Resource resource, URI uri, Queue<Runnable> packageChecks, Map<URI, Exception> errors) {
+        try {
+            Map<Object, Object> options = new HashMap<>(this.optionsProvider.apply(resource));
+            options.put(JsonResource.OPTION_RESOURCE_SET_LOCK, resourceSet);
+            options.put(PACKAGE_CHECKS_OPTION, packageChecks);
+            resource.load(options);
+        } catch (IOException | RuntimeException exception) {
+            errors.put(uri, exception);
+        }
+    }
+
+    /**
+     * Returns the collection in which a load started by a loader adds the checks of the packages which have not been
+     * found in the other resources, to run them once all the resources are loaded.
+     *
+     * @param options
+     *            the load options
+     * @return the collection of the checks or <code>null</code> if the load has not been started by a loader
+     */
+    @SuppressWarnings("unchecked")
+    static Collection<Runnable> getPackageChecks(Map<?, ?> options) {
+        Collection<Runnable> packageChecks = null;
+        if (options.get(PACKAGE_CHECKS_OPTION) instanceof Collection<?>) {
+            packageChecks = (Collection<Runnable>) options.get(PACKAGE_CHECKS_OPTION);
+        }
+        return packageChecks;
+    }
+}
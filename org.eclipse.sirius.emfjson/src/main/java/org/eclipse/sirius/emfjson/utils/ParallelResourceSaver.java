@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+
+/**
+ * Saves several resources concurrently on an executor, for example a fixed thread pool or an executor creating a
+ * virtual thread per task.
+ * <p>
+ * Each resource is saved with {@link Resource#save(Map)} with its own copy of the options, and thus its own
+ * serializer, {@link JsonHelper} and dangling references. The option values keeping a state during a save, such as
+ * {@link JsonResource#OPTION_CUSTOM_HELPER}, {@link JsonResource#OPTION_URI_HANDLER} and
+ * {@link JsonResource#OPTION_RESOURCE_ENTITY_HANDLER}, must be created for each resource with
+ * {@link #ParallelResourceSaver(Executor, Function)}. Since resolving a proxy may load a resource in the resource set,
+ * which is not thread-safe, the proxies of the saved resources should be resolved before the save, for example with
+ * {@link org.eclipse.emf.ecore.util.EcoreUtil#resolveAll(ResourceSet)}.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class ParallelResourceSaver {
+
+    /**
+     * The executor running the saves.
+     */
+    private final Executor executor;
+
+    /**
+     * The function providing the save options of each resource.
+     */
+    private final Function<? super Resource, ? extends Map<?, ?>> optionsProvider;
+
+    /**
+     * Creates a saver using a copy of the given options for each resource.
+     *
+     * @param executor
+     *            the executor running the saves
+     * @param options
+     *            the save options, without any option value keeping a state during a save
+     * @throws IllegalArgumentException
+     *             if the options contain a custom helper, an URI handler or a resource entity handler which would be
+     *             shared by the concurrent saves
+     */
+    public ParallelResourceSaver(Executor executor, Map<?, ?> options) {
+        this(executor, resource -> new HashMap<>(options));
+        if (options.get(JsonResource.OPTION_CUSTOM_HELPER) != null || options.get(JsonResource.OPTION_URI_HANDLER) != null
+                || options.get(JsonResource.OPTION_RESOURCE_ENTITY_HANDLER) != null) {
+            throw new IllegalArgumentException("The custom helper, URI handler and resource entity handler must be created for each resource"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Creates a saver using the options provided by the given function for each resource.
+     *
+     * @param executor
+     *            the executor running the saves
+     * @param optionsProvider
+     *            the function called for each resource, on the thread of its save, to provide its save options
+     */
+    public ParallelResourceSaver(Executor executor, Function<? super Resource, ? extends Map<?, ?>> optionsProvider) {
+        this.executor = executor;
+        this.optionsProvider = optionsProvider;
+    }
+
+    /**
+     * Saves the JSON resources of the given resource set.
+     *
+     * @param resourceSet
+     *            the resource set
+     * @return the errors of the resources which could not be saved, in the order of the resources
+     */
+    public Map<Resource, Exception> save(ResourceSet resourceSet) {
+        List<Resource> jsonResources = new ArrayList<>();
+        for (Resource resource : new ArrayList<>(resourceSet.getResources())) {
+            if (resource instanceof JsonResource) {
+                jsonResources.add(resource);
+            }
+        }
+        return this.save(jsonResources);
+    }
+
+    /**
+     * Saves the given resources and waits for the end of all the saves.
+     *
+     * @param resources
+     *            the resources
+     * @return the errors of the resources which could not be saved, in the order of the resources
+     */
+    public Map<Resource, Exception> save(Collection<? extends Resource> resources) {
+        Map<Resource, Exception> errors = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> saves = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            saves.add(CompletableFuture.runAsync(() -> this.save(resource, errors), this.executor));
+        }
+        CompletableFuture.allOf(saves.toArray(new CompletableFuture<?>[saves.size()])).join();
+
+        Map<Resource, Exception> orderedErrors = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            Exception exception = errors.get(resource);
+            if (exception != null) {
+                orderedErrors.put(resource, exception);
+            }
+        }
+        return orderedErrors;
+    }
+
+    /**
+     * Saves the given resource and keeps its error, if any.
+     *
+     * @param resource
+     *            the resource
+     * @param errors
+     *            the errors of the resources
+     */
+    private void save(Resource resource, Map<Resource, Exception> errors) {
+        try {
+            resource.save(this.optionsProvider.apply(resource));
+        } catch (IOException | RuntimeException exception) {
+            errors.put(resource, exception);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * The index of the root objects of a resource in its contents, used to compute the root segment of the URI fragments
+ * without searching the whole contents each time.
+ * <p>
+ * The index is computed the first time it is needed and computed again when the contents have changed since then.
+ * It is shared by the threads serializing the parts of a resource or the resources referencing it, so each computed
+ * index is published as an immutable snapshot, computed under a lock, and is never modified afterwards.
+ * </p>
+ *
+ * @author Obeo
+ */
+public final class RootObjectIndex {
+
+    /**
+     * The index of each root object, found when the index has been computed, never modified once published.
+     */
+    private volatile Map<EObject, Integer> indexes = Collections.emptyMap();
+
+    /**
+     * Returns the index of the given object in the given contents.
+     *
+     * @param contents
+     *            the contents of the resource
+     * @param eObject
+     *            the object
+     * @return The index of the object or <code>-1</code> if it is not in the contents
+     */
+    public int indexOf(List<? extends EObject> contents, EObject eObject) {
+        Integer index = this.indexes.get(eObject);
+        if (this.isStale(contents, eObject, index)) {
+            index = this.computeIndexes(contents, eObject).get(eObject);
+        }
+
+        int result = -1;
+        if (index != null) {
+            result = index.intValue();
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if the given index found for the given object does not match the given contents anymore.
+     *
+     * @param contents
+     *            the contents of the resource
+     * @param eObject
+     *            the object
+     * @param index
+     *            the index found for the object or <code>null</code>
+     * @return <code>true</code> if the index has to be computed again, <code>false</code> otherwise
+     */
+    private boolean isStale(List<? extends EObject> contents, EObject eObject, Integer index) {
+        return index == null || index.intValue() >= contents.size() || contents.get(index.intValue()) != eObject;
+    }
+
+    /**
+     * Computes the index of the given contents and publishes it, unless another thread has just published an index
+     * matching the given object.
+     *
+     * @param contents
+     *            the contents of the resource
+     * @param eObject
+     *            the object whose index is needed
+     * @return The published index
+     */
+    private synchronized Map<EObject, Integer> computeIndexes(List<? extends EObject> contents, EObject eObject) {
+        Map<EObject, Integer> computedIndexes = this.indexes;
+        if (this.isStale(contents, eObject, computedIndexes.get(eObject))) {
+            int size = contents.size();
+            computedIndexes = new IdentityHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                computedIndexes.put(contents.get(i), Integer.valueOf(i));
+            }
+            computedIndexes = Collections.unmodifiableMap(computedIndexes);
+            this.indexes = computedIndexes;
+        }
+        return computedIndexes;
+    }
+
+    /**
+     * Forgets the computed index.
+     */
+    public void clear() {
+        this.indexes = Collections.emptyMap();
+    }
+}
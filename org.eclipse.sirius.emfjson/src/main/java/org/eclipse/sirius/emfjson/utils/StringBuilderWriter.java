@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.Writer;
+
+/**
+ * A writer appending the characters to a {@link StringBuilder}, used to build a JSON string without encoding it in
+ * bytes and decoding it back, nor synchronizing each write like {@link java.io.StringWriter} does.
+ *
+ * @author Obeo
+ */
+public class StringBuilderWriter extends Writer {
+
+    /**
+     * The string builder.
+     */
+    private final StringBuilder builder;
+
+    /**
+     * The constructor.
+     *
+     * @param builder
+     *            the string builder
+     */
+    public StringBuilderWriter(StringBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public void write(int c) {
+        this.builder.append((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        this.builder.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str) {
+        this.builder.append(str);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        this.builder.append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+        this.builder.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) {
+        this.builder.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) {
+        this.builder.append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // Nothing to flush
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A writer encoding the characters in UTF-8 directly in a buffer, written in the output stream when it is full, instead
+ * of going through a {@link java.nio.charset.CharsetEncoder} for each small string written by the
+ * {@link com.google.gson.stream.JsonWriter}.
+ * <p>
+ * The buffer is reused by the next writer created by the same thread once this writer is closed. The malformed
+ * surrogate pairs are replaced by <code>?</code>, like {@link java.io.OutputStreamWriter} does.
+ * </p>
+ *
+ * @author Obeo
+ */
+public class Utf8Writer extends Writer {
+
+    /**
+     * The size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum number of bytes of the UTF-8 encoding of a code point.
+     */
+    private static final int MAX_BYTES_PER_CODE_POINT = 4;
+
+    /**
+     * The byte replacing the malformed surrogate pairs.
+     */
+    private static final byte REPLACEMENT = '?';
+
+    /**
+     * The buffer which is not used by a writer of the thread, if any.
+     */
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+    /**
+     * The output stream.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * The buffer of the bytes not written in the output stream yet or <code>null</code> once the writer is closed.
+     */
+    private byte[] buffer;
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int position;
+
+    /**
+     * The high surrogate written at the end of the last characters, whose low surrogate is not written yet, or
+     * <code>0</code>.
+     */
+    private char highSurrogate;
+
+    /**
+     * The constructor.
+     *
+     * @param outputStream
+     *            the output stream
+     */
+    public Utf8Writer(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.buffer = BUFFERS.get();
+        if (this.buffer == null) {
+            this.buffer = new byte[BUFFER_SIZE];
+        } else {
+            BUFFERS.remove();
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        this.ensureOpen();
+        this.encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        this.ensureOpen();
+        for (int i = off; i < off + len; i++) {
+            this.encode(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        this.ensureOpen();
+        for (int i = off; i < off + len; i++) {
+            this.encode(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.flushBuffer();
+        this.outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.buffer != null) {
+            try {
+                if (this.highSurrogate != 0) {
+                    this.highSurrogate = 0;
+                    this.buffer[this.position++] = REPLACEMENT;
+                }
+                this.flushBuffer();
+                this.outputStream.close();
+            } finally {
+                BUFFERS.set(this.buffer);
+                this.buffer = null;
+            }
+        }
+    }
+
+    /**
+     * Encodes the given character in the buffer.
+     *
+     * @param c
+     *            the character
+     * @throws IOException
+     *             if the full buffer cannot be written
+     */
+    private void encode(char c) throws IOException {
+        if (this.position > this.buffer.length - MAX_BYTES_PER_CODE_POINT) {
+            this.flushBuffer();
+        }
+        byte[] bytes = this.buffer;
+        char high = this.highSurrogate;
+        this.highSurrogate = 0;
+        if (high != 0 && !Character.isLowSurrogate(c)) {
+            bytes[this.position++] = REPLACEMENT;
+            if (this.position > bytes.length - MAX_BYTES_PER_CODE_POINT) {
+                this.flushBuffer();
+            }
+            high = 0;
+        }
+
+        if (high != 0) {
+            int codePoint = Character.toCodePoint(high, c);
+            bytes[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (c < 0x80) {
+            bytes[this.position++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[this.position++] = (byte) (0xC0 | (c >> 6));
+            bytes[this.position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[this.position++] = REPLACEMENT;
+        } else {
+            bytes[this.position++] = (byte) (0xE0 | (c >> 12));
+            bytes[this.position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[this.position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Writes the bytes of the buffer in the output stream.
+     *
+     * @throws IOException
+     *             if the bytes cannot be written
+     */
+    private void flushBuffer() throws IOException {
+        if (this.position > 0) {
+            this.outputStream.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Checks that the writer is not closed.
+     *
+     * @throws IOException
+     *             if the writer is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (this.buffer == null) {
+            throw new IOException("Stream closed"); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+
+package model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Serializes a {@link TestPojoDataTypeImpl} as the string used by the XMI serialization instead of a Json object.
+ *
+ * @author Obeo
+ */
+public class TestPojoDataTypeAdapter extends TypeAdapter<TestPojoDataTypeImpl> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+     */
+    @Override
+    public void write(JsonWriter out, TestPojoDataTypeImpl value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.toString());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+     */
+    @Override
+    public TestPojoDataTypeImpl read(JsonReader in) throws IOException {
+        TestPojoDataTypeImpl value = null;
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+        } else {
+            value = TestPojoDataTypeImpl.valueOf(in.nextString());
+        }
+        return value;
+    }
+}
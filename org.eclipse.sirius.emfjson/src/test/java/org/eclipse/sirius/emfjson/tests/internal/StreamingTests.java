@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.AttributesLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.ClassLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.ContainmentReferencesLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.DataTypeLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.NonContainmentReferencesLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.AttributesSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.ClassSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.ContainmentReferencesSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.DataTypeSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.ExtendedMetaDataTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.NonContainmentReferencesSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.OperationsSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.SerializeOptionsTests;
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.Suite;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
+
+/**
+ * Runs the load tests with {@link JsonResource#OPTION_STREAMING_LOAD} and the save tests with
+ * {@link JsonResource#OPTION_STREAMING_SAVE}, the name of each test being followed by the option with which it runs.
+ *
+ * @author Obeo
+ */
+@RunWith(StreamingTests.StreamingSuite.class)
+public final class StreamingTests {
+
+    /**
+     * The load tests run with {@link JsonResource#OPTION_STREAMING_LOAD}.
+     */
+    private static final List<Class<? extends AbstractEMFJsonTests>> LOAD_TESTS = List.of(AttributesLoadTests.class, ClassLoadTests.class, ContainmentReferencesLoadTests.class,
+            DataTypeLoadTests.class, NonContainmentReferencesLoadTests.class);
+
+    /**
+     * The save tests run with {@link JsonResource#OPTION_STREAMING_SAVE}.
+     */
+    private static final List<Class<? extends AbstractEMFJsonTests>> SAVE_TESTS = List.of(AttributesSaveTests.class, ClassSaveTests.class, ContainmentReferencesSaveTests.class,
+            DataTypeSaveTests.class, ExtendedMetaDataTests.class, NonContainmentReferencesSaveTests.class, OperationsSaveTests.class, SerializeOptionsTests.class);
+
+    /**
+     * The constructor.
+     */
+    private StreamingTests() {
+    }
+
+    /**
+     * The suite running each test class with its streaming option.
+     *
+     * @author Obeo
+     */
+    public static final class StreamingSuite extends Suite {
+
+        /**
+         * The constructor.
+         *
+         * @param suiteClass
+         *            the class of the suite
+         * @throws InitializationError
+         *             if a test class is not valid
+         */
+        public StreamingSuite(Class<?> suiteClass) throws InitializationError {
+            super(suiteClass, StreamingSuite.createRunners());
+        }
+
+        /**
+         * Creates the runners of the test classes.
+         *
+         * @return the runners
+         * @throws InitializationError
+         *             if a test class is not valid
+         */
+        private static List<Runner> createRunners() throws InitializationError {
+            List<Runner> runners = new ArrayList<>();
+            for (Class<? extends AbstractEMFJsonTests> testClass : LOAD_TESTS) {
+                runners.add(new OptionRunner(testClass, JsonResource.OPTION_STREAMING_LOAD));
+            }
+            for (Class<? extends AbstractEMFJsonTests> testClass : SAVE_TESTS) {
+                runners.add(new OptionRunner(testClass, JsonResource.OPTION_STREAMING_SAVE));
+            }
+            return runners;
+        }
+    }
+
+    /**
+     * Runs the tests of a class with a boolean option enabled.
+     *
+     * @author Obeo
+     */
+    private static final class OptionRunner extends BlockJUnit4ClassRunner {
+
+        /**
+         * The option enabled.
+         */
+        private final String option;
+
+        /**
+         * The constructor.
+         *
+         * @param testClass
+         *            the test class
+         * @param option
+         *            the option enabled
+         * @throws InitializationError
+         *             if the test class is not valid
+         */
+        OptionRunner(Class<? extends AbstractEMFJsonTests> testClass, String option) throws InitializationError {
+            super(testClass);
+            this.option = option;
+        }
+
+        @Override
+        protected Object createTest() throws Exception {
+            AbstractEMFJsonTests test = (AbstractEMFJsonTests) super.createTest();
+            test.options.put(this.option, Boolean.TRUE);
+            return test;
+        }
+
+        @Override
+        protected String getName() {
+            return super.getName() + '[' + this.option + ']';
+        }
+
+        @Override
+        protected String testName(FrameworkMethod method) {
+            return super.testName(method) + '[' + this.option + ']';
+        }
+    }
+}
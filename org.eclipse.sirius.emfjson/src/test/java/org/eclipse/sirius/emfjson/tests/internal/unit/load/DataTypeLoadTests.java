@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@
 
 package org.eclipse.sirius.emfjson.tests.internal.unit.load;
 
+import com.google.gson.GsonBuilder;
+
 import java.util.function.Predicate;
 
 import org.eclipse.emf.ecore.EDataType;
@@ -20,6 +22,7 @@ import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
 import org.junit.Test;
 
+import model.TestPojoDataTypeAdapter;
 import model.TestPojoDataTypeImpl;
 
 /**
@@ -87,4 +90,21 @@ public class DataTypeLoadTests extends AbstractEMFJsonTests {
         this.testLoad("NodeMultiValuedAttributePojoDataType.xmi"); //$NON-NLS-1$
     }
 
+    /**
+     * Test deserialization of POJO EDataType EAttribute multivalued with a custom TypeAdapter.
+     */
+    @Test
+    public void testLoadMultiValuedAttributePojoDataTypeAdapter() {
+        Predicate<EDataType> eDataTypeJsonSerializableTester = new Predicate<EDataType>() {
+            @Override
+            public boolean test(EDataType eDataType) {
+                return eDataType.getInstanceClass() == TestPojoDataTypeImpl.class;
+            }
+        };
+        this.options.put(JsonResource.OPTION_SHOULD_EDATATYPE_BE_SERIALIZED_IN_JSON_PREDICATE, eDataTypeJsonSerializableTester);
+        this.options.put(JsonResource.OPTION_EDATATYPE_GSON, new GsonBuilder().registerTypeAdapter(TestPojoDataTypeImpl.class, new TestPojoDataTypeAdapter()).create());
+
+        this.testLoad("NodeMultiValuedAttributePojoDataTypeAdapter.xmi"); //$NON-NLS-1$
+    }
+
 }
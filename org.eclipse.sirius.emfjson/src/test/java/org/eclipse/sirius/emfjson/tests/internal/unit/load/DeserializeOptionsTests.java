@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ package org.eclipse.sirius.emfjson.tests.internal.unit.load;
 import com.google.common.collect.Lists;
 import com.google.common.io.CharStreams;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,17 +24,25 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -43,8 +52,10 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.ExtendedMetaData;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
 import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.ExtendedMetaDataTests;
 import org.junit.Assert;
@@ -425,4 +436,142 @@ public class DeserializeOptionsTests extends AbstractEMFJsonTests {
         this.options.put(JsonResource.OPTION_MISSING_PACKAGE_HANDLER, missingPackageHandler);
         this.testLoad("TestMissingPackageHandlerOption.ecore"); //$NON-NLS-1$
     }
+
+    /**
+     * Test the deserialization with a custom filter which does not load the classifiers of the packages nor their
+     * namespace URI.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testDeserializationWithFilter() throws IOException {
+        this.testDeserializationWithFilter(false);
+    }
+
+    /**
+     * Test the streaming deserialization with a custom filter which does not load the classifiers of the packages nor
+     * their namespace URI.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testStreamingDeserializationWithFilter() throws IOException {
+        this.testDeserializationWithFilter(true);
+    }
+
+    /**
+     * Test the deserialization with a custom filter which does not load the classifiers of the packages nor their
+     * namespace URI.
+     *
+     * @param isStreamingLoad
+     *            <code>true</code> to use {@link JsonResource#OPTION_STREAMING_LOAD}
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    private void testDeserializationWithFilter(boolean isStreamingLoad) throws IOException {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("root"); //$NON-NLS-1$
+        ePackage.setNsURI("root"); //$NON-NLS-1$
+        EPackage eSubpackage = EcoreFactory.eINSTANCE.createEPackage();
+        eSubpackage.setName("sub"); //$NON-NLS-1$
+        ePackage.getESubpackages().add(eSubpackage);
+        for (EPackage container : List.of(ePackage, eSubpackage)) {
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName(container.getName() + "Class"); //$NON-NLS-1$
+            eClass.getEStructuralFeatures().add(EcoreFactory.eINSTANCE.createEAttribute());
+            container.getEClassifiers().add(eClass);
+        }
+        Resource resource = new JsonResourceImpl(URI.createURI("filter.json"), new HashMap<>()); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, new HashMap<>());
+
+        List<EStructuralFeature> filteredFeatures = List.of(EcorePackage.Literals.EPACKAGE__ECLASSIFIERS, EcorePackage.Literals.EPACKAGE__NS_URI);
+        JsonResource.EStructuralFeaturesFilter featuresFilter = new JsonResource.EStructuralFeaturesFilter() {
+
+            @Override
+            public boolean shouldSave(EObject eObject, EStructuralFeature eStructuralFeature) {
+                return true;
+            }
+
+            @Override
+            public boolean shouldLoad(EObject eObject, EStructuralFeature eStructuralFeature) {
+                return !filteredFeatures.contains(eStructuralFeature);
+            }
+        };
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_ESTRUCTURAL_FEATURES_FILTER, featuresFilter);
+        loadOptions.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.valueOf(isStreamingLoad));
+        Resource loadedResource = new JsonResourceImpl(URI.createURI("filter.json"), new HashMap<>()); //$NON-NLS-1$
+        new ResourceSetImpl().getResources().add(loadedResource);
+        loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), loadOptions);
+
+        EPackage loadedEPackage = (EPackage) loadedResource.getContents().get(0);
+        Assert.assertEquals("root", loadedEPackage.getName()); //$NON-NLS-1$
+        Assert.assertNull(loadedEPackage.getNsURI());
+        Assert.assertTrue(loadedEPackage.getEClassifiers().isEmpty());
+        Assert.assertEquals(1, loadedEPackage.getESubpackages().size());
+        EPackage loadedESubpackage = loadedEPackage.getESubpackages().get(0);
+        Assert.assertEquals("sub", loadedESubpackage.getName()); //$NON-NLS-1$
+        Assert.assertTrue(loadedESubpackage.getEClassifiers().isEmpty());
+    }
+
+    /**
+     * Checks that the streaming deserialization of a document whose schema locations are after its content uses the
+     * package registered by the schema locations.
+     *
+     * @throws IOException
+     *             if the package or the resource cannot be saved or loaded
+     */
+    @Test
+    public void testStreamingSchemaLocationAfterContent() throws IOException {
+        String nsURI = "http://streaming/schemaLocation"; //$NON-NLS-1$
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("schema"); //$NON-NLS-1$
+        ePackage.setNsPrefix("schema"); //$NON-NLS-1$
+        ePackage.setNsURI(nsURI);
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eAttribute.setName("name"); //$NON-NLS-1$
+        eAttribute.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(eAttribute);
+        ePackage.getEClassifiers().add(eClass);
+
+        Path file = Files.createTempFile("schema", ".ecore"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            URI fileURI = URI.createFileURI(file.toString());
+            Resource ecoreResource = new XMIResourceImpl(fileURI);
+            ecoreResource.getContents().add(ePackage);
+            ecoreResource.save(new HashMap<>());
+
+            for (boolean isSchemaLocationFirst : List.of(true, false)) {
+                String header = "\"json\": {\"version\": \"1.0\", \"encoding\": \"utf-8\"}, \"ns\": {\"schema\": \"" + nsURI + "\"}"; //$NON-NLS-1$ //$NON-NLS-2$
+                String schemaLocation = "\"schemaLocation\": {\"" + nsURI + "\": \"" + fileURI + "#/\"}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                String content = "\"content\": [{\"eClass\": \"schema:Node\", \"data\": {\"name\": \"node\"}}]"; //$NON-NLS-1$
+                String document = null;
+                if (isSchemaLocationFirst) {
+                    document = "{" + header + ", " + schemaLocation + ", " + content + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                } else {
+                    document = "{" + header + ", " + content + ", " + schemaLocation + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                }
+
+                ResourceSet resourceSet = new ResourceSetImpl();
+                resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new XMIResourceFactoryImpl()); //$NON-NLS-1$
+                Resource resource = new JsonResourceImpl(URI.createURI("file:/schemaLocation/schemaLocation.json"), new HashMap<>()); //$NON-NLS-1$
+                resourceSet.getResources().add(resource);
+                resource.load(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), Map.of(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE));
+
+                Assert.assertTrue(resource.getErrors().isEmpty());
+                Assert.assertEquals(1, resource.getContents().size());
+                EObject node = resource.getContents().get(0);
+                Assert.assertEquals(nsURI, node.eClass().getEPackage().getNsURI());
+                Assert.assertEquals("node", node.eGet(node.eClass().getEStructuralFeature("name"))); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonResourceEvents;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the JDK Flight Recorder events of {@link JsonResourceEvents} recorded during the loads and saves.
+ *
+ * @author Obeo
+ */
+public class FlightRecorderEventsTests {
+
+    /**
+     * The number of objects of the resource.
+     */
+    private static final int OBJECT_COUNT = 20;
+
+    /**
+     * The URI of the resource.
+     */
+    private static final String RESOURCE_URI = "file:/events/events.json"; //$NON-NLS-1$
+
+    /**
+     * The URI of the resource referenced by the last object of the resource.
+     */
+    private static final String OTHER_RESOURCE_URI = "file:/events/other.json"; //$NON-NLS-1$
+
+    /**
+     * The prefix of the names of the events.
+     */
+    private static final String EVENT_PREFIX = "org.eclipse.sirius.emfjson."; //$NON-NLS-1$
+
+    /**
+     * Checks that the events of a save and of a load are recorded with the URI of the resource and its counters.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded or if the recording cannot be read
+     */
+    @Test
+    public void testEvents() throws IOException {
+        EPackage ePackage = this.createPackage();
+        Assert.assertTrue(JsonResourceEvents.isAvailable());
+
+        List<RecordedEvent> events = null;
+        byte[] document = null;
+        Path path = Files.createTempFile("events", ".jfr"); //$NON-NLS-1$ //$NON-NLS-2$
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Load", "Save", "Parse", "Serialization", "ForwardReferenceResolution", "PackageLookup")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+                recording.enable(EVENT_PREFIX + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            Assert.assertTrue(JsonResourceEvents.isLoadRecorded());
+            Assert.assertTrue(JsonResourceEvents.isSaveRecorded());
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            this.createResource(ePackage).save(outputStream, new HashMap<>());
+            document = outputStream.toByteArray();
+
+            ResourceSet resourceSet = new ResourceSetImpl();
+            resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+            Resource resource = new JsonResourceImpl(URI.createURI(RESOURCE_URI), new HashMap<>());
+            resourceSet.getResources().add(resource);
+            resource.load(new ByteArrayInputStream(document), Map.of(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE));
+
+            recording.stop();
+            recording.dump(path);
+            events = RecordingFile.readAllEvents(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+
+        Map<String, List<RecordedEvent>> eventsByName = events.stream().filter(event -> event.getEventType().getName().startsWith(EVENT_PREFIX))
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName().substring(EVENT_PREFIX.length())));
+        for (String name : List.of("Load", "Save", "Parse", "Serialization")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+            Assert.assertEquals(name, 1, eventsByName.getOrDefault(name, List.of()).size());
+            RecordedEvent event = eventsByName.get(name).get(0);
+            Assert.assertEquals(RESOURCE_URI, event.getString("resourceURI")); //$NON-NLS-1$
+            Assert.assertEquals(OBJECT_COUNT, event.getLong("objectCount")); //$NON-NLS-1$
+            if (!"Serialization".equals(name)) { //$NON-NLS-1$
+                Assert.assertEquals(document.length, event.getLong("byteCount")); //$NON-NLS-1$
+            }
+        }
+
+        RecordedEvent forwardReferenceEvent = eventsByName.get("ForwardReferenceResolution").get(0); //$NON-NLS-1$
+        Assert.assertEquals(OBJECT_COUNT - 1, forwardReferenceEvent.getLong("deferredReferenceCount")); //$NON-NLS-1$
+        Assert.assertEquals(0, forwardReferenceEvent.getLong("unresolvedReferenceCount")); //$NON-NLS-1$
+        RecordedEvent packageLookupEvent = eventsByName.get("PackageLookup").get(0); //$NON-NLS-1$
+        // The URI of the other resource is written relative to the resource
+        Assert.assertEquals("other.json", packageLookupEvent.getString("packageURI")); //$NON-NLS-1$ //$NON-NLS-2$
+        Assert.assertFalse(packageLookupEvent.getBoolean("found")); //$NON-NLS-1$
+    }
+
+    /**
+     * Creates a package with an EClass <code>Node</code> having a name and a reference to another node.
+     *
+     * @return The package
+     */
+    private EPackage createPackage() {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+        EPackage nodePackage = factory.createEPackage();
+        nodePackage.setName("e"); //$NON-NLS-1$
+        nodePackage.setNsPrefix("e"); //$NON-NLS-1$
+        nodePackage.setNsURI("http://events"); //$NON-NLS-1$
+
+        EClass eClass = factory.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        nodePackage.getEClassifiers().add(eClass);
+
+        EAttribute name = factory.createEAttribute();
+        name.setName("name"); //$NON-NLS-1$
+        name.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(name);
+
+        EReference next = factory.createEReference();
+        next.setName("next"); //$NON-NLS-1$
+        next.setEType(eClass);
+        eClass.getEStructuralFeatures().add(next);
+        return nodePackage;
+    }
+
+    /**
+     * Creates a resource whose nodes reference the next node, so that all the references are forward references, the
+     * last node referencing a node of another resource.
+     *
+     * @param ePackage
+     *            the package of the nodes
+     * @return The resource
+     */
+    private Resource createResource(EPackage ePackage) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new JsonResourceImpl(URI.createURI(RESOURCE_URI), new HashMap<>());
+        Resource otherResource = new JsonResourceImpl(URI.createURI(OTHER_RESOURCE_URI), new HashMap<>());
+        resourceSet.getResources().add(resource);
+        resourceSet.getResources().add(otherResource);
+        EClass eClass = (EClass) ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        EObject previousNode = null;
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            EObject node = EcoreUtil.create(eClass);
+            node.eSet(eClass.getEStructuralFeature("name"), "node" + i); //$NON-NLS-1$ //$NON-NLS-2$
+            resource.getContents().add(node);
+            if (previousNode != null) {
+                previousNode.eSet(eClass.getEStructuralFeature("next"), node); //$NON-NLS-1$
+            }
+            previousNode = node;
+        }
+        EObject otherNode = EcoreUtil.create(eClass);
+        otherResource.getContents().add(otherNode);
+        previousNode.eSet(eClass.getEStructuralFeature("next"), otherNode); //$NON-NLS-1$
+        return resource;
+    }
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.IDManager;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.GsonEObjectDeserializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the resolution of the many-valued non containment references, including the references to objects which are
+ * deserialized after the objects referencing them, by path or by id.
+ *
+ * @author Obeo
+ */
+public class ForwardReferencesLoadTests {
+
+    /**
+     * A package whose classes have super types declared after them.
+     */
+    private static final String JSON = """
+            {
+              "json": { "version": "1.0", "encoding": "utf-8" },
+              "ns": { "ecore": "http://www.eclipse.org/emf/2002/Ecore" },
+              "content": [
+                {
+                  "eClass": "ecore:EPackage",
+                  "data": {
+                    "name": "test",
+                    "eClassifiers": [
+                      { "eClass": "ecore:EClass", "data": { "name": "First", "eSuperTypes": [ "//Fourth" ] } },
+                      { "eClass": "ecore:EClass", "data": { "name": "Second" } },
+                      { "eClass": "ecore:EClass", "data": { "name": "Third", "eSuperTypes": [ "//Fifth", "//Fourth", "//Second", "//Fifth", "//Missing" ] } },
+                      { "eClass": "ecore:EClass", "data": { "name": "Fourth" } },
+                      { "eClass": "ecore:EClass", "data": { "name": "Fifth", "eSuperTypes": [ "//Second", "//First", "//Second" ] } }
+                    ]
+                  }
+                }
+              ]
+            }
+            """; //$NON-NLS-1$
+
+    /**
+     * The same package whose classes have ids, the super types being referenced by their ids, before or after their
+     * declaration.
+     */
+    private static final String JSON_WITH_IDS = """
+            {
+              "json": { "version": "1.0", "encoding": "utf-8" },
+              "ns": { "ecore": "http://www.eclipse.org/emf/2002/Ecore" },
+              "content": [
+                {
+                  "eClass": "ecore:EPackage",
+                  "id": "package",
+                  "data": {
+                    "name": "test",
+                    "eClassifiers": [
+                      { "eClass": "ecore:EClass", "id": "c1", "data": { "name": "First", "eSuperTypes": [ "c4" ] } },
+                      { "eClass": "ecore:EClass", "id": "c2", "data": { "name": "Second" } },
+                      { "eClass": "ecore:EClass", "id": "c3", "data": { "name": "Third", "eSuperTypes": [ "c5", "c4", "c2", "c5", "missing" ] } },
+                      { "eClass": "ecore:EClass", "id": "c4", "data": { "name": "Fourth" } },
+                      { "eClass": "ecore:EClass", "id": "c5", "data": { "name": "Fifth", "eSuperTypes": [ "c2", "c1", "c2" ] } }
+                    ]
+                  }
+                }
+              ]
+            }
+            """; //$NON-NLS-1$
+
+    /**
+     * Checks that the forward references are inserted at their position in the tree deserialization.
+     */
+    @Test
+    public void testForwardReferencesPositions() {
+        JsonResourceImpl resource = this.createResource();
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(resource, new HashMap<>());
+        deserializer.deserialize(JsonParser.parseString(JSON), null, null);
+
+        this.assertForwardReferences(resource, deserializer);
+    }
+
+    /**
+     * Checks that the forward references are inserted at their position in the streaming deserialization.
+     *
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    @Test
+    public void testStreamingForwardReferencesPositions() throws IOException {
+        JsonResourceImpl resource = this.createResource();
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(resource, new HashMap<>());
+        deserializer.deserialize(new JsonReader(new StringReader(JSON)));
+
+        this.assertForwardReferences(resource, deserializer);
+    }
+
+    /**
+     * Checks that the references by id to objects deserialized before or after them are inserted at their position in
+     * the tree deserialization.
+     */
+    @Test
+    public void testForwardReferencesWithIDs() {
+        JsonResourceImpl resource = this.createResource(Map.of(JsonResource.OPTION_ID_MANAGER, new MapIDManager()));
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(resource, new HashMap<>());
+        deserializer.deserialize(JsonParser.parseString(JSON_WITH_IDS), null, null);
+
+        this.assertForwardReferences(resource, deserializer);
+        this.assertIDs(resource);
+    }
+
+    /**
+     * Checks that the references by id to objects deserialized before or after them are inserted at their position in
+     * the streaming deserialization.
+     *
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    @Test
+    public void testStreamingForwardReferencesWithIDs() throws IOException {
+        JsonResourceImpl resource = this.createResource(Map.of(JsonResource.OPTION_ID_MANAGER, new MapIDManager()));
+        GsonEObjectDeserializer deserializer = new GsonEObjectDeserializer(resource, new HashMap<>());
+        deserializer.deserialize(new JsonReader(new StringReader(JSON_WITH_IDS)));
+
+        this.assertForwardReferences(resource, deserializer);
+        this.assertIDs(resource);
+    }
+
+    /**
+     * Creates the resource in which the document is deserialized.
+     *
+     * @return the resource
+     */
+    private JsonResourceImpl createResource() {
+        return this.createResource(new HashMap<>());
+    }
+
+    /**
+     * Creates the resource with the given options in which the document is deserialized.
+     *
+     * @param options
+     *            the options of the resource
+     * @return the resource
+     */
+    private JsonResourceImpl createResource(Map<?, ?> options) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        // The package of the classes is not registered globally until it is used
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        JsonResourceImpl resource = new JsonResourceImpl(URI.createURI("test.json"), new HashMap<Object, Object>(options)); //$NON-NLS-1$
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    /**
+     * Checks that the classes have their ids and that the super types are the objects with these ids.
+     *
+     * @param resource
+     *            the resource
+     */
+    private void assertIDs(JsonResourceImpl resource) {
+        List<EClassifier> eClassifiers = ((EPackage) resource.getContents().get(0)).getEClassifiers();
+        for (int i = 0; i < eClassifiers.size(); i++) {
+            Assert.assertEquals("c" + (i + 1), resource.getID(eClassifiers.get(i))); //$NON-NLS-1$
+            Assert.assertSame(eClassifiers.get(i), resource.getEObject("c" + (i + 1))); //$NON-NLS-1$
+        }
+        Assert.assertSame(eClassifiers.get(3), ((EClass) eClassifiers.get(0)).getESuperTypes().get(0));
+        Assert.assertSame(eClassifiers.get(4), ((EClass) eClassifiers.get(2)).getESuperTypes().get(0));
+        Assert.assertSame(eClassifiers.get(1), ((EClass) eClassifiers.get(4)).getESuperTypes().get(0));
+        Assert.assertNull(resource.getEObject("missing")); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks the super types of the deserialized classes and the number of deferred and unresolved references.
+     *
+     * @param resource
+     *            the resource
+     * @param deserializer
+     *            the deserializer
+     */
+    private void assertForwardReferences(JsonResourceImpl resource, GsonEObjectDeserializer deserializer) {
+        EPackage ePackage = (EPackage) resource.getContents().get(0);
+        List<EClassifier> eClassifiers = ePackage.getEClassifiers();
+
+        Assert.assertEquals(List.of("Fourth"), this.getSuperTypeNames((EClass) eClassifiers.get(0))); //$NON-NLS-1$
+        Assert.assertEquals(List.of("Fifth", "Fourth", "Second"), this.getSuperTypeNames((EClass) eClassifiers.get(2))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        Assert.assertEquals(List.of("Second", "First"), this.getSuperTypeNames((EClass) eClassifiers.get(4))); //$NON-NLS-1$ //$NON-NLS-2$
+        Assert.assertEquals(5, deserializer.getDeferredReferenceCount());
+        Assert.assertEquals(1, deserializer.getUnresolvedReferenceCount());
+    }
+
+    /**
+     * Returns the names of the super types of the given class.
+     *
+     * @param eClass
+     *            the class
+     * @return the names of the super types
+     */
+    private List<String> getSuperTypeNames(EClass eClass) {
+        return eClass.getESuperTypes().stream().map(ENamedElement::getName).collect(Collectors.toList());
+    }
+
+    /**
+     * An {@link IDManager} keeping the ids of the objects in a map.
+     */
+    private static final class MapIDManager implements IDManager {
+
+        /**
+         * The ids of the objects.
+         */
+        private final Map<EObject, String> ids = new IdentityHashMap<>();
+
+        @Override
+        public String getOrCreateId(EObject eObject) {
+            return this.ids.computeIfAbsent(eObject, key -> UUID.randomUUID().toString());
+        }
+
+        @Override
+        public Optional<String> findId(EObject eObject) {
+            return Optional.ofNullable(this.ids.get(eObject));
+        }
+
+        @Override
+        public void clearId(EObject eObject) {
+            this.ids.remove(eObject);
+        }
+
+        @Override
+        public String setId(EObject eObject, String id) {
+            return this.ids.put(eObject, id);
+        }
+    }
+}
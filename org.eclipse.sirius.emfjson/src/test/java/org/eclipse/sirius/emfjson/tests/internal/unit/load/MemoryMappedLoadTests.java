@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
+import org.eclipse.sirius.emfjson.utils.ByteBufferInputStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the load of resources stored in local files with {@link JsonResource#OPTION_MEMORY_MAPPED_LOAD}.
+ *
+ * @author Obeo
+ */
+public class MemoryMappedLoadTests {
+
+    /**
+     * The file of the resources.
+     */
+    private Path file;
+
+    /**
+     * Creates the file of the resources.
+     *
+     * @throws IOException
+     *             if the file cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("emfjson-mapped", ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Deletes the file of the resources.
+     *
+     * @throws IOException
+     *             if the file cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    /**
+     * Checks that a resource is loaded from its mapped file.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testMemoryMappedLoad() throws IOException {
+        this.assertLoad(new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Checks that a resource is loaded from its mapped file with {@link JsonResource#OPTION_STREAMING_LOAD}.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testStreamingMemoryMappedLoad() throws IOException {
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE);
+        this.assertLoad(new HashMap<>(), loadOptions);
+    }
+
+    /**
+     * Checks that a compressed resource in the binary format is loaded from its mapped file.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testCompressedBinaryMemoryMappedLoad() throws IOException {
+        Map<Object, Object> saveOptions = new HashMap<>();
+        saveOptions.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        saveOptions.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        this.assertLoad(saveOptions, loadOptions);
+    }
+
+    /**
+     * Checks that the load of a missing file still fails like without the option.
+     */
+    @Test
+    public void testMissingFile() {
+        Resource resource = new JsonResourceImpl(URI.createFileURI(this.file.resolveSibling("missing.json").toString()), new HashMap<>()); //$NON-NLS-1$
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_MEMORY_MAPPED_LOAD, Boolean.TRUE);
+        try {
+            resource.load(loadOptions);
+            Assert.fail("A missing file should not be loaded"); //$NON-NLS-1$
+        } catch (IOException exception) {
+            Assert.assertTrue(resource.isLoaded());
+        }
+    }
+
+    /**
+     * Checks that a resource loaded from its mapped file can be saved back in this file and loaded again.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testSaveInMappedFile() throws IOException {
+        URI uri = URI.createFileURI(this.file.toString());
+        Resource savedResource = new JsonResourceImpl(uri, new HashMap<>());
+        savedResource.getContents().add(this.createEPackage("saved")); //$NON-NLS-1$
+        savedResource.save(new HashMap<>());
+
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_MEMORY_MAPPED_LOAD, Boolean.TRUE);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new JsonResourceImpl(uri, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        resource.load(loadOptions);
+        ((EPackage) resource.getContents().get(0)).setName("modified"); //$NON-NLS-1$
+        resource.getContents().add(this.createEPackage("added")); //$NON-NLS-1$
+        resource.save(new HashMap<>());
+
+        Resource reloadedResource = new JsonResourceImpl(uri, new HashMap<>());
+        new ResourceSetImpl().getResources().add(reloadedResource);
+        reloadedResource.load(loadOptions);
+        Assert.assertTrue(EcoreUtil.equals(resource.getContents(), reloadedResource.getContents()));
+    }
+
+    /**
+     * Checks that the resource is loaded from the stream of the URI handler of its resource set, which does not read
+     * the local file of its URI.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testURIHandler() throws IOException {
+        URI uri = URI.createFileURI(this.file.toString());
+        Resource savedResource = new JsonResourceImpl(uri, new HashMap<>());
+        savedResource.getContents().add(this.createEPackage("file")); //$NON-NLS-1$
+        savedResource.save(new HashMap<>());
+
+        Resource handledResource = new JsonResourceImpl(uri, new HashMap<>());
+        handledResource.getContents().add(this.createEPackage("handler")); //$NON-NLS-1$
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        handledResource.save(outputStream, new HashMap<>());
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getURIConverter().getURIHandlers().add(0, new URIHandlerImpl() {
+            @Override
+            public boolean canHandle(URI handledURI) {
+                return uri.equals(handledURI);
+            }
+
+            @Override
+            public InputStream createInputStream(URI handledURI, Map<?, ?> options) {
+                return new ByteArrayInputStream(outputStream.toByteArray());
+            }
+        });
+        Resource resource = new JsonResourceImpl(uri, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_MEMORY_MAPPED_LOAD, Boolean.TRUE);
+        resource.load(loadOptions);
+        Assert.assertEquals("handler", ((EPackage) resource.getContents().get(0)).getName()); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that a mapped file is read from the position of its channel and that no more bytes are read once the
+     * mapping is released.
+     *
+     * @throws IOException
+     *             if the file cannot be written or read
+     */
+    @Test
+    public void testReleasedMapping() throws IOException {
+        Files.write(this.file, new byte[] { 1, 2, 3 });
+        try (FileChannel fileChannel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            fileChannel.position(1);
+            InputStream inputStream = ByteBufferInputStream.map(fileChannel);
+            Assert.assertEquals(2, inputStream.read());
+            inputStream.close();
+            Assert.assertEquals(-1, inputStream.read());
+            Assert.assertEquals(0, inputStream.available());
+            inputStream.close();
+        }
+        Files.delete(this.file);
+    }
+
+    /**
+     * Checks that the characters decoded from a byte buffer are the same as the characters encoded, even when they
+     * are read one by one and split in surrogate pairs.
+     *
+     * @throws IOException
+     *             if the characters cannot be read
+     */
+    @Test
+    public void testByteBufferReader() throws IOException {
+        String string = "{\"name\": \"é€😀\"}\ud83d"; //$NON-NLS-1$
+        String expected = new String(string.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder();
+        try (Reader reader = new ByteBufferInputStream(buffer).createReader(StandardCharsets.UTF_8)) {
+            char[] chars = new char[1];
+            int count = reader.read(chars, 0, 1);
+            while (count != -1) {
+                builder.append(chars, 0, count);
+                count = reader.read(chars, 0, 1);
+            }
+        }
+        Assert.assertEquals(expected, builder.toString());
+    }
+
+    /**
+     * Creates an EPackage with the given name.
+     *
+     * @param name
+     *            the name
+     * @return The EPackage
+     */
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        ePackage.setNsURI("http://www.obeo.fr/" + name); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        return ePackage;
+    }
+
+    /**
+     * Saves the metamodel of the tests in the file, loads it back with {@link JsonResource#OPTION_MEMORY_MAPPED_LOAD}
+     * and checks that the loaded objects are equal to the saved ones.
+     *
+     * @param saveOptions
+     *            the save options
+     * @param loadOptions
+     *            the load options, to which {@link JsonResource#OPTION_MEMORY_MAPPED_LOAD} is added
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    private void assertLoad(Map<Object, Object> saveOptions, Map<Object, Object> loadOptions) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new XMIResourceFactoryImpl()); //$NON-NLS-1$
+        URI metamodelURI = URI.createURI(AbstractEMFJsonTests.class.getResource("/nodes.ecore").toString()); //$NON-NLS-1$
+        List<EObject> eObjects = ((EPackage) resourceSet.getResource(metamodelURI, true).getContents().get(0)).eResource().getContents();
+
+        URI uri = URI.createFileURI(this.file.toString());
+        Resource savedResource = new JsonResourceImpl(uri, new HashMap<>());
+        savedResource.getContents().addAll(EcoreUtil.copyAll(eObjects));
+        savedResource.save(saveOptions);
+
+        Resource resource = new JsonResourceImpl(uri, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        loadOptions.put(JsonResource.OPTION_MEMORY_MAPPED_LOAD, Boolean.TRUE);
+        resource.load(loadOptions);
+        Assert.assertTrue(EcoreUtil.equals(eObjects, resource.getContents()));
+        Assert.assertEquals(Files.getLastModifiedTime(this.file).toMillis(), resource.getTimeStamp());
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.utils.JsonMetamodelCache;
+
+/**
+ * Runs the tests of {@link ClassLoadTests} with a {@link JsonMetamodelCache} shared by all the loads with
+ * {@link JsonResource#OPTION_METAMODEL_CACHE}.
+ *
+ * @author Obeo
+ */
+public class MetamodelCacheClassLoadTests extends ClassLoadTests {
+
+    /**
+     * The cache shared by the tests, which all use the same options and Ecore as their only metamodel.
+     */
+    private static final JsonMetamodelCache METAMODEL_CACHE = new JsonMetamodelCache();
+
+    /**
+     * The constructor.
+     */
+    public MetamodelCacheClassLoadTests() {
+        this.options.put(JsonResource.OPTION_METAMODEL_CACHE, METAMODEL_CACHE);
+    }
+
+}
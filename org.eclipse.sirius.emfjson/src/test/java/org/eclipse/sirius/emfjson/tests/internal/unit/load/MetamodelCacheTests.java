@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonMetamodelCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the packages and the types found in the package registries by the loads sharing a {@link JsonMetamodelCache}
+ * with {@link JsonResource#OPTION_METAMODEL_CACHE}.
+ *
+ * @author Obeo
+ */
+public class MetamodelCacheTests {
+
+    /**
+     * The URI of the loaded resource.
+     */
+    private static final String RESOURCE_URI = "file:/cache/main.json"; //$NON-NLS-1$
+
+    /**
+     * The URI of the resource containing the target of the reference of the loaded node.
+     */
+    private static final String TARGET_RESOURCE_URI = "file:/cache/target.json"; //$NON-NLS-1$
+
+    /**
+     * The namespace URI of the package of the nodes.
+     */
+    private static final String NODE_NS_URI = "http://cache/node"; //$NON-NLS-1$
+
+    /**
+     * The number of loads done concurrently.
+     */
+    private static final int LOAD_COUNT = 64;
+
+    /**
+     * Checks that a type which was not found is found once its package is registered, with the same cache.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testTypeRegisteredAfterMiss() throws IOException {
+        EPackage nodePackage = this.createPackage("node", NODE_NS_URI, "Node"); //$NON-NLS-1$ //$NON-NLS-2$
+        EPackage targetPackage = this.createPackage("target", "http://cache/target", "Target"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        byte[] document = this.saveDocument(nodePackage, targetPackage);
+        JsonMetamodelCache metamodelCache = new JsonMetamodelCache();
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(nodePackage.getNsURI(), nodePackage);
+        EObject node = this.load(document, resourceSet, metamodelCache);
+        Assert.assertNull(node.eGet(node.eClass().getEStructuralFeature("target"))); //$NON-NLS-1$
+
+        resourceSet.getResources().clear();
+        resourceSet.getPackageRegistry().put(targetPackage.getNsURI(), targetPackage);
+        node = this.load(document, resourceSet, metamodelCache);
+        EObject target = (EObject) node.eGet(node.eClass().getEStructuralFeature("target"), false); //$NON-NLS-1$
+        Assert.assertNotNull(target);
+        Assert.assertTrue(target.eIsProxy());
+        Assert.assertSame(targetPackage.getEClassifier("Target"), target.eClass()); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the resource sets whose registries have different packages for the same namespace URI find their own
+     * packages and types with the same cache.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testRegistriesSharingCache() throws IOException {
+        EPackage nodePackage = this.createPackage("node", NODE_NS_URI, "Node"); //$NON-NLS-1$ //$NON-NLS-2$
+        EPackage targetPackage = this.createPackage("target", "http://cache/target", "Target"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        byte[] document = this.saveDocument(nodePackage, targetPackage);
+        JsonMetamodelCache metamodelCache = new JsonMetamodelCache();
+
+        for (int i = 0; i < 2; i++) {
+            EPackage otherNodePackage = this.createPackage("node", NODE_NS_URI, "Node"); //$NON-NLS-1$ //$NON-NLS-2$
+            EPackage otherTargetPackage = this.createPackage("target", "http://cache/target", "Target"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            this.assertLoadedWithPackages(document, otherNodePackage, otherTargetPackage, metamodelCache);
+        }
+    }
+
+    /**
+     * Checks that the loads sharing the same cache concurrently, in resource sets with the same registry or with their
+     * own registry, find the packages and the types of their registries.
+     *
+     * @throws Exception
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testConcurrentLoads() throws Exception {
+        EPackage nodePackage = this.createPackage("node", NODE_NS_URI, "Node"); //$NON-NLS-1$ //$NON-NLS-2$
+        EPackage targetPackage = this.createPackage("target", "http://cache/target", "Target"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        byte[] document = this.saveDocument(nodePackage, targetPackage);
+        JsonMetamodelCache metamodelCache = new JsonMetamodelCache();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < LOAD_COUNT; i++) {
+                boolean hasOwnPackages = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    EPackage loadedNodePackage = nodePackage;
+                    EPackage loadedTargetPackage = targetPackage;
+                    if (hasOwnPackages) {
+                        loadedNodePackage = this.createPackage("node", NODE_NS_URI, "Node"); //$NON-NLS-1$ //$NON-NLS-2$
+                        loadedTargetPackage = this.createPackage("target", "http://cache/target", "Target"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    }
+                    this.assertLoadedWithPackages(document, loadedNodePackage, loadedTargetPackage, metamodelCache);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Loads the given document in a resource set whose registry has the given packages and checks that the loaded
+     * objects are instances of these packages.
+     *
+     * @param document
+     *            the document
+     * @param nodePackage
+     *            the package of the nodes
+     * @param targetPackage
+     *            the package of the target of the reference of the node
+     * @param metamodelCache
+     *            the cache
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    private void assertLoadedWithPackages(byte[] document, EPackage nodePackage, EPackage targetPackage, JsonMetamodelCache metamodelCache) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(nodePackage.getNsURI(), nodePackage);
+        resourceSet.getPackageRegistry().put(targetPackage.getNsURI(), targetPackage);
+        EObject node = this.load(document, resourceSet, metamodelCache);
+        Assert.assertSame(nodePackage.getEClassifier("Node"), node.eClass()); //$NON-NLS-1$
+        EObject target = (EObject) node.eGet(node.eClass().getEStructuralFeature("target"), false); //$NON-NLS-1$
+        Assert.assertNotNull(target);
+        Assert.assertSame(targetPackage.getEClassifier("Target"), target.eClass()); //$NON-NLS-1$
+    }
+
+    /**
+     * Loads the given document in a new resource of the given resource set with the given cache.
+     *
+     * @param document
+     *            the document
+     * @param resourceSet
+     *            the resource set
+     * @param metamodelCache
+     *            the cache
+     * @return The root of the loaded resource
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    private EObject load(byte[] document, ResourceSet resourceSet, JsonMetamodelCache metamodelCache) throws IOException {
+        Resource resource = new JsonResourceImpl(URI.createURI(RESOURCE_URI), new HashMap<>());
+        resourceSet.getResources().add(resource);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_METAMODEL_CACHE, metamodelCache);
+        resource.load(new ByteArrayInputStream(document), options);
+        return resource.getContents().get(0);
+    }
+
+    /**
+     * Saves a resource with a node referencing a target in another resource, whose type is written with the URI of
+     * the target.
+     *
+     * @param nodePackage
+     *            the package of the node
+     * @param targetPackage
+     *            the package of the target
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private byte[] saveDocument(EPackage nodePackage, EPackage targetPackage) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new JsonResourceImpl(URI.createURI(RESOURCE_URI), new HashMap<>());
+        Resource targetResource = new JsonResourceImpl(URI.createURI(TARGET_RESOURCE_URI), new HashMap<>());
+        resourceSet.getResources().add(resource);
+        resourceSet.getResources().add(targetResource);
+        EClass nodeEClass = (EClass) nodePackage.getEClassifier("Node"); //$NON-NLS-1$
+        EObject node = EcoreUtil.create(nodeEClass);
+        node.eSet(nodeEClass.getEStructuralFeature("name"), "node"); //$NON-NLS-1$ //$NON-NLS-2$
+        EObject target = EcoreUtil.create((EClass) targetPackage.getEClassifier("Target")); //$NON-NLS-1$
+        node.eSet(nodeEClass.getEStructuralFeature("target"), target); //$NON-NLS-1$
+        resource.getContents().add(node);
+        targetResource.getContents().add(target);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_DISPLAY_DYNAMIC_INSTANCES, Boolean.TRUE);
+        resource.save(outputStream, options);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Creates a package with an EClass having a name and a reference to any object.
+     *
+     * @param name
+     *            the name and the prefix of the package
+     * @param nsURI
+     *            the namespace URI of the package
+     * @param eClassName
+     *            the name of the EClass
+     * @return The package
+     */
+    private EPackage createPackage(String name, String nsURI, String eClassName) {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+        EPackage ePackage = factory.createEPackage();
+        ePackage.setName(name);
+        ePackage.setNsPrefix(name);
+        ePackage.setNsURI(nsURI);
+
+        EClass eClass = factory.createEClass();
+        eClass.setName(eClassName);
+        ePackage.getEClassifiers().add(eClass);
+
+        EAttribute nameAttribute = factory.createEAttribute();
+        nameAttribute.setName("name"); //$NON-NLS-1$
+        nameAttribute.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(nameAttribute);
+
+        EReference target = factory.createEReference();
+        target.setName("target"); //$NON-NLS-1$
+        target.setEType(EcorePackage.Literals.EOBJECT);
+        eClass.getEStructuralFeatures().add(target);
+        return ePackage;
+    }
+}
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonMetrics;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the metrics given to the {@link JsonResource.IMetricsListener} of {@link JsonResource#OPTION_METRICS_LISTENER}.
+ *
+ * @author Obeo
+ */
+public class MetricsTests {
+
+    /**
+     * The number of root objects of the resources.
+     */
+    private static final int ROOT_COUNT = 10;
+
+    /**
+     * The number of children of each root object.
+     */
+    private static final int CHILD_COUNT = 3;
+
+    /**
+     * The package of the objects.
+     */
+    private EPackage ePackage;
+
+    /**
+     * Creates the package of the objects.
+     */
+    @Before
+    public void setUp() {
+        this.ePackage = this.createPackage();
+    }
+
+    /**
+     * Checks the counters of a save and of a load of the saved document.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testMetrics() throws IOException {
+        this.assertMetrics(new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Checks the counters of a save and of a load while the objects are written and read.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testStreamingMetrics() throws IOException {
+        this.assertMetrics(Map.of(JsonResource.OPTION_STREAMING_SAVE, Boolean.TRUE), Map.of(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE));
+    }
+
+    /**
+     * Checks that the counters of the parts serialized and deserialized concurrently are added.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testParallelMetrics() throws IOException {
+        this.assertMetrics(Map.of(JsonResource.OPTION_PARALLEL_SERIALIZATION, Boolean.TRUE), Map.of(JsonResource.OPTION_PARALLEL_DESERIALIZATION, Boolean.TRUE));
+    }
+
+    /**
+     * Checks that the time of a phase does not include the time of the phases nested in it.
+     *
+     * @throws InterruptedException
+     *             if the thread is interrupted
+     */
+    @Test
+    public void testNestedPhases() throws InterruptedException {
+        JsonMetrics metrics = new JsonMetrics();
+        long start = System.nanoTime();
+        metrics.start(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        metrics.start(JsonMetrics.Phase.PROXY_CREATION);
+        Thread.sleep(20);
+        metrics.stop(JsonMetrics.Phase.PROXY_CREATION);
+        metrics.stop(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        long elapsedTime = System.nanoTime() - start;
+
+        long proxyCreationTime = metrics.getTime(JsonMetrics.Phase.PROXY_CREATION);
+        Assert.assertTrue(proxyCreationTime >= 20_000_000L);
+        Assert.assertTrue(proxyCreationTime + metrics.getTime(JsonMetrics.Phase.REFERENCE_RESOLUTION) <= elapsedTime);
+
+        JsonMetrics disabled = JsonMetrics.disabled();
+        disabled.start(JsonMetrics.Phase.PARSING);
+        disabled.increment(JsonMetrics.Counter.OBJECTS);
+        disabled.stop(JsonMetrics.Phase.PARSING);
+        Assert.assertFalse(disabled.isEnabled());
+        Assert.assertEquals(0, disabled.getTime(JsonMetrics.Phase.PARSING));
+        Assert.assertEquals(0, disabled.getCount(JsonMetrics.Counter.OBJECTS));
+    }
+
+    /**
+     * Checks that only the current phase can be stopped.
+     */
+    @Test
+    public void testStopNotCurrentPhase() {
+        JsonMetrics metrics = new JsonMetrics();
+        Assert.assertThrows(IllegalStateException.class, () -> metrics.stop(JsonMetrics.Phase.PARSING));
+        metrics.start(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+        metrics.start(JsonMetrics.Phase.PROXY_CREATION);
+        Assert.assertThrows(IllegalStateException.class, () -> metrics.stop(JsonMetrics.Phase.REFERENCE_RESOLUTION));
+        metrics.stop(JsonMetrics.Phase.PROXY_CREATION);
+        metrics.stop(JsonMetrics.Phase.REFERENCE_RESOLUTION);
+
+        JsonMetrics counters = JsonMetrics.counters();
+        counters.stop(JsonMetrics.Phase.PARSING);
+        Assert.assertEquals(0, counters.getTime(JsonMetrics.Phase.PARSING));
+    }
+
+    /**
+     * Saves a resource and loads the saved document with the given options and checks their counters.
+     *
+     * @param saveOptions
+     *            the options of the save
+     * @param loadOptions
+     *            the options of the load
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    private void assertMetrics(Map<?, ?> saveOptions, Map<?, ?> loadOptions) throws IOException {
+        RecordingMetricsListener saveListener = new RecordingMetricsListener();
+        Map<Object, Object> options = new HashMap<Object, Object>(saveOptions);
+        options.put(JsonResource.OPTION_METRICS_LISTENER, saveListener);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.createResource().save(outputStream, options);
+        byte[] document = outputStream.toByteArray();
+
+        RecordingMetricsListener loadListener = new RecordingMetricsListener();
+        options = new HashMap<Object, Object>(loadOptions);
+        options.put(JsonResource.OPTION_METRICS_LISTENER, loadListener);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(this.ePackage.getNsURI(), this.ePackage);
+        Resource resource = new JsonResourceImpl(URI.createURI("file:/metrics/metrics.json"), new HashMap<>()); //$NON-NLS-1$
+        resourceSet.getResources().add(resource);
+        resource.load(new ByteArrayInputStream(document), options);
+
+        int objectCount = ROOT_COUNT * (1 + CHILD_COUNT);
+        for (JsonMetrics metrics : List.of(saveListener.savedMetrics, loadListener.loadedMetrics)) {
+            Assert.assertEquals(objectCount, metrics.getCount(JsonMetrics.Counter.OBJECTS));
+            Assert.assertEquals(objectCount * 2, metrics.getCount(JsonMetrics.Counter.REFERENCES));
+            Assert.assertEquals(1, metrics.getCount(JsonMetrics.Counter.PROXIES));
+            Assert.assertEquals(document.length, metrics.getCount(JsonMetrics.Counter.BYTES));
+            long totalTime = 0;
+            for (JsonMetrics.Phase phase : JsonMetrics.Phase.values()) {
+                Assert.assertTrue(metrics.getTime(phase) >= 0);
+                totalTime += metrics.getTime(phase);
+            }
+            Assert.assertTrue(totalTime > 0);
+        }
+        Assert.assertNull(saveListener.loadedMetrics);
+        Assert.assertNull(loadListener.savedMetrics);
+        Assert.assertTrue(loadListener.loadedMetrics.getTime(JsonMetrics.Phase.OBJECT_CREATION) > 0);
+        Assert.assertTrue(saveListener.savedMetrics.getTime(JsonMetrics.Phase.SERIALIZATION) > 0);
+    }
+
+    /**
+     * Creates a package with an EClass <code>Node</code> having a name, children, references to other nodes and an
+     * optional reference to another node.
+     *
+     * @return The package
+     */
+    private EPackage createPackage() {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+        EPackage nodePackage = factory.createEPackage();
+        nodePackage.setName("m"); //$NON-NLS-1$
+        nodePackage.setNsPrefix("m"); //$NON-NLS-1$
+        nodePackage.setNsURI("http://metrics"); //$NON-NLS-1$
+
+        EClass eClass = factory.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        nodePackage.getEClassifiers().add(eClass);
+
+        EAttribute name = factory.createEAttribute();
+        name.setName("name"); //$NON-NLS-1$
+        name.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(name);
+
+        EReference children = factory.createEReference();
+        children.setName("children"); //$NON-NLS-1$
+        children.setEType(eClass);
+        children.setContainment(true);
+        children.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(children);
+
+        EReference references = factory.createEReference();
+        references.setName("references"); //$NON-NLS-1$
+        references.setEType(eClass);
+        references.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(references);
+
+        EReference next = factory.createEReference();
+        next.setName("next"); //$NON-NLS-1$
+        next.setEType(eClass);
+        eClass.getEStructuralFeatures().add(next);
+        return nodePackage;
+    }
+
+    /**
+     * Returns the structural feature with the given name of the EClass <code>Node</code>.
+     *
+     * @param name
+     *            the name of the structural feature
+     * @return The structural feature
+     */
+    private EStructuralFeature getFeature(String name) {
+        return ((EClass) this.ePackage.getEClassifier("Node")).getEStructuralFeature(name); //$NON-NLS-1$
+    }
+
+    /**
+     * Creates a resource whose nodes reference another node and the next node, the last node referencing instead a node
+     * of another resource.
+     *
+     * @return The resource
+     */
+    @SuppressWarnings("unchecked")
+    private Resource createResource() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new JsonResourceImpl(URI.createURI("file:/metrics/metrics.json"), new HashMap<>()); //$NON-NLS-1$
+        Resource otherResource = new JsonResourceImpl(URI.createURI("file:/metrics/other.json"), new HashMap<>()); //$NON-NLS-1$
+        resourceSet.getResources().add(resource);
+        resourceSet.getResources().add(otherResource);
+
+        EClass eClass = (EClass) this.ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        List<EObject> nodes = new ArrayList<>();
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            EObject root = EcoreUtil.create(eClass);
+            root.eSet(this.getFeature("name"), "root" + i); //$NON-NLS-1$ //$NON-NLS-2$
+            resource.getContents().add(root);
+            nodes.add(root);
+            for (int j = 0; j < CHILD_COUNT; j++) {
+                EObject child = EcoreUtil.create(eClass);
+                child.eSet(this.getFeature("name"), "child" + i + "_" + j); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                ((List<EObject>) root.eGet(this.getFeature("children"))).add(child); //$NON-NLS-1$
+                nodes.add(child);
+            }
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            ((List<EObject>) nodes.get(i).eGet(this.getFeature("references"))).add(nodes.get((i * 7 + 3) % nodes.size())); //$NON-NLS-1$
+            if (i + 1 < nodes.size()) {
+                nodes.get(i).eSet(this.getFeature("next"), nodes.get(i + 1)); //$NON-NLS-1$
+            }
+        }
+
+        EObject otherNode = EcoreUtil.create(eClass);
+        otherResource.getContents().add(otherNode);
+        nodes.get(nodes.size() - 1).eSet(this.getFeature("next"), otherNode); //$NON-NLS-1$
+        return resource;
+    }
+
+    /**
+     * A listener keeping the metrics it receives.
+     */
+    private static final class RecordingMetricsListener implements JsonResource.IMetricsListener {
+
+        /**
+         * The metrics of the load.
+         */
+        private JsonMetrics loadedMetrics;
+
+        /**
+         * The metrics of the save.
+         */
+        private JsonMetrics savedMetrics;
+
+        @Override
+        public void onLoaded(JsonResource resource, JsonMetrics metrics) {
+            this.loadedMetrics = metrics;
+        }
+
+        @Override
+        public void onSaved(JsonResource resource, JsonMetrics metrics) {
+            this.savedMetrics = metrics;
+        }
+    }
+}
@@ -0,0 +1,506 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.IDManager;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonStructureScanner;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the concurrent deserialization of the top-level objects of a resource with
+ * {@link JsonResource#OPTION_PARALLEL_DESERIALIZATION}.
+ *
+ * @author Obeo
+ */
+public class ParallelDeserializationTests {
+
+    /**
+     * The number of root objects of the resources.
+     */
+    private static final int ROOT_COUNT = 50;
+
+    /**
+     * The pool deserializing the root objects.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The package of the objects.
+     */
+    private EPackage ePackage;
+
+    /**
+     * Creates the pool deserializing the root objects and the package of the objects.
+     */
+    @Before
+    public void setUp() {
+        this.pool = new ForkJoinPool(4);
+        this.ePackage = this.createPackage();
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @After
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Checks that the objects loaded concurrently, with references by URI fragment, are the same as the ones loaded
+     * sequentially.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testParallelDeserialization() throws IOException {
+        byte[] document = this.save(this.createResource(new HashMap<>()));
+        Resource resource = this.assertSameObjects(document, new HashMap<>(), this.pool);
+        Assert.assertEquals(ROOT_COUNT, resource.getContents().size());
+        Assert.assertEquals("root0", resource.getContents().get(0).eGet(this.getFeature("name"))); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Checks that the objects loaded concurrently on the common pool, with references by id, are the same as the ones
+     * loaded sequentially and have the same ids.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testParallelDeserializationWithIDs() throws IOException {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new MapIDManager());
+        JsonResourceImpl savedResource = (JsonResourceImpl) this.createResource(options);
+        byte[] document = this.save(savedResource);
+
+        options.put(JsonResource.OPTION_ID_MANAGER, new MapIDManager());
+        JsonResourceImpl resource = (JsonResourceImpl) this.assertSameObjects(document, options, Boolean.TRUE);
+        List<EObject> savedObjects = new ArrayList<>();
+        savedResource.getAllContents().forEachRemaining(savedObjects::add);
+        List<EObject> loadedObjects = new ArrayList<>();
+        resource.getAllContents().forEachRemaining(loadedObjects::add);
+        Assert.assertEquals(savedObjects.size(), loadedObjects.size());
+        for (int i = 0; i < savedObjects.size(); i++) {
+            String id = savedResource.getID(savedObjects.get(i));
+            Assert.assertEquals(id, resource.getID(loadedObjects.get(i)));
+            Assert.assertSame(loadedObjects.get(i), resource.getEObject(id));
+        }
+    }
+
+    /**
+     * Checks that the objects of a document whose content is before its namespaces are loaded concurrently.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testContentBeforeHeader() throws IOException {
+        JsonObject jsonRoot = JsonParser.parseString(new String(this.save(this.createResource(new HashMap<>())), StandardCharsets.UTF_8)).getAsJsonObject();
+        JsonObject reorderedRoot = new JsonObject();
+        reorderedRoot.add("content", jsonRoot.get("content")); //$NON-NLS-1$ //$NON-NLS-2$
+        for (Entry<String, JsonElement> entry : jsonRoot.entrySet()) {
+            reorderedRoot.add(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals("content", reorderedRoot.keySet().iterator().next()); //$NON-NLS-1$
+        this.assertSameObjects(reorderedRoot.toString().getBytes(StandardCharsets.UTF_8), new HashMap<>(), this.pool);
+    }
+
+    /**
+     * Checks that the ranges of the values found by the scanner ignore the characters of the strings.
+     */
+    @Test
+    public void testScanner() {
+        String document = "\ufeff { \"json\" : {\"a\": \"}]\\\"\"},\"content\": [ {\"b\": [1, {}]} ,\"[\\\\\", 12.5e3, null ] }\n"; //$NON-NLS-1$
+        JsonStructureScanner scanner = new JsonStructureScanner(document.toCharArray(), document.length());
+        Map<String, int[]> members = scanner.scanRootObject();
+        Assert.assertEquals(List.of("json", "content"), new ArrayList<>(members.keySet())); //$NON-NLS-1$ //$NON-NLS-2$
+        Assert.assertEquals("{\"a\": \"}]\\\"\"}", this.substring(document, members.get("json"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+        List<String> elements = new ArrayList<>();
+        scanner.scanArray(members.get("content")).forEach(range -> elements.add(this.substring(document, range))); //$NON-NLS-1$
+        Assert.assertEquals(List.of("{\"b\": [1, {}]}", "\"[\\\\\"", "12.5e3", "null"), elements); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+        Assert.assertNull(new JsonStructureScanner("{\"a\": 1} {}".toCharArray(), 11).scanRootObject()); //$NON-NLS-1$
+        Assert.assertNull(new JsonStructureScanner("{/* comment */}".toCharArray(), 15).scanRootObject()); //$NON-NLS-1$
+        Assert.assertNull(new JsonStructureScanner("{\"a\": \"1}".toCharArray(), 9).scanRootObject()); //$NON-NLS-1$
+        Assert.assertNull(new JsonStructureScanner("[]".toCharArray(), 2).scanRootObject()); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the ranges found in the bytes of a document encoded in UTF-8 ignore the bytes of the characters which
+     * are not ASCII and are decoded in the characters of the values.
+     *
+     * @throws IOException
+     *             if the ranges cannot be read
+     */
+    @Test
+    public void testByteScanner() throws IOException {
+        String document = "\ufeff { \"json\" : {\"\u00e9\": \"}]\\\"\u20ac\"},\"content\": [ {\"b\": [\"\ud83d\ude00\", {}]} ,\"[\\\\\", 12.5e3, null ] }\n"; //$NON-NLS-1$
+        JsonStructureScanner scanner = new JsonStructureScanner(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)));
+        Map<String, int[]> members = scanner.scanRootObject();
+        Assert.assertEquals(List.of("json", "content"), new ArrayList<>(members.keySet())); //$NON-NLS-1$ //$NON-NLS-2$
+        Assert.assertEquals("{\"\u00e9\": \"}]\\\"\u20ac\"}", this.read(scanner.createReader(members.get("json")))); //$NON-NLS-1$ //$NON-NLS-2$
+
+        List<String> elements = new ArrayList<>();
+        for (int[] range : scanner.scanArray(members.get("content"))) { //$NON-NLS-1$
+            elements.add(this.read(scanner.createReader(range)));
+        }
+        Assert.assertEquals(List.of("{\"b\": [\"\ud83d\ude00\", {}]}", "\"[\\\\\"", "12.5e3", "null"), elements); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        Assert.assertEquals(document, this.read(scanner.createReader()));
+    }
+
+    /**
+     * Checks that the objects loaded concurrently from a file mapped in memory, whose bytes are scanned without being
+     * decoded first, are the same as the ones loaded sequentially.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testMemoryMappedParallelDeserialization() throws IOException {
+        Resource savedResource = this.createResource(new HashMap<>());
+        savedResource.getContents().get(1).eSet(this.getFeature("name"), "r\u00e9\u20ac\ud83d\ude00"); //$NON-NLS-1$ //$NON-NLS-2$
+        Path file = Files.createTempFile("parallel", ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            Files.write(file, this.save(savedResource));
+            Map<Object, Object> loadOptions = new HashMap<>();
+            loadOptions.put(JsonResource.OPTION_MEMORY_MAPPED_LOAD, Boolean.TRUE);
+            loadOptions.put(JsonResource.OPTION_PARALLEL_DESERIALIZATION, this.pool);
+            ResourceSet resourceSet = new ResourceSetImpl();
+            resourceSet.getPackageRegistry().put(this.ePackage.getNsURI(), this.ePackage);
+            Resource resource = new JsonResourceImpl(URI.createFileURI(file.toString()), new HashMap<>());
+            resourceSet.getResources().add(resource);
+            resource.load(loadOptions);
+
+            Assert.assertTrue(resource.getErrors().isEmpty());
+            Assert.assertTrue(EcoreUtil.equals(this.load(this.save(savedResource), new HashMap<>(), null).getContents(), resource.getContents()));
+            Assert.assertEquals("r\u00e9\u20ac\ud83d\ude00", resource.getContents().get(1).eGet(this.getFeature("name"))); //$NON-NLS-1$ //$NON-NLS-2$
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Checks that the {@link JsonResource.EStructuralFeaturesFilter}, which does not have to be thread safe, is only
+     * called by the thread loading the resource.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testEStructuralFeaturesFilter() throws IOException {
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ESTRUCTURAL_FEATURES_FILTER, new JsonResource.EStructuralFeaturesFilter() {
+            @Override
+            public boolean shouldSave(EObject eObject, EStructuralFeature eStructuralFeature) {
+                return true;
+            }
+
+            @Override
+            public boolean shouldLoad(EObject eObject, EStructuralFeature eStructuralFeature) {
+                threads.add(Thread.currentThread());
+                return !"children".equals(eStructuralFeature.getName()); //$NON-NLS-1$
+            }
+        });
+        byte[] document = this.save(this.createResource(new HashMap<>()));
+        Resource resource = this.assertSameObjects(document, options, this.pool);
+        Assert.assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        Assert.assertTrue(this.getList(resource.getContents().get(0), "children").isEmpty()); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the documents which cannot be scanned or have a single root are still loaded.
+     *
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    @Test
+    public void testSequentialFallback() throws IOException {
+        String document = "// comment\n{\"json\": {\"version\": \"1.0\"}, \"ns\": {\"p\": \"http://parallel\"}, \"content\": [{\"eClass\": \"p:Node\", \"data\": {\"name\": \"root\"}}]}"; //$NON-NLS-1$
+        Resource resource = this.load(document.getBytes(StandardCharsets.UTF_8), new HashMap<>(), this.pool);
+        Assert.assertEquals(1, resource.getContents().size());
+        Assert.assertEquals("root", resource.getContents().get(0).eGet(this.getFeature("name"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Resource emptyResource = this.load(new byte[0], new HashMap<>(), this.pool);
+        Assert.assertTrue(emptyResource.getContents().isEmpty());
+    }
+
+    /**
+     * Loads the given document sequentially and concurrently and checks that the objects are the same.
+     *
+     * @param document
+     *            the document
+     * @param options
+     *            the options of the resources
+     * @param parallelDeserialization
+     *            the value of {@link JsonResource#OPTION_PARALLEL_DESERIALIZATION}
+     * @return The resource loaded concurrently
+     * @throws IOException
+     *             if the resources cannot be loaded
+     */
+    private Resource assertSameObjects(byte[] document, Map<Object, Object> options, Object parallelDeserialization) throws IOException {
+        Resource expected = this.load(document, options, null);
+        Resource actual = this.load(document, options, parallelDeserialization);
+        Assert.assertTrue(actual.getErrors().isEmpty());
+        Assert.assertTrue(EcoreUtil.equals(expected.getContents(), actual.getContents()));
+        return actual;
+    }
+
+    /**
+     * Loads the given document in a new resource.
+     *
+     * @param document
+     *            the document
+     * @param options
+     *            the options of the resource
+     * @param parallelDeserialization
+     *            the value of {@link JsonResource#OPTION_PARALLEL_DESERIALIZATION}
+     * @return The resource
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    private Resource load(byte[] document, Map<Object, Object> options, Object parallelDeserialization) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(this.ePackage.getNsURI(), this.ePackage);
+        Resource resource = new JsonResourceImpl(URI.createURI("parallel.json"), options); //$NON-NLS-1$
+        resourceSet.getResources().add(resource);
+        Map<Object, Object> loadOptions = new HashMap<>();
+        if (parallelDeserialization != null) {
+            loadOptions.put(JsonResource.OPTION_PARALLEL_DESERIALIZATION, parallelDeserialization);
+        }
+        resource.load(new ByteArrayInputStream(document), loadOptions);
+        return resource;
+    }
+
+    /**
+     * Saves the given resource.
+     *
+     * @param resource
+     *            the resource
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private byte[] save(Resource resource) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, new HashMap<>());
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Returns the characters of the given document in the given range.
+     *
+     * @param document
+     *            the document
+     * @param range
+     *            the range
+     * @return The characters
+     */
+    private String substring(String document, int[] range) {
+        return document.substring(range[0], range[1]);
+    }
+
+    /**
+     * Reads all the characters of the given reader.
+     *
+     * @param reader
+     *            the reader
+     * @return The characters
+     * @throws IOException
+     *             if the reader fails
+     */
+    private String read(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Creates a package with an EClass <code>Node</code> having a name, children, references to other nodes and an
+     * optional reference to another node.
+     *
+     * @return The package
+     */
+    private EPackage createPackage() {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+        EPackage nodePackage = factory.createEPackage();
+        nodePackage.setName("p"); //$NON-NLS-1$
+        nodePackage.setNsPrefix("p"); //$NON-NLS-1$
+        nodePackage.setNsURI("http://parallel"); //$NON-NLS-1$
+
+        EClass eClass = factory.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        nodePackage.getEClassifiers().add(eClass);
+
+        EAttribute name = factory.createEAttribute();
+        name.setName("name"); //$NON-NLS-1$
+        name.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(name);
+
+        EReference children = factory.createEReference();
+        children.setName("children"); //$NON-NLS-1$
+        children.setEType(eClass);
+        children.setContainment(true);
+        children.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(children);
+
+        EReference references = factory.createEReference();
+        references.setName("references"); //$NON-NLS-1$
+        references.setEType(eClass);
+        references.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(references);
+
+        EReference next = factory.createEReference();
+        next.setName("next"); //$NON-NLS-1$
+        next.setEType(eClass);
+        eClass.getEStructuralFeatures().add(next);
+        return nodePackage;
+    }
+
+    /**
+     * Returns the structural feature with the given name of the EClass <code>Node</code>.
+     *
+     * @param name
+     *            the name of the structural feature
+     * @return The structural feature
+     */
+    private EStructuralFeature getFeature(String name) {
+        return ((EClass) this.ePackage.getEClassifier("Node")).getEStructuralFeature(name); //$NON-NLS-1$
+    }
+
+    /**
+     * Creates a resource with roots, their children, references between them in both directions and references to
+     * the next node, the last node having none.
+     *
+     * @param options
+     *            the options of the resource
+     * @return The resource
+     */
+    private Resource createResource(Map<Object, Object> options) {
+        Resource resource = new JsonResourceImpl(URI.createURI("parallel.json"), options); //$NON-NLS-1$
+        EClass eClass = (EClass) this.ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        List<EObject> nodes = new ArrayList<>();
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            EObject root = EcoreUtil.create(eClass);
+            root.eSet(this.getFeature("name"), "root" + i); //$NON-NLS-1$ //$NON-NLS-2$
+            resource.getContents().add(root);
+            nodes.add(root);
+            for (int j = 0; j < 5; j++) {
+                EObject child = EcoreUtil.create(eClass);
+                child.eSet(this.getFeature("name"), "child" + i + "_" + j); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                this.getList(root, "children").add(child); //$NON-NLS-1$
+                nodes.add(child);
+            }
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            this.getList(nodes.get(i), "references").add(nodes.get((i * 7 + 3) % nodes.size())); //$NON-NLS-1$
+            this.getList(nodes.get(i), "references").add(nodes.get((i * 13 + 1) % nodes.size())); //$NON-NLS-1$
+            if (i + 1 < nodes.size()) {
+                nodes.get(i).eSet(this.getFeature("next"), nodes.get(i + 1)); //$NON-NLS-1$
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Returns the value of the many-valued structural feature with the given name of the given object.
+     *
+     * @param eObject
+     *            the object
+     * @param name
+     *            the name of the structural feature
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    private List<EObject> getList(EObject eObject, String name) {
+        return (List<EObject>) eObject.eGet(this.getFeature(name));
+    }
+
+    /**
+     * An {@link IDManager} keeping the ids of the objects in a map.
+     */
+    private static final class MapIDManager implements IDManager {
+
+        /**
+         * The ids of the objects.
+         */
+        private final Map<EObject, String> ids = new IdentityHashMap<>();
+
+        @Override
+        public String getOrCreateId(EObject eObject) {
+            return this.ids.computeIfAbsent(eObject, key -> UUID.randomUUID().toString());
+        }
+
+        @Override
+        public Optional<String> findId(EObject eObject) {
+            return Optional.ofNullable(this.ids.get(eObject));
+        }
+
+        @Override
+        public void clearId(EObject eObject) {
+            this.ids.remove(eObject);
+        }
+
+        @Override
+        public String setId(EObject eObject, String id) {
+            return this.ids.put(eObject, id);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.PackageNotFoundError;
+import org.eclipse.sirius.emfjson.utils.ParallelResourceLoader;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the concurrent load of several resources of the same resource set with {@link ParallelResourceLoader}.
+ *
+ * @author Obeo
+ */
+public class ParallelLoadTests {
+
+    /**
+     * The number of loaded resources.
+     */
+    private static final int RESOURCE_COUNT = 16;
+
+    /**
+     * The number of times the resources referencing each other are loaded.
+     */
+    private static final int RUN_COUNT = 10;
+
+    /**
+     * The folder from which the resources are loaded.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Checks that all the resources are loaded, that the references between them are resolved and that a missing
+     * resource is reported without preventing the load of the other ones.
+     *
+     * @throws IOException
+     *             if the resources cannot be saved
+     */
+    @Test
+    public void testParallelLoad() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EClass> eClasses = new ArrayList<>();
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            Resource resource = resourceSet.createResource(this.getURI(i));
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackage.setName("package" + i); //$NON-NLS-1$
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Class" + i); //$NON-NLS-1$
+            ePackage.getEClassifiers().add(eClass);
+            resource.getContents().add(ePackage);
+            eClasses.add(eClass);
+        }
+        // Each class extends the class of the next resource
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            eClasses.get(i).getESuperTypes().add(eClasses.get((i + 1) % RESOURCE_COUNT));
+        }
+        for (Resource resource : resourceSet.getResources()) {
+            resource.save(new HashMap<>());
+        }
+
+        List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            uris.add(this.getURI(i));
+        }
+        URI missingURI = this.getURI(RESOURCE_COUNT);
+        uris.add(missingURI);
+
+        ResourceSet loadingResourceSet = this.createResourceSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<URI, Exception> errors = null;
+        try {
+            errors = new ParallelResourceLoader(executor, new HashMap<>()).load(loadingResourceSet, uris, true);
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(1, errors.size());
+        Assert.assertTrue(errors.containsKey(missingURI));
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            Resource resource = loadingResourceSet.getResource(this.getURI(i), false);
+            Assert.assertTrue(resource.isLoaded());
+            EClass eClass = (EClass) ((EPackage) resource.getContents().get(0)).getEClassifiers().get(0);
+            EClass superType = eClass.getESuperTypes().get(0);
+            Assert.assertFalse(superType.eIsProxy());
+            Assert.assertEquals("Class" + ((i + 1) % RESOURCE_COUNT), superType.getName()); //$NON-NLS-1$
+            Assert.assertEquals(loadingResourceSet, superType.eResource().getResourceSet());
+        }
+    }
+
+    /**
+     * Checks that the resources referencing objects of the other resources, which are not packages, report the same
+     * {@link PackageNotFoundError} as when they are loaded sequentially, whatever the order of the loads.
+     *
+     * @throws IOException
+     *             if the resources cannot be saved
+     */
+    @Test
+    public void testPackageNotFoundErrors() throws IOException {
+        EPackage nodePackage = EcoreFactory.eINSTANCE.createEPackage();
+        nodePackage.setName("node"); //$NON-NLS-1$
+        nodePackage.setNsPrefix("node"); //$NON-NLS-1$
+        nodePackage.setNsURI("http://parallel/node"); //$NON-NLS-1$
+        EClass nodeEClass = EcoreFactory.eINSTANCE.createEClass();
+        nodeEClass.setName("Node"); //$NON-NLS-1$
+        nodePackage.getEClassifiers().add(nodeEClass);
+        EReference next = EcoreFactory.eINSTANCE.createEReference();
+        next.setName("next"); //$NON-NLS-1$
+        next.setEType(nodeEClass);
+        nodeEClass.getEStructuralFeatures().add(next);
+
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> nodes = new ArrayList<>();
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            Resource resource = resourceSet.createResource(this.getURI(i));
+            EObject node = EcoreUtil.create(nodeEClass);
+            resource.getContents().add(node);
+            nodes.add(node);
+        }
+        // Each node references the node of the next resource
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            nodes.get(i).eSet(next, nodes.get((i + 1) % RESOURCE_COUNT));
+        }
+        List<URI> uris = new ArrayList<>();
+        for (Resource resource : resourceSet.getResources()) {
+            resource.save(new HashMap<>());
+            uris.add(resource.getURI());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int run = 0; run < RUN_COUNT; run++) {
+                ResourceSet loadingResourceSet = this.createResourceSet();
+                loadingResourceSet.getPackageRegistry().put(nodePackage.getNsURI(), nodePackage);
+                Map<URI, Exception> errors = new ParallelResourceLoader(executor, new HashMap<>()).load(loadingResourceSet, uris, false);
+                Assert.assertTrue(errors.isEmpty());
+                for (Resource resource : loadingResourceSet.getResources()) {
+                    Assert.assertEquals(1, resource.getErrors().size());
+                    Assert.assertTrue(resource.getErrors().get(0) instanceof PackageNotFoundError);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates a resource set able to create JSON resources.
+     *
+     * @return the resource set
+     */
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(JsonResourceFactoryImpl.EXTENSION, new JsonResourceFactoryImpl());
+        return resourceSet;
+    }
+
+    /**
+     * Returns the URI of the resource at the given index.
+     *
+     * @param index
+     *            the index of the resource
+     * @return the URI of the resource
+     */
+    private URI getURI(int index) {
+        return URI.createFileURI(new File(this.folder.getRoot(), "resource" + index + ".json").getAbsolutePath()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the documents whose members are not in the order written by the serializer and the malformed or truncated
+ * documents with {@link JsonResource#OPTION_STREAMING_LOAD}.
+ *
+ * @author Obeo
+ */
+public class StreamingLoadTests extends AbstractEMFJsonTests {
+
+    /**
+     * A package whose content is streamed since its namespace is registered.
+     */
+    private static final String JSON = """
+            {
+              "json": { "version": "1.0", "encoding": "utf-8" },
+              "ns": { "ecore": "http://www.eclipse.org/emf/2002/Ecore" },
+              "content": [
+                {
+                  "eClass": "ecore:EPackage",
+                  "data": {
+                    "name": "test",
+                    "eClassifiers": [
+                      { "eClass": "ecore:EClass", "data": { "name": "First" } },
+                      { "eClass": "ecore:EClass", "data": { "name": "Second" } }
+                    ]
+                  }
+                },
+                { "eClass": "ecore:EPackage", "data": { "name": "other" } }
+              ]
+            }
+            """; //$NON-NLS-1$
+
+    /**
+     * The constructor.
+     */
+    public StreamingLoadTests() {
+        this.options.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests#getRootPath()
+     */
+    @Override
+    protected String getRootPath() {
+        return "/unit/options/"; //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the content found before the namespaces is deserialized once they have been read.
+     */
+    @Test
+    public void testLoadHeaderAfterContent() {
+        this.assertContentTypes("HeaderAfterContent.json"); //$NON-NLS-1$
+        this.testLoad("HeaderAfterContent.xmi"); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the content found before the schema locations registering the packages of its namespaces is
+     * deserialized once they have been read.
+     */
+    @Test
+    public void testLoadSchemaLocationAfterContent() {
+        this.assertContentTypes("SchemaLocationAfterContent.json"); //$NON-NLS-1$
+        this.testLoad("SchemaLocationAfterContent.xmi"); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the well-formed document is streamed in the resource.
+     *
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    @Test
+    public void testLoadWellFormedDocument() throws IOException {
+        JsonResourceImpl resource = this.load(JSON);
+
+        Assert.assertEquals(2, resource.getContents().size());
+    }
+
+    /**
+     * Checks that the resource is left empty when the document is truncated after some objects have been streamed.
+     *
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    @Test
+    public void testLoadTruncatedDocument() throws IOException {
+        JsonResourceImpl resource = this.load(JSON.substring(0, JSON.indexOf("other"))); //$NON-NLS-1$
+
+        Assert.assertTrue(resource.getContents().isEmpty());
+    }
+
+    /**
+     * Checks that the resource is left empty when the document is truncated in the header.
+     *
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    @Test
+    public void testLoadTruncatedHeader() throws IOException {
+        JsonResourceImpl resource = this.load(JSON.substring(0, JSON.indexOf("ecore"))); //$NON-NLS-1$
+
+        Assert.assertTrue(resource.getContents().isEmpty());
+    }
+
+    /**
+     * Checks that the resource is left empty when a malformed object follows the objects already streamed.
+     *
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    @Test
+    public void testLoadMalformedDocument() throws IOException {
+        JsonResourceImpl resource = this.load(JSON.replace("\"other\" }", "\"other\" ]")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Assert.assertTrue(resource.getContents().isEmpty());
+    }
+
+    /**
+     * Checks that the objects of the content of the given document have been created with their types, which are
+     * only known once the schema locations have been read.
+     *
+     * @param jsonResourceName
+     *            the name of the document
+     */
+    private void assertContentTypes(String jsonResourceName) {
+        Resource resource = this.getModelResource(jsonResourceName, false);
+        List<String> eClassNames = resource.getContents().stream().map(eObject -> eObject.eClass().getName()).collect(Collectors.toList());
+        Assert.assertEquals(List.of("Node", "Book"), eClassNames); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Loads the given document in a new resource.
+     *
+     * @param json
+     *            the document
+     * @return the resource
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    private JsonResourceImpl load(String json) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        JsonResourceImpl resource = new JsonResourceImpl(URI.createURI("test.json"), this.options); //$NON-NLS-1$
+        resourceSet.getResources().add(resource);
+        resource.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), this.options);
+        return resource;
+    }
+}
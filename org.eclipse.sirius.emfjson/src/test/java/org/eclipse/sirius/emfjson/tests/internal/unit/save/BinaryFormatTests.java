@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
+import org.eclipse.sirius.emfjson.utils.BinaryJsonReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the save and the load of resources with {@link JsonResource#OPTION_BINARY_FORMAT}.
+ *
+ * @author Obeo
+ */
+public class BinaryFormatTests {
+
+    /**
+     * The URI of the resources.
+     */
+    private static final URI RESOURCE_URI = URI.createURI("binary.json"); //$NON-NLS-1$
+
+    /**
+     * Checks that an Ecore model saved in the binary format is loaded back as the same model.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testEcoreModel() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        this.assertRoundTrip(resourceSet, this.loadNodesMetamodel(resourceSet).eResource().getContents(), false);
+    }
+
+    /**
+     * Checks that an Ecore model saved in the binary format is loaded back as the same model with
+     * {@link JsonResource#OPTION_STREAMING_LOAD}.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testStreamingEcoreModel() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        this.assertRoundTrip(resourceSet, this.loadNodesMetamodel(resourceSet).eResource().getContents(), true);
+    }
+
+    /**
+     * Checks that the values of the attributes of all the primitive types saved in the binary format are loaded back.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testPrimitiveValues() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        EPackage ePackage = this.loadNodesMetamodel(resourceSet);
+        EObject eObject = EcoreUtil.create((EClass) ePackage.getEClassifier("NodeSingleValueAttribute")); //$NON-NLS-1$
+        this.set(eObject, "name", "node"); //$NON-NLS-1$ //$NON-NLS-2$
+        this.set(eObject, "singleStringAttribute", "A string with a \" and a é"); //$NON-NLS-1$ //$NON-NLS-2$
+        this.set(eObject, "singleBooleanAttribute", Boolean.TRUE); //$NON-NLS-1$
+        this.set(eObject, "singleIntAttribute", Integer.valueOf(-42)); //$NON-NLS-1$
+        this.set(eObject, "singleLongAttribute", Long.valueOf(Long.MIN_VALUE)); //$NON-NLS-1$
+        this.set(eObject, "singleShortAttribute", Short.valueOf((short) 300)); //$NON-NLS-1$
+        this.set(eObject, "singleByteAttribute", Byte.valueOf((byte) -1)); //$NON-NLS-1$
+        this.set(eObject, "singleFloatAttribute", Float.valueOf(1.1f)); //$NON-NLS-1$
+        this.set(eObject, "singleDoubleAttribute", Double.valueOf(-2.5e-10)); //$NON-NLS-1$
+        this.set(eObject, "singleBigDecimalAttribute", new BigDecimal("12345678901234567890.0123456789")); //$NON-NLS-1$ //$NON-NLS-2$
+        this.set(eObject, "singleCharAttribute", Character.valueOf('c')); //$NON-NLS-1$
+
+        this.assertRoundTrip(resourceSet, List.of(eObject), false);
+        this.assertRoundTrip(resourceSet, List.of(eObject), true);
+    }
+
+    /**
+     * Checks that a JSON document cannot be loaded as a binary document.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testLoadJsonAsBinary() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        byte[] json = this.save(this.loadNodesMetamodel(resourceSet).eResource().getContents(), false);
+
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        try {
+            resource.load(new ByteArrayInputStream(json), options);
+            Assert.fail("A JSON document should not be loaded as a binary document"); //$NON-NLS-1$
+        } catch (IOException exception) {
+            Assert.assertTrue(resource.getContents().isEmpty());
+        }
+    }
+
+    /**
+     * Checks that a string whose length is corrupted is rejected before allocating its bytes.
+     *
+     * @throws IOException
+     *             if the document cannot be read
+     */
+    @Test
+    public void testCorruptedStringLength() throws IOException {
+        // A new string whose length, 2^62, is larger than any array
+        this.assertMalformedString(new byte[] { 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x40 });
+        // A new string whose length, with the highest bit set, is negative
+        this.assertMalformedString(new byte[] { 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01 });
+        // A new string of 100 MiB with only two bytes
+        this.assertMalformedString(new byte[] { 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x32, 'a', 'b' });
+    }
+
+    /**
+     * Checks that reading a string token made of the given bytes, which follow its tag, fails.
+     *
+     * @param stringBytes
+     *            the bytes of the string token after its tag
+     * @throws IOException
+     *             if the start of the document cannot be read
+     */
+    private void assertMalformedString(byte[] stringBytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(new byte[] { 'E', 'J', 'S', 'B', 1 });
+        // The tag of a string
+        outputStream.write(5);
+        outputStream.write(stringBytes);
+        try (BinaryJsonReader reader = new BinaryJsonReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Assert.assertThrows(MalformedJsonException.class, reader::nextString);
+        }
+    }
+
+    /**
+     * Saves the given objects in JSON and in the binary format, loads the binary document in a new resource and checks
+     * that this resource is saved in the same JSON document.
+     *
+     * @param resourceSet
+     *            the resource set of the loaded resource
+     * @param eObjects
+     *            the objects to save
+     * @param isStreamingLoad
+     *            <code>true</code> to use {@link JsonResource#OPTION_STREAMING_LOAD}
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    private void assertRoundTrip(ResourceSet resourceSet, List<EObject> eObjects, boolean isStreamingLoad) throws IOException {
+        byte[] json = this.save(eObjects, false);
+        byte[] binary = this.save(eObjects, true);
+        Assert.assertTrue(binary.length < json.length);
+
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        options.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.valueOf(isStreamingLoad));
+        resource.load(new ByteArrayInputStream(binary), options);
+        resourceSet.getResources().remove(resource);
+
+        Assert.assertTrue(EcoreUtil.equals(eObjects, resource.getContents()));
+        Assert.assertEquals(new String(json, StandardCharsets.UTF_8), new String(this.save(resource.getContents(), false), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Saves copies of the given objects in a new resource.
+     *
+     * @param eObjects
+     *            the objects to save
+     * @param isBinary
+     *            <code>true</code> to use {@link JsonResource#OPTION_BINARY_FORMAT}
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private byte[] save(List<EObject> eObjects, boolean isBinary) throws IOException {
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        List<EObject> copies = List.copyOf(EcoreUtil.copyAll(eObjects));
+        resource.getContents().addAll(copies);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.valueOf(isBinary));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, options);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Creates a resource set loading the Ecore models.
+     *
+     * @return The resource set
+     */
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new XMIResourceFactoryImpl()); //$NON-NLS-1$
+        return resourceSet;
+    }
+
+    /**
+     * Loads the metamodel of the tests in the given resource set and registers it.
+     *
+     * @param resourceSet
+     *            the resource set
+     * @return The package of the metamodel
+     */
+    private EPackage loadNodesMetamodel(ResourceSet resourceSet) {
+        URI uri = URI.createURI(AbstractEMFJsonTests.class.getResource("/nodes.ecore").toString()); //$NON-NLS-1$
+        EPackage ePackage = (EPackage) resourceSet.getResource(uri, true).getContents().get(0);
+        resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+        return ePackage;
+    }
+
+    /**
+     * Sets the value of the structural feature with the given name of the given object.
+     *
+     * @param eObject
+     *            the object
+     * @param name
+     *            the name of the structural feature
+     * @param value
+     *            the value
+     */
+    private void set(EObject eObject, String name, Object value) {
+        eObject.eSet(eObject.eClass().getEStructuralFeature(name), value);
+    }
+}
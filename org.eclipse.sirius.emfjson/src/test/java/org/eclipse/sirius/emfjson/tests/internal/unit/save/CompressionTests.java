@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the save of compressed resources with {@link JsonResource#OPTION_COMPRESSION} and the load of compressed
+ * resources.
+ *
+ * @author Obeo
+ */
+public class CompressionTests {
+
+    /**
+     * The URI of the resources.
+     */
+    private static final URI RESOURCE_URI = URI.createURI("compression.json"); //$NON-NLS-1$
+
+    /**
+     * Checks that a compressed resource is smaller and loaded back without option.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testCompressedJson() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        byte[] json = this.save(eObjects, new HashMap<>());
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        byte[] compressed = this.save(eObjects, options);
+        Assert.assertTrue(compressed.length * 4 < json.length);
+
+        this.assertLoad(resourceSet, eObjects, compressed, new HashMap<>());
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_STREAMING_LOAD, Boolean.TRUE);
+        this.assertLoad(resourceSet, eObjects, compressed, loadOptions);
+    }
+
+    /**
+     * Checks that a resource compressed in the binary format is loaded back.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testCompressedBinary() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        byte[] compressed = this.save(eObjects, options);
+
+        Map<Object, Object> loadOptions = new HashMap<>();
+        loadOptions.put(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+        this.assertLoad(resourceSet, eObjects, compressed, loadOptions);
+    }
+
+    /**
+     * Checks that a resource compressed in the gzip format by another tool is loaded.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testGzipJson() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(this.save(eObjects, new HashMap<>()));
+        }
+
+        this.assertLoad(resourceSet, eObjects, outputStream.toByteArray(), new HashMap<>());
+    }
+
+    /**
+     * Checks that many resources are compressed and loaded back, reusing the deflaters and the inflaters.
+     *
+     * @throws IOException
+     *             if a resource cannot be saved or loaded
+     */
+    @Test
+    public void testManyCompressedResources() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        byte[] compressed = this.save(eObjects, options);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertArrayEquals(compressed, this.save(eObjects, options));
+            this.assertLoad(resourceSet, eObjects, compressed, new HashMap<>());
+        }
+    }
+
+    /**
+     * Checks that the stream of a compressed save which fails before the end of the document is closed, so that the
+     * deflater of the compression is given back to the pool.
+     */
+    @Test
+    public void testFailedCompressedSave() {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resource.getContents().addAll(EcoreUtil.copyAll(eObjects));
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        options.put(JsonResource.OPTION_ENCODING, "unknown"); //$NON-NLS-1$
+        boolean[] isClosed = new boolean[1];
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                isClosed[0] = true;
+                super.close();
+            }
+        };
+
+        Assert.assertThrows(IOException.class, () -> resource.save(outputStream, options));
+        Assert.assertTrue(isClosed[0]);
+    }
+
+    /**
+     * Checks that the stream of a compressed load which fails before the creation of the reader is closed, so that the
+     * inflater of the decompression is given back to the pool.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testFailedCompressedLoad() throws IOException {
+        ResourceSet resourceSet = this.createResourceSet();
+        List<EObject> eObjects = this.loadNodesMetamodel(resourceSet);
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_COMPRESSION, Boolean.TRUE);
+        byte[] compressed = this.save(eObjects, options);
+        boolean[] isClosed = new boolean[1];
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(compressed) {
+            @Override
+            public void close() throws IOException {
+                isClosed[0] = true;
+                super.close();
+            }
+        };
+
+        // The decompressed document is not in the binary format
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        Assert.assertThrows(IOException.class, () -> resource.load(inputStream, Map.of(JsonResource.OPTION_BINARY_FORMAT, Boolean.TRUE)));
+        Assert.assertTrue(isClosed[0]);
+    }
+
+    /**
+     * Loads the given document in a new resource and checks that its contents are equal to the given objects.
+     *
+     * @param resourceSet
+     *            the resource set of the loaded resource
+     * @param eObjects
+     *            the expected objects
+     * @param bytes
+     *            the document
+     * @param options
+     *            the load options
+     * @throws IOException
+     *             if the resource cannot be loaded
+     */
+    private void assertLoad(ResourceSet resourceSet, List<EObject> eObjects, byte[] bytes, Map<Object, Object> options) throws IOException {
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resourceSet.getResources().add(resource);
+        resource.load(new ByteArrayInputStream(bytes), options);
+        resourceSet.getResources().remove(resource);
+        Assert.assertTrue(EcoreUtil.equals(eObjects, resource.getContents()));
+    }
+
+    /**
+     * Saves copies of the given objects in a new resource.
+     *
+     * @param eObjects
+     *            the objects to save
+     * @param options
+     *            the save options
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private byte[] save(List<EObject> eObjects, Map<Object, Object> options) throws IOException {
+        Resource resource = new JsonResourceImpl(RESOURCE_URI, new HashMap<>());
+        resource.getContents().addAll(EcoreUtil.copyAll(eObjects));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, options);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Creates a resource set loading the Ecore models.
+     *
+     * @return The resource set
+     */
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new XMIResourceFactoryImpl()); //$NON-NLS-1$
+        return resourceSet;
+    }
+
+    /**
+     * Loads the metamodel of the tests in the given resource set.
+     *
+     * @param resourceSet
+     *            the resource set
+     * @return The contents of the resource of the metamodel
+     */
+    private List<EObject> loadNodesMetamodel(ResourceSet resourceSet) {
+        URI uri = URI.createURI(AbstractEMFJsonTests.class.getResource("/nodes.ecore").toString()); //$NON-NLS-1$
+        EPackage ePackage = (EPackage) resourceSet.getResource(uri, true).getContents().get(0);
+        return ePackage.eResource().getContents();
+    }
+}
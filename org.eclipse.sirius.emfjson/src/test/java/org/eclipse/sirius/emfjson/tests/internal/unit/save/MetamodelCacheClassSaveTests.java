@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonMetamodelCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs the tests of {@link ClassSaveTests} with a {@link JsonMetamodelCache} shared by all the saves with
+ * {@link JsonResource#OPTION_METAMODEL_CACHE}.
+ *
+ * @author Obeo
+ */
+public class MetamodelCacheClassSaveTests extends ClassSaveTests {
+
+    /**
+     * The cache shared by the tests, which all use the same options and Ecore as their only metamodel.
+     */
+    private static final JsonMetamodelCache METAMODEL_CACHE = new JsonMetamodelCache();
+
+    /**
+     * The constructor.
+     */
+    public MetamodelCacheClassSaveTests() {
+        this.options.put(JsonResource.OPTION_METAMODEL_CACHE, METAMODEL_CACHE);
+    }
+
+    /**
+     * Checks that the saves of the same EClass with different options sharing the same cache write the same
+     * documents as the saves without cache.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testDifferentOptions() throws IOException {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("cache"); //$NON-NLS-1$
+        ePackage.setNsPrefix("cache"); //$NON-NLS-1$
+        ePackage.setNsURI("http://cache"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(eClass);
+        EAttribute name = this.addAttribute(eClass, "name"); //$NON-NLS-1$
+        EAttribute transientAttribute = this.addAttribute(eClass, "transient"); //$NON-NLS-1$
+        transientAttribute.setTransient(true);
+        EAttribute derivedAttribute = this.addAttribute(eClass, "derived"); //$NON-NLS-1$
+        derivedAttribute.setDerived(true);
+
+        Resource resource = new JsonResourceImpl(URI.createURI("cache.json"), new HashMap<>()); //$NON-NLS-1$
+        EObject node = EcoreUtil.create(eClass);
+        node.eSet(name, "node"); //$NON-NLS-1$
+        node.eSet(transientAttribute, "transient"); //$NON-NLS-1$
+        node.eSet(derivedAttribute, "derived"); //$NON-NLS-1$
+        resource.getContents().add(node);
+
+        Comparator<EStructuralFeature> reverseOrder = (first, second) -> second.getName().compareTo(first.getName());
+        JsonMetamodelCache metamodelCache = new JsonMetamodelCache();
+        this.assertSameDocument(resource, metamodelCache, JsonResource.OPTION_SAVE_TRANSIENT_FEATURES, Boolean.TRUE);
+        this.assertSameDocument(resource, metamodelCache, JsonResource.OPTION_SAVE_DERIVED_FEATURES, Boolean.TRUE);
+        this.assertSameDocument(resource, metamodelCache, JsonResource.OPTION_SAVE_FEATURES_ORDER_COMPARATOR, reverseOrder);
+        this.assertSameDocument(resource, metamodelCache, JsonResource.OPTION_SAVE_TRANSIENT_FEATURES, Boolean.FALSE);
+    }
+
+    /**
+     * Saves the given resource with the given option, with the given cache and without cache, and checks that the
+     * documents are the same.
+     *
+     * @param resource
+     *            the resource
+     * @param metamodelCache
+     *            the cache
+     * @param option
+     *            the option
+     * @param value
+     *            the value of the option
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private void assertSameDocument(Resource resource, JsonMetamodelCache metamodelCache, Object option, Object value) throws IOException {
+        Map<Object, Object> saveOptions = new HashMap<>();
+        saveOptions.put(option, value);
+        String expected = this.save(resource, saveOptions);
+        saveOptions.put(JsonResource.OPTION_METAMODEL_CACHE, metamodelCache);
+        Assert.assertEquals(expected, this.save(resource, saveOptions));
+    }
+
+    /**
+     * Saves the given resource.
+     *
+     * @param resource
+     *            the resource
+     * @param saveOptions
+     *            the save options
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private String save(Resource resource, Map<Object, Object> saveOptions) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, saveOptions);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds a string attribute to the given EClass.
+     *
+     * @param eClass
+     *            the EClass
+     * @param name
+     *            the name of the attribute
+     * @return The attribute
+     */
+    private EAttribute addAttribute(EClass eClass, String name) {
+        EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eAttribute.setName(name);
+        eAttribute.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(eAttribute);
+        return eAttribute;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -150,6 +150,15 @@ public class NonContainmentReferencesSaveTests extends AbstractEMFJsonTests {
         Assert.assertEquals(this.listenerData.get("onCrossReferenceURICreated"), "../../../nodes.ecore#//NodeMultipleCustomDataType"); //$NON-NLS-1$//$NON-NLS-2$
     }
 
+    /**
+     * Test the serialization of a class referencing local eSuperTypes before and after an external one, which are all
+     * serialized as HREFs.
+     */
+    @Test
+    public void testSaveMixedMultiNonContainmentReferences() {
+        this.testSave("TestMixedMultiNonContainmentReferences.ecore"); //$NON-NLS-1$
+    }
+
     /**
      * Tests the throwing of Dangling exception when expected it.
      *
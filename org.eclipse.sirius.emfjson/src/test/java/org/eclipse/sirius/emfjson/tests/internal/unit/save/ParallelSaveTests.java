@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.utils.JsonHelper;
+import org.eclipse.sirius.emfjson.utils.ParallelResourceSaver;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the concurrent save of several resources with {@link ParallelResourceSaver}.
+ *
+ * @author Obeo
+ */
+public class ParallelSaveTests {
+
+    /**
+     * The number of saved resources.
+     */
+    private static final int RESOURCE_COUNT = 16;
+
+    /**
+     * The folder in which the resources are saved.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Checks that all the resources are saved and that the error of a resource does not prevent the save of the
+     * other ones.
+     *
+     * @throws IOException
+     *             if a saved resource cannot be loaded
+     */
+    @Test
+    public void testParallelSave() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(JsonResourceFactoryImpl.EXTENSION, new JsonResourceFactoryImpl());
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            Resource resource = resourceSet.createResource(this.getURI(i));
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackage.setName("package" + i); //$NON-NLS-1$
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Class" + i); //$NON-NLS-1$
+            ePackage.getEClassifiers().add(eClass);
+            resource.getContents().add(ePackage);
+        }
+
+        // The super type of this class is not contained in any resource
+        EClass danglingEClass = EcoreFactory.eINSTANCE.createEClass();
+        Resource danglingResource = resourceSet.getResources().get(3);
+        ((EClass) ((EPackage) danglingResource.getContents().get(0)).getEClassifiers().get(0)).getESuperTypes().add(danglingEClass);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<Resource, Exception> errors = null;
+        try {
+            errors = new ParallelResourceSaver(executor, new HashMap<>()).save(resourceSet);
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(1, errors.size());
+        Assert.assertTrue(errors.get(danglingResource) instanceof Resource.IOWrappedException);
+
+        ResourceSet loadingResourceSet = new ResourceSetImpl();
+        loadingResourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(JsonResourceFactoryImpl.EXTENSION, new JsonResourceFactoryImpl());
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            if (i != 3) {
+                Resource resource = loadingResourceSet.getResource(this.getURI(i), true);
+                Assert.assertEquals("package" + i, ((EPackage) resource.getContents().get(0)).getName()); //$NON-NLS-1$
+            }
+        }
+    }
+
+    /**
+     * Checks that the options keeping a state during a save cannot be shared by the concurrent saves.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSharedHelper() {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_CUSTOM_HELPER, new JsonHelper());
+        new ParallelResourceSaver(Runnable::run, options);
+    }
+
+    /**
+     * Returns the URI of the resource at the given index.
+     *
+     * @param index
+     *            the index of the resource
+     * @return the URI of the resource
+     */
+    private URI getURI(int index) {
+        return URI.createFileURI(new File(this.folder.getRoot(), "resource" + index + ".json").getAbsolutePath()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import com.google.gson.JsonElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.IDManager;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.resource.exception.DanglingHREFException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the concurrent serialization of the root objects of a resource with
+ * {@link JsonResource#OPTION_PARALLEL_SERIALIZATION}.
+ *
+ * @author Obeo
+ */
+public class ParallelSerializationTests {
+
+    /**
+     * The number of root objects of the resources.
+     */
+    private static final int ROOT_COUNT = 50;
+
+    /**
+     * The number of root objects of the resource whose roots reference each other.
+     */
+    private static final int MANY_ROOT_COUNT = 5000;
+
+    /**
+     * The number of times the resource whose roots reference each other is saved.
+     */
+    private static final int RUN_COUNT = 100;
+
+    /**
+     * The pool serializing the root objects.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Creates the pool serializing the root objects.
+     */
+    @Before
+    public void setUp() {
+        this.pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @After
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Checks that the document saved concurrently is the same as the one saved sequentially.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testParallelSerialization() throws IOException {
+        Resource resource = this.createResource(this.createPackage("a", "http://a"), this.createPackage("b", "http://b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        this.assertSameDocument(resource, new HashMap<>());
+    }
+
+    /**
+     * Checks that the document saved concurrently with {@link JsonResource#OPTION_STREAMING_SAVE} is the same as the one
+     * saved sequentially.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testStreamingParallelSerialization() throws IOException {
+        Resource resource = this.createResource(this.createPackage("a", "http://a"), this.createPackage("b", "http://b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_STREAMING_SAVE, Boolean.TRUE);
+        this.assertSameDocument(resource, options);
+    }
+
+    /**
+     * Checks that the document saved concurrently is the same as the one saved sequentially when two packages used by
+     * different parts of the roots have the same prefix.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testParallelSerializationWithSamePrefixes() throws IOException {
+        Resource resource = this.createResource(this.createPackage("p", "http://a"), this.createPackage("p", "http://b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        String document = this.assertSameDocument(resource, new HashMap<>());
+        Assert.assertTrue(document.contains("\"p_1\": \"http://b\"")); //$NON-NLS-1$
+    }
+
+    /**
+     * Checks that the serialization listener receives the same calls in the same order.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testSerializationListener() throws IOException {
+        Resource resource = this.createResource(this.createPackage("a", "http://a"), this.createPackage("b", "http://b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+        List<String> sequentialCalls = new ArrayList<>();
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_SERIALIZATION_LISTENER, this.createListener(sequentialCalls));
+        this.save(resource, options);
+
+        List<String> parallelCalls = new ArrayList<>();
+        options.put(JsonResource.OPTION_SERIALIZATION_LISTENER, this.createListener(parallelCalls));
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        this.save(resource, options);
+
+        Assert.assertFalse(sequentialCalls.isEmpty());
+        Assert.assertEquals(sequentialCalls, parallelCalls);
+    }
+
+    /**
+     * Checks that the documents saved concurrently are the same as the ones saved sequentially when thousands of roots
+     * reference each other, their root segments being computed by the parts at the same time. A root is moved before
+     * each concurrent save so that the index of the roots has to be computed again by the parts.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testReferencesBetweenManyRoots() throws IOException {
+        EPackage ePackage = this.createPackage("a", "http://a"); //$NON-NLS-1$ //$NON-NLS-2$
+        EClass eClass = (EClass) ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        Resource resource = new JsonResourceImpl(URI.createURI("roots.json"), new HashMap<>()); //$NON-NLS-1$
+        List<EObject> roots = resource.getContents();
+        for (int i = 0; i < MANY_ROOT_COUNT; i++) {
+            EObject root = EcoreUtil.create(eClass);
+            root.eSet(eClass.getEStructuralFeature("name"), "root" + i); //$NON-NLS-1$ //$NON-NLS-2$
+            roots.add(root);
+        }
+        for (int i = 0; i < MANY_ROOT_COUNT; i++) {
+            this.addReference(roots.get(i), roots.get((i * 7 + 3) % MANY_ROOT_COUNT));
+            this.addReference(roots.get(i), roots.get((i * 13 + 1) % MANY_ROOT_COUNT));
+        }
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        for (int run = 0; run < RUN_COUNT; run++) {
+            ((EList<EObject>) roots).move(0, MANY_ROOT_COUNT - 1);
+            String parallelDocument = this.save(resource, options);
+            Assert.assertEquals(this.save(resource, new HashMap<>()), parallelDocument);
+        }
+    }
+
+    /**
+     * Checks that the {@link IDManager}, which does not have to be thread safe, is only called by the thread saving the
+     * resource and creates the ids in the same order as the sequential serialization.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testIDManager() throws IOException {
+        Resource resource = this.createResource(this.createPackage("a", "http://a"), this.createPackage("b", "http://b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new SequentialIDManager());
+        String expected = this.save(resource, options);
+
+        SequentialIDManager idManager = new SequentialIDManager();
+        options.put(JsonResource.OPTION_ID_MANAGER, idManager);
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        Assert.assertEquals(expected, this.save(resource, options));
+        Assert.assertEquals(Collections.singleton(Thread.currentThread()), idManager.threads);
+    }
+
+    /**
+     * Checks that the proxies referenced by the roots are resolved by the thread saving the resource, since resolving
+     * them loads another resource of the resource set.
+     *
+     * @throws IOException
+     *             if the resources cannot be saved
+     */
+    @Test
+    public void testProxies() throws IOException {
+        EPackage ePackage = this.createPackage("a", "http://a"); //$NON-NLS-1$ //$NON-NLS-2$
+        EClass eClass = (EClass) ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        Resource otherResource = new JsonResourceImpl(URI.createURI("other.json"), new HashMap<>()); //$NON-NLS-1$
+        otherResource.getContents().add(EcoreUtil.create(eClass));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        otherResource.save(outputStream, new HashMap<>());
+
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("json", new JsonResourceFactoryImpl()); //$NON-NLS-1$
+        resourceSet.getURIConverter().getURIHandlers().add(0, new URIHandlerImpl() {
+            @Override
+            public boolean canHandle(URI uri) {
+                // The relative URI of the resource is normalized to an absolute file URI
+                return otherResource.getURI().lastSegment().equals(uri.lastSegment());
+            }
+
+            @Override
+            public InputStream createInputStream(URI uri, Map<?, ?> options) {
+                threads.add(Thread.currentThread());
+                return new ByteArrayInputStream(outputStream.toByteArray());
+            }
+        });
+
+        Resource resource = this.createResource(ePackage, ePackage);
+        resourceSet.getResources().add(resource);
+        for (EObject root : resource.getContents()) {
+            InternalEObject proxy = (InternalEObject) EcoreUtil.create(eClass);
+            proxy.eSetProxyURI(otherResource.getURI().appendFragment("/")); //$NON-NLS-1$
+            this.addReference(root, proxy);
+        }
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        String parallelDocument = this.save(resource, options);
+        Assert.assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        Assert.assertEquals(this.save(resource, new HashMap<>()), parallelDocument);
+    }
+
+    /**
+     * Checks that the dangling references found concurrently are reported like the ones found sequentially.
+     */
+    @Test
+    public void testDanglingReferences() {
+        EPackage ePackage = this.createPackage("a", "http://a"); //$NON-NLS-1$ //$NON-NLS-2$
+        Resource resource = this.createResource(ePackage, ePackage);
+        EClass eClass = (EClass) ePackage.getEClassifier("Node"); //$NON-NLS-1$
+        for (int i = 0; i < ROOT_COUNT; i += 10) {
+            this.addReference(resource.getContents().get(i), EcoreUtil.create(eClass));
+        }
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_PROCESS_DANGLING_HREF, JsonResource.OPTION_PROCESS_DANGLING_HREF_RECORD);
+        List<String> sequentialErrors = this.saveWithDanglingReferences(resource, options);
+        resource.getErrors().clear();
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        List<String> parallelErrors = this.saveWithDanglingReferences(resource, options);
+
+        Assert.assertEquals(ROOT_COUNT / 10, sequentialErrors.size());
+        Assert.assertEquals(sequentialErrors, parallelErrors);
+    }
+
+    /**
+     * Saves the given resource, which has dangling references, and returns the messages of its errors.
+     *
+     * @param resource
+     *            the resource
+     * @param options
+     *            the save options
+     * @return The messages of the errors of the resource
+     */
+    private List<String> saveWithDanglingReferences(Resource resource, Map<Object, Object> options) {
+        try {
+            this.save(resource, options);
+            Assert.fail("The dangling references should be reported"); //$NON-NLS-1$
+        } catch (IOException exception) {
+            Assert.assertTrue(exception.getCause() instanceof DanglingHREFException);
+        }
+        List<String> errors = new ArrayList<>();
+        resource.getErrors().forEach(error -> errors.add(error.getMessage()));
+        return errors;
+    }
+
+    /**
+     * Saves the given resource sequentially and concurrently and checks that the documents are the same.
+     *
+     * @param resource
+     *            the resource
+     * @param options
+     *            the save options, to which {@link JsonResource#OPTION_PARALLEL_SERIALIZATION} is added
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private String assertSameDocument(Resource resource, Map<Object, Object> options) throws IOException {
+        String expected = this.save(resource, options);
+        options.put(JsonResource.OPTION_PARALLEL_SERIALIZATION, this.pool);
+        Assert.assertEquals(expected, this.save(resource, options));
+        Assert.assertEquals(expected, JsonResourceImpl.toJson((JsonResource) resource, options));
+        return expected;
+    }
+
+    /**
+     * Saves the given resource.
+     *
+     * @param resource
+     *            the resource
+     * @param options
+     *            the save options
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private String save(Resource resource, Map<Object, Object> options) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Map<Object, Object> saveOptions = new HashMap<>(options);
+        saveOptions.put(JsonResource.OPTION_PRETTY_PRINTING_INDENT, JsonResource.INDENT_2_SPACES);
+        resource.save(outputStream, saveOptions);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a package with an EClass <code>Node</code> having a name, children and references to other nodes.
+     *
+     * @param nsPrefix
+     *            the prefix of the package
+     * @param nsURI
+     *            the URI of the package
+     * @return The package
+     */
+    private EPackage createPackage(String nsPrefix, String nsURI) {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+        EPackage ePackage = factory.createEPackage();
+        ePackage.setName(nsPrefix);
+        ePackage.setNsPrefix(nsPrefix);
+        ePackage.setNsURI(nsURI);
+
+        EClass eClass = factory.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(eClass);
+
+        EAttribute name = factory.createEAttribute();
+        name.setName("name"); //$NON-NLS-1$
+        name.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(name);
+
+        EReference children = factory.createEReference();
+        children.setName("children"); //$NON-NLS-1$
+        children.setEType(eClass);
+        children.setContainment(true);
+        children.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(children);
+
+        EReference references = factory.createEReference();
+        references.setName("references"); //$NON-NLS-1$
+        references.setEType(EcorePackage.Literals.EOBJECT);
+        references.setUpperBound(-1);
+        eClass.getEStructuralFeatures().add(references);
+        return ePackage;
+    }
+
+    /**
+     * Creates a resource whose first half of the roots are instances of the first package and the second half
+     * instances of the second package, with children and references between them.
+     *
+     * @param firstPackage
+     *            the first package
+     * @param secondPackage
+     *            the second package
+     * @return The resource
+     */
+    private Resource createResource(EPackage firstPackage, EPackage secondPackage) {
+        Resource resource = new JsonResourceImpl(URI.createURI("parallel.json"), new HashMap<>()); //$NON-NLS-1$
+        List<EObject> nodes = new ArrayList<>();
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            EPackage ePackage = firstPackage;
+            if (i >= ROOT_COUNT / 2) {
+                ePackage = secondPackage;
+            }
+            EClass eClass = (EClass) ePackage.getEClassifier("Node"); //$NON-NLS-1$
+            EObject root = EcoreUtil.create(eClass);
+            root.eSet(eClass.getEStructuralFeature("name"), "root" + i); //$NON-NLS-1$ //$NON-NLS-2$
+            resource.getContents().add(root);
+            nodes.add(root);
+            for (int j = 0; j < 5; j++) {
+                EObject child = EcoreUtil.create(eClass);
+                child.eSet(eClass.getEStructuralFeature("name"), "child" + i + "_" + j); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                this.getList(root, "children").add(child); //$NON-NLS-1$
+                nodes.add(child);
+            }
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            this.addReference(nodes.get(i), nodes.get((i * 7 + 3) % nodes.size()));
+            this.addReference(nodes.get(i), nodes.get((i * 13 + 1) % nodes.size()));
+        }
+        return resource;
+    }
+
+    /**
+     * Adds a reference from the given node to the given object.
+     *
+     * @param node
+     *            the node
+     * @param eObject
+     *            the referenced object
+     */
+    private void addReference(EObject node, EObject eObject) {
+        this.getList(node, "references").add(eObject); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the value of the many-valued structural feature with the given name of the given object.
+     *
+     * @param eObject
+     *            the object
+     * @param name
+     *            the name of the structural feature
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    private List<EObject> getList(EObject eObject, String name) {
+        return (List<EObject>) eObject.eGet(eObject.eClass().getEStructuralFeature(name));
+    }
+
+    /**
+     * Creates a listener describing the calls that it receives in the given list.
+     *
+     * @param calls
+     *            the list
+     * @return The listener
+     */
+    private JsonResource.ISerializationListener createListener(List<String> calls) {
+        return new JsonResource.ISerializationListener() {
+
+            @Override
+            public void onNsHeaderEntryAdded(String nsPrefix, String nsURI) {
+                calls.add("ns " + nsPrefix + " " + nsURI); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+
+            @Override
+            public void onObjectSerialized(EObject eObject, JsonElement jsonElement) {
+                calls.add("object " + EcoreUtil.getURI(eObject) + " " + jsonElement); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+
+            @Override
+            public void onCrossReferenceURICreated(EObject eObject, EReference eReference, String uri) {
+                calls.add("href " + EcoreUtil.getURI(eObject) + " " + uri); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        };
+    }
+
+    /**
+     * An {@link IDManager} creating the ids in the order of its calls, which records the threads calling it.
+     */
+    private static final class SequentialIDManager implements IDManager {
+
+        /**
+         * The ids of the objects.
+         */
+        private final Map<EObject, String> ids = new IdentityHashMap<>();
+
+        /**
+         * The threads which have created the ids.
+         */
+        private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        @Override
+        public String getOrCreateId(EObject eObject) {
+            this.threads.add(Thread.currentThread());
+            return this.ids.computeIfAbsent(eObject, key -> "id" + this.ids.size()); //$NON-NLS-1$
+        }
+
+        @Override
+        public Optional<String> findId(EObject eObject) {
+            return Optional.ofNullable(this.ids.get(eObject));
+        }
+
+        @Override
+        public void clearId(EObject eObject) {
+            this.ids.remove(eObject);
+        }
+
+        @Override
+        public String setId(EObject eObject, String id) {
+            return this.ids.put(eObject, id);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.IGsonConstants;
+import org.eclipse.sirius.emfjson.utils.JsonHelper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the URI fragments of the root objects of a resource with many of them and of the serialized roots of a partial
+ * save.
+ *
+ * @author Obeo
+ */
+public class RootObjectsSaveTests {
+
+    /**
+     * The number of root objects.
+     */
+    private static final int ROOT_COUNT = 100;
+
+    /**
+     * The number of serialized roots of the partial save.
+     */
+    private static final int PARTIAL_ROOT_COUNT = 6;
+
+    /**
+     * Checks that the URI fragments of the root objects follow the changes of the contents.
+     */
+    @Test
+    public void testRootObjectFragments() {
+        JsonResource resource = this.createResource(URI.createURI("roots.json")); //$NON-NLS-1$
+        JsonHelper helper = new JsonHelper(resource);
+        this.assertRootObjectFragments(resource, helper);
+
+        EList<EObject> contents = resource.getContents();
+        contents.move(0, ROOT_COUNT - 1);
+        contents.remove(ROOT_COUNT / 2);
+        contents.add(EcoreFactory.eINSTANCE.createEPackage());
+        this.assertRootObjectFragments(resource, helper);
+    }
+
+    /**
+     * Checks that the references to the root objects are saved and loaded back.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testReferencesToRootObjects() throws IOException {
+        JsonResource resource = this.createResource(URI.createURI("roots.json")); //$NON-NLS-1$
+        EClass eClass = (EClass) ((EPackage) resource.getContents().get(ROOT_COUNT - 1)).getEClassifiers().get(0);
+        for (int i = 0; i < ROOT_COUNT - 1; i++) {
+            eClass.getESuperTypes().add((EClass) ((EPackage) resource.getContents().get(i)).getEClassifiers().get(0));
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, new HashMap<>());
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource loadedResource = new JsonResourceImpl(URI.createURI("roots.json"), new HashMap<>()); //$NON-NLS-1$
+        resourceSet.getResources().add(loadedResource);
+        loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), new HashMap<>());
+
+        Assert.assertEquals(ROOT_COUNT, loadedResource.getContents().size());
+        EClass loadedEClass = (EClass) ((EPackage) loadedResource.getContents().get(ROOT_COUNT - 1)).getEClassifiers().get(0);
+        List<EClass> eSuperTypes = loadedEClass.getESuperTypes();
+        Assert.assertEquals(ROOT_COUNT - 1, eSuperTypes.size());
+        for (int i = 0; i < ROOT_COUNT - 1; i++) {
+            Assert.assertFalse(eSuperTypes.get(i).eIsProxy());
+            Assert.assertEquals("Class" + i, eSuperTypes.get(i).getName()); //$NON-NLS-1$
+            Assert.assertSame(loadedResource.getContents().get(i), eSuperTypes.get(i).getEPackage());
+        }
+    }
+
+    /**
+     * Checks that the references between the objects of a partial save start with the index of the serialized root
+     * containing the referenced object.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testPartialSave() throws IOException {
+        JsonResource resource = this.createResource(URI.createURI("roots.json")); //$NON-NLS-1$
+        List<EObject> serializedRoots = new ArrayList<>();
+        List<EClass> eClasses = new ArrayList<>();
+        for (int i = 0; i < PARTIAL_ROOT_COUNT; i++) {
+            EPackage ePackage = (EPackage) resource.getContents().get(ROOT_COUNT - 1 - i * 2);
+            EPackage eSubpackage = EcoreFactory.eINSTANCE.createEPackage();
+            eSubpackage.setName("subpackage" + i); //$NON-NLS-1$
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("SubClass" + i); //$NON-NLS-1$
+            eSubpackage.getEClassifiers().add(eClass);
+            ePackage.getESubpackages().add(eSubpackage);
+            serializedRoots.add(eSubpackage);
+            eClasses.add(eClass);
+        }
+        for (int i = 0; i < PARTIAL_ROOT_COUNT; i++) {
+            eClasses.get(i).getESuperTypes().add(eClasses.get((i + 1) % PARTIAL_ROOT_COUNT));
+        }
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ROOT_OBJECTS, serializedRoots);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, options);
+
+        JsonArray content = JsonParser.parseString(outputStream.toString(StandardCharsets.UTF_8)).getAsJsonObject().getAsJsonArray(IGsonConstants.CONTENT);
+        for (int i = 0; i < PARTIAL_ROOT_COUNT; i++) {
+            JsonObject ePackageData = content.get(ROOT_COUNT - 1 - i * 2).getAsJsonObject().getAsJsonObject(IGsonConstants.DATA);
+            JsonObject eSubpackageData = ePackageData.getAsJsonArray("eSubpackages").get(0).getAsJsonObject().getAsJsonObject(IGsonConstants.DATA); //$NON-NLS-1$
+            JsonObject eClassData = eSubpackageData.getAsJsonArray("eClassifiers").get(0).getAsJsonObject().getAsJsonObject(IGsonConstants.DATA); //$NON-NLS-1$
+            int superTypeIndex = (i + 1) % PARTIAL_ROOT_COUNT;
+            String rootSegment = superTypeIndex == 0 ? "" : Integer.toString(superTypeIndex); //$NON-NLS-1$
+            String expectedSuperType = "/" + rootSegment + "/subpackage" + superTypeIndex + "/SubClass" + superTypeIndex; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            Assert.assertEquals(expectedSuperType, eClassData.getAsJsonArray("eSuperTypes").get(0).getAsString()); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Creates a resource with a package containing a class for each root object.
+     *
+     * @param uri
+     *            the URI of the resource
+     * @return The created resource
+     */
+    private JsonResource createResource(URI uri) {
+        JsonResource resource = new JsonResourceImpl(uri, new HashMap<>());
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackage.setName("package" + i); //$NON-NLS-1$
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Class" + i); //$NON-NLS-1$
+            ePackage.getEClassifiers().add(eClass);
+            resource.getContents().add(ePackage);
+        }
+        return resource;
+    }
+
+    /**
+     * Asserts that the URI fragments of the root objects computed by the resource and by the helper are their index.
+     *
+     * @param resource
+     *            the resource
+     * @param helper
+     *            the helper of the resource
+     */
+    private void assertRootObjectFragments(JsonResource resource, JsonHelper helper) {
+        EList<EObject> contents = resource.getContents();
+        for (int i = 0; i < contents.size(); i++) {
+            EObject root = contents.get(i);
+            Assert.assertEquals("/" + i, resource.getURIFragment(root)); //$NON-NLS-1$
+            Assert.assertEquals("/" + i, helper.getURIFragment(root)); //$NON-NLS-1$
+            Assert.assertSame(root, resource.getEObject("/" + i)); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.EClassSerializationPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs the tests of {@link ClassSaveTests} with serialization plans shared by all the saves with
+ * {@link JsonResource#OPTION_SERIALIZATION_PLAN_CACHE}.
+ *
+ * @author Obeo
+ */
+public class SerializationPlanCacheClassSaveTests extends ClassSaveTests {
+
+    /**
+     * The serialization plans shared by the tests, which all use the same options.
+     */
+    private static final Map<EClassSerializationPlan.Key, EClassSerializationPlan> SERIALIZATION_PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * The constructor.
+     */
+    public SerializationPlanCacheClassSaveTests() {
+        this.options.put(JsonResource.OPTION_SERIALIZATION_PLAN_CACHE, SERIALIZATION_PLANS);
+    }
+
+    /**
+     * Checks that the saves of the same EClass with different options sharing the same serialization plans write the
+     * same documents as the saves with their own plans.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testDifferentOptions() throws IOException {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Node"); //$NON-NLS-1$
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("plan"); //$NON-NLS-1$
+        ePackage.setNsPrefix("plan"); //$NON-NLS-1$
+        ePackage.setNsURI("http://plan"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(eClass);
+        EAttribute name = this.addAttribute(eClass, "name"); //$NON-NLS-1$
+        EAttribute transientAttribute = this.addAttribute(eClass, "transient"); //$NON-NLS-1$
+        transientAttribute.setTransient(true);
+        EAttribute derivedAttribute = this.addAttribute(eClass, "derived"); //$NON-NLS-1$
+        derivedAttribute.setDerived(true);
+
+        Resource resource = new JsonResourceImpl(URI.createURI("plan.json"), new HashMap<>()); //$NON-NLS-1$
+        EObject node = EcoreUtil.create(eClass);
+        node.eSet(name, "node"); //$NON-NLS-1$
+        node.eSet(transientAttribute, "transient"); //$NON-NLS-1$
+        node.eSet(derivedAttribute, "derived"); //$NON-NLS-1$
+        resource.getContents().add(node);
+
+        Comparator<EStructuralFeature> reverseOrder = (first, second) -> second.getName().compareTo(first.getName());
+        Map<EClassSerializationPlan.Key, EClassSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+        this.assertSameDocument(resource, serializationPlans, JsonResource.OPTION_SAVE_TRANSIENT_FEATURES, Boolean.TRUE);
+        this.assertSameDocument(resource, serializationPlans, JsonResource.OPTION_SAVE_DERIVED_FEATURES, Boolean.TRUE);
+        this.assertSameDocument(resource, serializationPlans, JsonResource.OPTION_SAVE_FEATURES_ORDER_COMPARATOR, reverseOrder);
+        this.assertSameDocument(resource, serializationPlans, JsonResource.OPTION_SAVE_TRANSIENT_FEATURES, Boolean.FALSE);
+        Assert.assertEquals(4, serializationPlans.size());
+    }
+
+    /**
+     * Saves the given resource with the given option, with the given serialization plans and with its own plans, and
+     * checks that the documents are the same.
+     *
+     * @param resource
+     *            the resource
+     * @param serializationPlans
+     *            the serialization plans
+     * @param option
+     *            the option
+     * @param value
+     *            the value of the option
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private void assertSameDocument(Resource resource, Map<EClassSerializationPlan.Key, EClassSerializationPlan> serializationPlans, Object option, Object value)
+            throws IOException {
+        Map<Object, Object> saveOptions = new HashMap<>();
+        saveOptions.put(option, value);
+        String expected = this.save(resource, saveOptions);
+        saveOptions.put(JsonResource.OPTION_SERIALIZATION_PLAN_CACHE, serializationPlans);
+        Assert.assertEquals(expected, this.save(resource, saveOptions));
+    }
+
+    /**
+     * Saves the given resource.
+     *
+     * @param resource
+     *            the resource
+     * @param saveOptions
+     *            the save options
+     * @return The saved document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private String save(Resource resource, Map<Object, Object> saveOptions) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, saveOptions);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds a string attribute to the given EClass.
+     *
+     * @param eClass
+     *            the EClass
+     * @param name
+     *            the name of the attribute
+     * @return The attribute
+     */
+    private EAttribute addAttribute(EClass eClass, String name) {
+        EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eAttribute.setName(name);
+        eAttribute.setEType(EcorePackage.Literals.ESTRING);
+        eClass.getEStructuralFeatures().add(eAttribute);
+        return eAttribute;
+    }
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the order of the header members and the serialization given to the {@link JsonResource.ISerializationListener}
+ * with {@link JsonResource#OPTION_STREAMING_SAVE}.
+ *
+ * @author Obeo
+ */
+public class StreamingSaveTests extends AbstractEMFJsonTests {
+
+    /**
+     * The resource saved, containing a node, a book and an annotation.
+     */
+    private JsonResourceImpl resource;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.eclipse.sirius.emfjson.tests.internal.AbstractEMFJsonTests#getRootPath()
+     */
+    @Override
+    protected String getRootPath() {
+        return "/unit/options/"; //$NON-NLS-1$
+    }
+
+    /**
+     * Creates the resource saved, whose node and book are instances of packages located next to it.
+     */
+    @Before
+    public void setUp() {
+        EPackage nodesPackage = this.loadMetaModel("/nodes.ecore"); //$NON-NLS-1$
+        EPackage libraryPackage = this.loadMetaModel("/unit/references/noncontainment/extlibrary.ecore"); //$NON-NLS-1$
+
+        URI uri = URI.createURI(AbstractEMFJsonTests.class.getResource(this.getRootPath() + "SchemaLocation.json").toString()); //$NON-NLS-1$
+        this.resource = new JsonResourceImpl(uri, new HashMap<>());
+        this.resource.getContents().add(EcoreUtil.create((EClass) nodesPackage.getEClassifier("Node"))); //$NON-NLS-1$
+        this.resource.getContents().add(EcoreUtil.create((EClass) libraryPackage.getEClassifier("Book"))); //$NON-NLS-1$
+        EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        eAnnotation.setSource("streamed"); //$NON-NLS-1$
+        this.resource.getContents().add(eAnnotation);
+    }
+
+    /**
+     * Checks that the streaming save writes the header members in the order of the regular save, the schema locations
+     * following the members added by the {@link JsonResource.IJsonResourceProcessor} and the order of the namespaces.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testSchemaLocationOrder() throws IOException {
+        this.options.put(JsonResource.OPTION_SCHEMA_LOCATION, Boolean.TRUE);
+        this.options.put(JsonResource.OPTION_JSON_RESSOURCE_PROCESSOR, new JsonResource.IJsonResourceProcessor.NoOp() {
+            @Override
+            public void postSerialization(JsonResource jsonResource, JsonObject jsonObject) {
+                jsonObject.add("migration", new JsonPrimitive("1.0")); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        });
+        String expected = this.save();
+
+        this.options.put(JsonResource.OPTION_STREAMING_SAVE, Boolean.TRUE);
+        String json = this.save();
+
+        Assert.assertEquals(expected, json);
+        JsonObject jsonRoot = JsonParser.parseString(json).getAsJsonObject();
+        Assert.assertEquals(List.of("json", "ns", "migration", "schemaLocation", "content"), new ArrayList<>(jsonRoot.keySet())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+        Assert.assertEquals(List.of("extlib", "nodes"), new ArrayList<>(jsonRoot.getAsJsonObject("ns").keySet())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        Map<String, String> schemaLocations = new HashMap<>();
+        schemaLocations.put("http:///org/eclipse/emf/examples/library/extlibrary.ecore/1.0.0", "../references/noncontainment/extlibrary.ecore"); //$NON-NLS-1$ //$NON-NLS-2$
+        schemaLocations.put("http://www.obeo.fr/EMFJson", "../../nodes.ecore"); //$NON-NLS-1$ //$NON-NLS-2$
+        List<String> nsURIs = new ArrayList<>();
+        jsonRoot.getAsJsonObject("schemaLocation").entrySet().forEach(entry -> { //$NON-NLS-1$
+            nsURIs.add(entry.getKey());
+            Assert.assertEquals(schemaLocations.get(entry.getKey()), entry.getValue().getAsString());
+        });
+        Assert.assertEquals(List.of("http:///org/eclipse/emf/examples/library/extlibrary.ecore/1.0.0", "http://www.obeo.fr/EMFJson"), nsURIs); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Checks that the listener receives {@link JsonNull#INSTANCE} for the objects which are not Ecore elements with
+     * the streaming save, and their serialization with the regular save, the Ecore elements being serialized the same
+     * way by both.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    @Test
+    public void testListenerSerializations() throws IOException {
+        List<EObject> eObjects = new ArrayList<>();
+        List<JsonElement> jsonElements = new ArrayList<>();
+        this.options.put(JsonResource.OPTION_SERIALIZATION_LISTENER, new JsonResource.ISerializationListener.NoOp() {
+            @Override
+            public void onObjectSerialized(EObject eObject, JsonElement jsonElement) {
+                eObjects.add(eObject);
+                jsonElements.add(jsonElement);
+            }
+        });
+
+        this.save();
+        Assert.assertEquals(this.resource.getContents(), eObjects);
+        Assert.assertTrue(jsonElements.stream().allMatch(JsonElement::isJsonObject));
+        JsonElement eAnnotationElement = jsonElements.get(2);
+
+        eObjects.clear();
+        jsonElements.clear();
+        this.options.put(JsonResource.OPTION_STREAMING_SAVE, Boolean.TRUE);
+        this.save();
+        Assert.assertEquals(this.resource.getContents(), eObjects);
+        Assert.assertSame(JsonNull.INSTANCE, jsonElements.get(0));
+        Assert.assertSame(JsonNull.INSTANCE, jsonElements.get(1));
+        Assert.assertEquals(eAnnotationElement, jsonElements.get(2));
+    }
+
+    /**
+     * Saves the resource with the options.
+     *
+     * @return the document
+     * @throws IOException
+     *             if the resource cannot be saved
+     */
+    private String save() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.resource.save(outputStream, this.options);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.emfjson.utils.JsonHelper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Tests the URI fragments computed for the objects referenced during the save.
+ *
+ * @author Obeo
+ */
+public class URIFragmentsSaveTests {
+
+    /**
+     * The depth of the created packages.
+     */
+    private static final int DEPTH = 5;
+
+    /**
+     * The number of classes in each package.
+     */
+    private static final int CLASS_COUNT = 3;
+
+    /**
+     * Checks that the path based URI fragments computed by the helper are the same as the ones of the resource, in
+     * whatever order they are computed and once the objects have been moved.
+     */
+    @Test
+    public void testPathFragments() {
+        JsonResource resource = this.createResource();
+        JsonHelper helper = new JsonHelper(resource);
+
+        List<EObject> eObjects = new ArrayList<>();
+        resource.getAllContents().forEachRemaining(eObjects::add);
+        Collections.reverse(eObjects);
+        this.assertFragments(resource, helper, eObjects);
+        Collections.reverse(eObjects);
+        this.assertFragments(resource, helper, eObjects);
+
+        EPackage ePackage = (EPackage) resource.getContents().get(0);
+        EPackage eSubpackage = ePackage.getESubpackages().get(0);
+        ((EPackage) resource.getContents().get(1)).getESubpackages().add(eSubpackage);
+        ePackage.getEClassifiers().move(0, CLASS_COUNT - 1);
+        helper.clearURICaches();
+
+        eObjects.clear();
+        resource.getAllContents().forEachRemaining(eObjects::add);
+        this.assertFragments(resource, helper, eObjects);
+    }
+
+    /**
+     * Checks that many references to the same objects are saved and loaded back.
+     *
+     * @throws IOException
+     *             if the resource cannot be saved or loaded
+     */
+    @Test
+    public void testReferencesToSameObjects() throws IOException {
+        JsonResource resource = this.createResource();
+        List<EClass> eClasses = new ArrayList<>();
+        resource.getAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof EClass eClass) {
+                eClasses.add(eClass);
+            }
+        });
+        EClass referencedEClass = eClasses.get(eClasses.size() - 1);
+        for (EClass eClass : eClasses) {
+            if (eClass != referencedEClass) {
+                eClass.getESuperTypes().add(referencedEClass);
+            }
+        }
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_FORCE_DEFAULT_REFERENCE_SERIALIZATION, Boolean.TRUE);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, options);
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource loadedResource = new JsonResourceImpl(URI.createURI("fragments.json"), new HashMap<>()); //$NON-NLS-1$
+        resourceSet.getResources().add(loadedResource);
+        loadedResource.load(new ByteArrayInputStream(outputStream.toByteArray()), new HashMap<>());
+
+        List<EClass> loadedEClasses = new ArrayList<>();
+        loadedResource.getAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof EClass eClass) {
+                loadedEClasses.add(eClass);
+            }
+        });
+        Assert.assertEquals(eClasses.size(), loadedEClasses.size());
+        EClass loadedReferencedEClass = loadedEClasses.get(loadedEClasses.size() - 1);
+        for (EClass loadedEClass : loadedEClasses) {
+            if (loadedEClass != loadedReferencedEClass) {
+                Assert.assertEquals(List.of(loadedReferencedEClass), loadedEClass.getESuperTypes());
+            }
+        }
+    }
+
+    /**
+     * Checks that the caches of a custom helper are cleared when the save fails, with and without
+     * {@link JsonResource#OPTION_STREAMING_SAVE}.
+     */
+    @Test
+    public void testFailedSaveClearsCaches() {
+        for (Boolean isStreaming : List.of(Boolean.FALSE, Boolean.TRUE)) {
+            JsonResource resource = this.createResource();
+            int[] clearCount = new int[1];
+            JsonHelper helper = new JsonHelper(resource) {
+                @Override
+                public void clearURICaches() {
+                    clearCount[0]++;
+                    super.clearURICaches();
+                }
+            };
+            JsonResource.IJsonResourceProcessor jsonResourceProcessor = new JsonResource.IJsonResourceProcessor.NoOp() {
+                @Override
+                public void postSerialization(JsonResource jsonResource, JsonObject jsonObject) {
+                    throw new IllegalStateException();
+                }
+            };
+
+            Map<Object, Object> options = new HashMap<>();
+            options.put(JsonResource.OPTION_CUSTOM_HELPER, helper);
+            options.put(JsonResource.OPTION_JSON_RESSOURCE_PROCESSOR, jsonResourceProcessor);
+            options.put(JsonResource.OPTION_STREAMING_SAVE, isStreaming);
+            Assert.assertThrows(IllegalStateException.class, () -> resource.save(new ByteArrayOutputStream(), options));
+            Assert.assertEquals(1, clearCount[0]);
+        }
+    }
+
+    /**
+     * Creates a resource with two root packages containing nested packages and classes.
+     *
+     * @return The created resource
+     */
+    private JsonResource createResource() {
+        JsonResource resource = new JsonResourceImpl(URI.createURI("fragments.json"), new HashMap<>()); //$NON-NLS-1$
+        for (int i = 0; i < 2; i++) {
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackage.setName("package" + i); //$NON-NLS-1$
+            EPackage container = ePackage;
+            for (int depth = 0; depth < DEPTH; depth++) {
+                for (int j = 0; j < CLASS_COUNT; j++) {
+                    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+                    eClass.setName("Class" + i + "_" + depth + "_" + j); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    container.getEClassifiers().add(eClass);
+                }
+                EPackage eSubpackage = EcoreFactory.eINSTANCE.createEPackage();
+                eSubpackage.setName("subpackage" + i + "_" + depth); //$NON-NLS-1$ //$NON-NLS-2$
+                container.getESubpackages().add(eSubpackage);
+                container = eSubpackage;
+            }
+            resource.getContents().add(ePackage);
+        }
+        return resource;
+    }
+
+    /**
+     * Asserts that the URI fragments and IDREFs computed by the helper for the given objects are the URI fragments
+     * computed by the resource.
+     *
+     * @param resource
+     *            the resource
+     * @param helper
+     *            the helper of the resource
+     * @param eObjects
+     *            the objects of the resource
+     */
+    private void assertFragments(JsonResource resource, JsonHelper helper, List<EObject> eObjects) {
+        for (EObject eObject : eObjects) {
+            String fragment = resource.getURIFragment(eObject);
+            Assert.assertEquals(fragment, helper.getURIFragment(eObject));
+            Assert.assertEquals(fragment, helper.getIDREF(eObject));
+            Assert.assertSame(eObject, resource.getEObject(fragment));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.emfjson.tests.internal.unit.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.sirius.emfjson.utils.Utf8Writer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the encoding of the characters by {@link Utf8Writer}, which should be the same as the one of an
+ * {@link OutputStreamWriter}.
+ *
+ * @author Obeo
+ */
+public class Utf8WriterTests {
+
+    /**
+     * Checks the encoding of characters encoded in one, two and three bytes.
+     *
+     * @throws IOException
+     *             if the characters cannot be written
+     */
+    @Test
+    public void testCharacters() throws IOException {
+        this.assertEncoding("name", "éè ß", "€ 中文", "\u0000\u007f\u0080߿ࠀ￿"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    /**
+     * Checks the encoding of the surrogate pairs, including the ones split between two writes.
+     *
+     * @throws IOException
+     *             if the characters cannot be written
+     */
+    @Test
+    public void testSurrogatePairs() throws IOException {
+        this.assertEncoding("a😀b", "\ud83d", "\ude00", "􏿿"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    /**
+     * Checks that the malformed surrogate pairs are replaced.
+     *
+     * @throws IOException
+     *             if the characters cannot be written
+     */
+    @Test
+    public void testMalformedSurrogatePairs() throws IOException {
+        this.assertEncoding("a\ude00b", "\ud83dc", "\ud83d😀", "\ud83d"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    /**
+     * Checks the encoding of characters larger than the buffer, by several writers reusing the same buffer.
+     *
+     * @throws IOException
+     *             if the characters cannot be written
+     */
+    @Test
+    public void testLargeContent() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append(i).append(" é€😀"); //$NON-NLS-1$
+        }
+        for (int i = 0; i < 3; i++) {
+            this.assertEncoding(builder.toString());
+        }
+    }
+
+    /**
+     * Checks that a closed writer cannot be used anymore.
+     *
+     * @throws IOException
+     *             if the writer cannot be closed
+     */
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        Writer writer = new Utf8Writer(new ByteArrayOutputStream());
+        writer.close();
+        writer.close();
+        try {
+            writer.write("a"); //$NON-NLS-1$
+            Assert.fail("A closed writer should not be used"); //$NON-NLS-1$
+        } catch (IOException exception) {
+            Assert.assertNotNull(exception.getMessage());
+        }
+    }
+
+    /**
+     * Writes the given strings with a {@link Utf8Writer} and with an {@link OutputStreamWriter} and checks that the
+     * same bytes are written.
+     *
+     * @param strings
+     *            the strings to write one after another
+     * @throws IOException
+     *             if the strings cannot be written
+     */
+    private void assertEncoding(String... strings) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(expected, StandardCharsets.UTF_8)) {
+            for (String string : strings) {
+                writer.write(string);
+            }
+        }
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (Writer writer = new Utf8Writer(actual)) {
+            for (String string : strings) {
+                writer.write(string);
+            }
+        }
+        Assert.assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+}
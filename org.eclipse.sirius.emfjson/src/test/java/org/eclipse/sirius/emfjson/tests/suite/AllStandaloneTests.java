@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Obeo.
+ * Copyright (c) 2020, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.emfjson.tests.suite;
 
+import org.eclipse.sirius.emfjson.tests.internal.StreamingTests;
 import org.eclipse.sirius.emfjson.tests.internal.integration.JsonSerializationAPITests;
 import org.eclipse.sirius.emfjson.tests.internal.integration.SerializeCommonObjectWithResourceAsAttribute;
 import org.eclipse.sirius.emfjson.tests.internal.integration.StandaloneIntegrationTests;
@@ -26,23 +27,42 @@ import org.eclipse.sirius.emfjson.tests.internal.unit.load.ContainmentReferences
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.DataTypeLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.DeserializeOptionsTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.EnumerationsLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.FlightRecorderEventsTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.ForwardReferencesLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.JsonHelperDataLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.MemoryMappedLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.MetamodelCacheClassLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.MetamodelCacheTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.MetricsTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.NonContainmentReferencesLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.OperationLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.ParallelDeserializationTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.ParallelLoadTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.load.StreamingLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.SubPackageLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.load.TypeParametersLoadTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.AnnotationSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.AttributesSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.BinaryFormatTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.ClassSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.CompressionTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.ContainmentReferencesSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.DataTypeSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.EnumerationsSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.ExtendedMetaDataTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.MetamodelCacheClassSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.NonContainmentReferencesSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.OperationsSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.ParallelSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.ParallelSerializationTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.RootObjectsSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.SerializationPlanCacheClassSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.SerializeOptionsTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.StreamingSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.SubPackageSaveTests;
 import org.eclipse.sirius.emfjson.tests.internal.unit.save.TypeParametersSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.URIFragmentsSaveTests;
+import org.eclipse.sirius.emfjson.tests.internal.unit.save.Utf8WriterTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -62,7 +82,10 @@ import junit.textui.TestRunner;
         TypeParametersSaveTests.class, StandaloneIntegrationTests.class, AnnotationLoadTests.class, AttributesLoadTests.class, ClassLoadTests.class, DataTypeLoadTests.class,
         EnumerationsLoadTests.class, OperationLoadTests.class, ContainmentReferencesLoadTests.class, NonContainmentReferencesLoadTests.class, DeserializeOptionsTests.class, SubPackageLoadTests.class,
         TypeParametersLoadTests.class, EObjectHandlerTests.class, SchemaLocationTests.class, JsonSerializationAPITests.class, SerializeCommonObjectWithResourceAsAttribute.class,
-        IDManagerOptionsTests.class, RemoveObjectTests.class })
+        IDManagerOptionsTests.class, RemoveObjectTests.class, StreamingTests.class, StreamingLoadTests.class, StreamingSaveTests.class,
+        ForwardReferencesLoadTests.class,
+        SerializationPlanCacheClassSaveTests.class, MetamodelCacheClassLoadTests.class, MetamodelCacheClassSaveTests.class,
+        ParallelSaveTests.class, ParallelLoadTests.class, RootObjectsSaveTests.class, URIFragmentsSaveTests.class, BinaryFormatTests.class, CompressionTests.class, Utf8WriterTests.class, MemoryMappedLoadTests.class, ParallelSerializationTests.class, ParallelDeserializationTests.class, MetricsTests.class, FlightRecorderEventsTests.class, MetamodelCacheTests.class })
 public final class AllStandaloneTests {
 
     /**